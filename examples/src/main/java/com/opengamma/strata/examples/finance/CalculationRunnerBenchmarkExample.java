@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.examples.finance;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.joda.beans.ser.JodaBeanSer;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.CalculationRunner;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.runner.CalculationFunctions;
+import com.opengamma.strata.calc.runner.CalculationTaskRunner;
+import com.opengamma.strata.collect.Unchecked;
+import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.examples.marketdata.ExampleMarketData;
+import com.opengamma.strata.examples.marketdata.ExampleMarketDataBuilder;
+import com.opengamma.strata.examples.report.TradeList;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.StandardComponents;
+import com.opengamma.strata.product.Trade;
+
+/**
+ * Example comparing the run time of the fixed-pool and virtual thread calculation runners.
+ * <p>
+ * The example swap portfolio is replicated to produce a larger portfolio, which is then
+ * calculated repeatedly by each runner. The average time of each calculation is printed.
+ * <p>
+ * An optional argument specifies the maximum concurrency of the virtual thread runner,
+ * which defaults to the number of available processors.
+ * If the Java runtime does not support virtual threads, that runner uses a pool of platform threads
+ * instead, which is reported in the output.
+ */
+public class CalculationRunnerBenchmarkExample {
+
+  /**
+   * The location of the example swap portfolio.
+   */
+  private static final String SWAP_PORTFOLIO_XML = "example-portfolios/swap-portfolio.xml";
+  /**
+   * The number of copies of the example portfolio to calculate.
+   */
+  private static final int PORTFOLIO_COPIES = 20;
+  /**
+   * The number of calculations performed before timing starts.
+   */
+  private static final int WARMUP_RUNS = 5;
+  /**
+   * The number of timed calculations.
+   */
+  private static final int TIMED_RUNS = 10;
+
+  /**
+   * Runs the example, printing the average time taken by each runner.
+   *
+   * @param args  the optional maximum concurrency of the virtual thread runner
+   */
+  public static void main(String[] args) {
+    int maxConcurrency = (args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors());
+
+    // the trades that will have measures calculated
+    List<Trade> trades = loadTrades();
+
+    // the columns, specifying the measures to be calculated
+    List<Column> columns = ImmutableList.of(
+        Column.of(Measures.PRESENT_VALUE),
+        Column.of(Measures.PV01_CALIBRATED_SUM),
+        Column.of(Measures.PAR_RATE),
+        Column.of(Measures.PV01_CALIBRATED_BUCKETED));
+
+    // use the built-in example market data
+    LocalDate valuationDate = LocalDate.of(2014, 1, 22);
+    ExampleMarketDataBuilder marketDataBuilder = ExampleMarketData.builder();
+    MarketData marketData = marketDataBuilder.buildSnapshot(valuationDate);
+
+    // the complete set of rules for calculating measures
+    CalculationFunctions functions = StandardComponents.calculationFunctions();
+    CalculationRules rules = CalculationRules.of(functions, marketDataBuilder.ratesLookup(valuationDate));
+    ReferenceData refData = ReferenceData.standard();
+
+    System.out.println("Trades: " + trades.size() + ", columns: " + columns.size());
+    benchmark("Fixed pool", CalculationRunner::ofMultiThreaded, rules, trades, columns, marketData, refData);
+    String virtualName = CalculationTaskRunner.isVirtualThreadSupported() ?
+        "Virtual threads (max " + maxConcurrency + ")" :
+        "Platform thread pool (size " + maxConcurrency + "), virtual threads not supported by this runtime";
+    benchmark(
+        virtualName,
+        () -> CalculationRunner.ofVirtualThreads(maxConcurrency),
+        rules,
+        trades,
+        columns,
+        marketData,
+        refData);
+  }
+
+  // calculates the trades repeatedly, printing the average time
+  private static void benchmark(
+      String name,
+      Supplier<CalculationRunner> runnerSupplier,
+      CalculationRules rules,
+      List<Trade> trades,
+      List<Column> columns,
+      MarketData marketData,
+      ReferenceData refData) {
+
+    try (CalculationRunner runner = runnerSupplier.get()) {
+      for (int i = 0; i < WARMUP_RUNS; i++) {
+        runner.calculate(rules, trades, columns, marketData, refData);
+      }
+      long start = System.nanoTime();
+      for (int i = 0; i < TIMED_RUNS; i++) {
+        runner.calculate(rules, trades, columns, marketData, refData);
+      }
+      long averageMicros = (System.nanoTime() - start) / TIMED_RUNS / 1000;
+      System.out.println(name + ": " + averageMicros + "us per calculation");
+    }
+  }
+
+  // loads the example swap portfolio, replicating it to produce a larger portfolio
+  private static List<Trade> loadTrades() {
+    String xml = Unchecked.wrap(() -> ResourceLocator.ofClasspath(SWAP_PORTFOLIO_XML).getCharSource().read());
+    List<Trade> portfolio = JodaBeanSer.COMPACT.xmlReader().read(xml, TradeList.class).getTrades();
+    List<Trade> trades = new ArrayList<>(portfolio.size() * PORTFOLIO_COPIES);
+    for (int i = 0; i < PORTFOLIO_COPIES; i++) {
+      trades.addAll(portfolio);
+    }
+    return trades;
+  }
+
+}
@@ -7,8 +7,11 @@ package com.opengamma.strata.basics.date;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.Set;
 
 import org.joda.beans.Bean;
@@ -24,6 +27,12 @@ import org.joda.beans.impl.direct.DirectMetaBean;
 import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
 /**
  * A holiday calendar implementation that combines two other calendars.
  * <p>
@@ -31,6 +40,9 @@ import org.joda.beans.impl.direct.DirectMetaPropertyMap;
  * A date is a holiday if either calendar defines it as a holiday.
  * <p>
  * This implementation is intended for short-lived queries.
+ * When both underlying calendars are instances of {@link ImmutableHolidayCalendar}, the methods
+ * {@link #shift(LocalDate, int)} and {@link #daysBetween(LocalDate, LocalDate)} use the business day index
+ * of a flattened calendar, which is obtained on first use from a cache shared with {@link HolidayCalendarId}.
  * To combine two calendars for the long-term, such as in a static constant,
  * see {@link ImmutableHolidayCalendar#combined(ImmutableHolidayCalendar, ImmutableHolidayCalendar)}.
  */
@@ -48,6 +60,93 @@ final class CombinedHolidayCalendar
    */
   @PropertyDefinition(validate = "notNull")
   private final HolidayCalendar calendar2;
+  /**
+   * The flattened form of this calendar, empty if it cannot be flattened, built on first use.
+   */
+  private transient volatile Optional<ImmutableHolidayCalendar> flattened;
+
+  /**
+   * The maximum number of flattened calendars to retain.
+   */
+  private static final int MAX_FLATTENED = 1000;
+  /**
+   * The flattened calendars, keyed by the identifier of the combination.
+   * The cache is global, allowing the same flattened calendar to be shared by all users of a combination.
+   */
+  private static final Cache<HolidayCalendarId, Flattened> FLATTENED =
+      CacheBuilder.newBuilder().maximumSize(MAX_FLATTENED).build();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Combines a list of calendars, using a shared flattened calendar where possible.
+   * <p>
+   * If all the calendars are instances of {@link ImmutableHolidayCalendar}, or combinations of them,
+   * the result is a single {@code ImmutableHolidayCalendar} using one bitmask for all the calendars.
+   * The flattened calendar is cached, keyed by the identifier, and is returned for subsequent calls
+   * until one of the underlying calendars is replaced, such as by a reference data update.
+   * Otherwise, the calendars are combined using {@link HolidayCalendar#combinedWith(HolidayCalendar)}.
+   *
+   * @param id  the identifier of the combined calendar
+   * @param calendars  the calendars to combine
+   * @return the combined calendar
+   */
+  static HolidayCalendar combined(HolidayCalendarId id, List<HolidayCalendar> calendars) {
+    if (calendars.size() > 1) {
+      Optional<ImmutableHolidayCalendar> flat = flattened(id, calendars);
+      if (flat.isPresent()) {
+        return flat.get();
+      }
+    }
+    HolidayCalendar cal = HolidayCalendars.NO_HOLIDAYS;
+    for (HolidayCalendar calendar : calendars) {
+      cal = cal.combinedWith(calendar);
+    }
+    return cal;
+  }
+
+  // finds or creates the flattened form of the calendars, empty if any calendar cannot be flattened
+  private static Optional<ImmutableHolidayCalendar> flattened(HolidayCalendarId id, List<HolidayCalendar> calendars) {
+    List<ImmutableHolidayCalendar> underlying = new ArrayList<>();
+    for (HolidayCalendar calendar : calendars) {
+      if (!addUnderlying(calendar, underlying)) {
+        return Optional.empty();
+      }
+    }
+    Flattened cached = FLATTENED.getIfPresent(id);
+    if (cached != null && cached.matches(underlying)) {
+      return Optional.of(cached.calendar);
+    }
+    ImmutableHolidayCalendar calendar = ImmutableHolidayCalendar.of(
+        id,
+        Iterables.concat(Lists.transform(underlying, ImmutableHolidayCalendar::getHolidays)),
+        Iterables.concat(Lists.transform(underlying, ImmutableHolidayCalendar::getWeekendDays)));
+    FLATTENED.put(id, new Flattened(underlying, calendar));
+    return Optional.of(calendar);
+  }
+
+  // adds the immutable calendars that make up the calendar, returning false if not possible
+  private static boolean addUnderlying(HolidayCalendar calendar, List<ImmutableHolidayCalendar> underlying) {
+    if (calendar instanceof ImmutableHolidayCalendar) {
+      underlying.add((ImmutableHolidayCalendar) calendar);
+      return true;
+    }
+    if (calendar instanceof CombinedHolidayCalendar) {
+      CombinedHolidayCalendar combined = (CombinedHolidayCalendar) calendar;
+      return addUnderlying(combined.calendar1, underlying) && addUnderlying(combined.calendar2, underlying);
+    }
+    return false;
+  }
+
+  // obtains a single immutable calendar equivalent to this calendar
+  // the race to initialize the field is benign, as the result is equivalent
+  private Optional<ImmutableHolidayCalendar> flattened() {
+    Optional<ImmutableHolidayCalendar> result = flattened;
+    if (result == null) {
+      result = flattened(getId(), ImmutableList.of(calendar1, calendar2));
+      flattened = result;
+    }
+    return result;
+  }
 
   //-------------------------------------------------------------------------
   @Override
@@ -60,11 +159,54 @@ final class CombinedHolidayCalendar
     return calendar1.isHoliday(date) || calendar2.isHoliday(date);
   }
 
+  @Override
+  public LocalDate shift(LocalDate date, int amount) {
+    Optional<ImmutableHolidayCalendar> flat = flattened();
+    return flat.isPresent() ? flat.get().shift(date, amount) : HolidayCalendar.super.shift(date, amount);
+  }
+
+  @Override
+  public int daysBetween(LocalDate startInclusive, LocalDate endExclusive) {
+    Optional<ImmutableHolidayCalendar> flat = flattened();
+    return flat.isPresent() ?
+        flat.get().daysBetween(startInclusive, endExclusive) :
+        HolidayCalendar.super.daysBetween(startInclusive, endExclusive);
+  }
+
   @Override
   public String toString() {
     return "HolidayCalendar[" + getName() + ']';
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * A flattened calendar together with the calendars it was built from.
+   */
+  private static final class Flattened {
+    private final List<ImmutableHolidayCalendar> underlying;
+    private final ImmutableHolidayCalendar calendar;
+
+    private Flattened(List<ImmutableHolidayCalendar> underlying, ImmutableHolidayCalendar calendar) {
+      this.underlying = underlying;
+      this.calendar = calendar;
+    }
+
+    // checks if the flattened calendar was built from the same calendar instances
+    // identity is used as calendar equality only compares the identifier
+    boolean matches(List<ImmutableHolidayCalendar> other) {
+      return containsAll(underlying, other) && containsAll(other, underlying);
+    }
+
+    private static boolean containsAll(List<ImmutableHolidayCalendar> list, List<ImmutableHolidayCalendar> required) {
+      for (ImmutableHolidayCalendar calendar : required) {
+        if (list.stream().noneMatch(cal -> cal == calendar)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
   //------------------------- AUTOGENERATED START -------------------------
   ///CLOVER:OFF
   /**
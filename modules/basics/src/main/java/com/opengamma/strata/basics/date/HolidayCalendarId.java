@@ -9,6 +9,7 @@ import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
@@ -68,6 +69,8 @@ public final class HolidayCalendarId
    * It is possible to combine two or more calendars using the '+' symbol.
    * For example, 'GBLO+USNY' will combine the separate 'GBLO' and 'USNY' calendars.
    * The resulting identifier will have the individual identifiers normalized into alphabetical order.
+   * When resolved, a combination of {@link ImmutableHolidayCalendar} instances is flattened into a single
+   * calendar that is cached and shared by all users of the combination.
    * 
    * @param uniqueName  the unique name
    * @return the identifier
@@ -98,16 +101,17 @@ public final class HolidayCalendarId
       if (cal != null) {
         return cal;
       }
-      cal = HolidayCalendars.NO_HOLIDAYS;
+      List<HolidayCalendar> splitCals = new ArrayList<>(ids.size());
       for (HolidayCalendarId splitId : ids) {
         HolidayCalendar splitCal = refData.queryValueOrNull(splitId);
         if (splitCal == null) {
           throw new ReferenceDataNotFoundException(Messages.format(
               "Reference data not found for '{}' of type 'HolidayCalendarId' when finding '{}'", splitId, id));
         }
-        cal = cal.combinedWith(splitCal);
+        splitCals.add(splitCal);
       }
-      return cal;
+      // the combination is flattened and shared where possible
+      return CombinedHolidayCalendar.combined(id, splitCals);
     };
     // cache under the normalized and non-normalized names
     HolidayCalendarId id = CACHE.computeIfAbsent(normalizedName, n -> new HolidayCalendarId(normalizedName, resolver));
@@ -57,6 +57,9 @@ public final class ImmutableHolidayCalendar
   // each bit within the int represents a date, where 0 is a holiday and 1 is a business day
   // (most logic involves finding business days, finding 1 is easier than finding 0
   // when using Integer.numberOfTrailingZeros and Integer.numberOfLeadingZeros)
+  // a second int array holds the number of business days before the start of each month
+  // this business day index allows daysBetween() to be calculated with two lookups
+  // and shift() to find the target month directly rather than looping day by day
   // benchmarking showed nextOrSame() and previousOrSame() do not need to be overridden
   // out-of-range and weekend-only (used in testing) are handled using exceptions to fast-path the common case
 
@@ -90,6 +93,12 @@ public final class ImmutableHolidayCalendar
    * Trailing bits are set to 0 so they act as holidays, avoiding month length logic.
    */
   private final int[] lookup;
+  /**
+   * The business day index, where each item is the number of business days before the month
+   * at the same position in the lookup table, counting from January of startYear.
+   * The array has one more item than the lookup table, holding the total number of business days.
+   */
+  private final int[] ordinals;
 
   //-------------------------------------------------------------------------
   /**
@@ -178,6 +187,7 @@ public final class ImmutableHolidayCalendar
       int endYearExclusive = holidays.last().getYear() + 1;
       this.lookup = buildLookupArray(holidays, weekendDays, startYear, endYearExclusive);
     }
+    this.ordinals = buildOrdinalArray(lookup);
   }
 
   // create and populate the int[] lookup
@@ -215,6 +225,16 @@ public final class ImmutableHolidayCalendar
     return array;
   }
 
+  // create and populate the int[] business day index
+  // each entry is the cumulative count of the business days in the earlier months
+  private static int[] buildOrdinalArray(int[] lookup) {
+    int[] array = new int[lookup.length + 1];
+    for (int i = 0; i < lookup.length; i++) {
+      array[i + 1] = array[i] + Integer.bitCount(lookup[i]);
+    }
+    return array;
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public boolean isHoliday(LocalDate date) {
@@ -241,20 +261,60 @@ public final class ImmutableHolidayCalendar
   @Override
   public LocalDate shift(LocalDate date, int amount) {
     try {
-      if (amount > 0) {
-        // day-of-month: minus one for zero-based day-of-month, plus one to start from next day
-        return shiftNext(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), amount);
-      } else if (amount < 0) {
-        // day-of-month: minus one to start from previous day
-        return shiftPrev(date.getYear(), date.getMonthValue(), date.getDayOfMonth() - 1, amount);
+      if (amount == 0) {
+        return date;
+      }
+      // find data for month
+      int index = (date.getYear() - startYear) * 12 + date.getMonthValue() - 1;
+      int monthData = lookup[index];
+      int dom0 = date.getDayOfMonth() - 1;
+      // the number of business days before the date
+      int ordinal = ordinals[index] + Integer.bitCount(monthData & ((1 << dom0) - 1));
+      // the ordinal of the target business day, the input date is counted if it is a business day and amount > 0
+      int target = amount > 0 ? ordinal + ((monthData >>> dom0) & 1) + amount - 1 : ordinal + amount;
+      if (target < 0 || target >= ordinals[lookup.length]) {
+        return shiftOutOfRange(date, amount);
       }
-      return date;
+      return businessDay(index, target);
 
     } catch (ArrayIndexOutOfBoundsException ex) {
       return shiftOutOfRange(date, amount);
     }
   }
 
+  // find the business day with the specified ordinal, which must be within the range of the lookup table
+  // the month is found by binary search, using the month of the base date to fast-path small shifts
+  private LocalDate businessDay(int baseIndex, int target) {
+    int low = 0;
+    int high = lookup.length - 1;
+    if (ordinals[baseIndex] <= target) {
+      low = baseIndex;
+    } else {
+      high = baseIndex - 1;
+    }
+    if (low < high && ordinals[low + 1] > target) {
+      high = low;
+    }
+    // find the last month starting on or before the target
+    // months without business days have the same ordinal as the following month, and are thus skipped
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (ordinals[mid] <= target) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    // clear the lowest set bits, one for each earlier business day in the month
+    int monthData = lookup[low];
+    for (int i = ordinals[low]; i < target; i++) {
+      monthData &= monthData - 1;
+    }
+    // use JDK numberOfTrailingZeros() method which is mapped to a fast intrinsic
+    int dom = Integer.numberOfTrailingZeros(monthData) + 1;
+    return LocalDate.of(startYear + low / 12, low % 12 + 1, dom);
+  }
+
   // pulled out to aid hotspot inlining
   private LocalDate shiftOutOfRange(LocalDate date, int amount) {
     if (date.getYear() >= 0 && date.getYear() < 10000) {
@@ -428,6 +488,31 @@ public final class ImmutableHolidayCalendar
     throw new IllegalArgumentException("Date is outside the accepted range (year 0000 to 10,000): " + date);
   }
 
+  //-------------------------------------------------------------------------
+  @Override
+  public int daysBetween(LocalDate startInclusive, LocalDate endExclusive) {
+    try {
+      // difference between the business day ordinals
+      return Math.max(ordinal(endExclusive) - ordinal(startInclusive), 0);
+
+    } catch (ArrayIndexOutOfBoundsException ex) {
+      return daysBetweenOutOfRange(startInclusive, endExclusive);
+    }
+  }
+
+  // the number of business days from the start of the lookup table to the date, exclusive
+  // the first day of the month after the end of the lookup table is accepted
+  private int ordinal(LocalDate date) {
+    int index = (date.getYear() - startYear) * 12 + date.getMonthValue() - 1;
+    int dom0 = date.getDayOfMonth() - 1;
+    return dom0 == 0 ? ordinals[index] : ordinals[index] + Integer.bitCount(lookup[index] & ((1 << dom0) - 1));
+  }
+
+  // pulled out to aid hotspot inlining
+  private int daysBetweenOutOfRange(LocalDate startInclusive, LocalDate endExclusive) {
+    return HolidayCalendar.super.daysBetween(startInclusive, endExclusive);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public boolean equals(Object obj) {
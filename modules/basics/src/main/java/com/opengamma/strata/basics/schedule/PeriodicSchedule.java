@@ -34,6 +34,7 @@ import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.date.AdjustableDate;
 import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.date.DateAdjuster;
 import com.opengamma.strata.collect.ArgChecker;
 
 /**
@@ -383,20 +384,35 @@ public final class PeriodicSchedule
    * If there are explicit stub dates then they will be used.
    * If the stub convention is present, then it will be validated against the stub dates.
    * If the stub convention and stub dates are not present, then no stubs are allowed.
+   * <p>
+   * The schedule is cached, keyed by this definition and the identity of the reference data,
+   * such that definitions that are equal share the same schedule.
    * 
    * @return the schedule
    * @param refData  the reference data, used to find the holiday calendars
    * @throws ScheduleException if the definition is invalid
    */
   public Schedule createSchedule(ReferenceData refData) {
+    return ScheduleCache.createSchedule(this, refData);
+  }
+
+  // creates the schedule without using the cache
+  Schedule createScheduleUncached(ReferenceData refData) {
     RollConvention rollConv = calculatedRollConvention();
     List<LocalDate> unadj = generateUnadjustedDates(rollConv);
-    List<LocalDate> adj = applyBusinessDayAdjustment(unadj, refData);
-    List<SchedulePeriod> periods = new ArrayList<>();
+    // resolve the holiday calendars once and create the periods directly, avoiding a list of adjusted dates
+    int last = unadj.size() - 1;
+    DateAdjuster startAdjuster = calculatedStartDate().getAdjustment().resolve(refData);
+    DateAdjuster adjuster = last > 1 ? businessDayAdjustment.resolve(refData) : null;
+    DateAdjuster endAdjuster = calculatedEndDate().getAdjustment().resolve(refData);
+    ImmutableList.Builder<SchedulePeriod> periods = ImmutableList.builder();
     try {
       // for performance, handle silly errors using exceptions
-      for (int i = 0; i < unadj.size() - 1; i++) {
-        periods.add(SchedulePeriod.of(adj.get(i), adj.get(i + 1), unadj.get(i), unadj.get(i + 1)));
+      LocalDate adjStart = startAdjuster.adjust(unadj.get(0));
+      for (int i = 0; i < last; i++) {
+        LocalDate adjEnd = (i + 1 == last ? endAdjuster : adjuster).adjust(unadj.get(i + 1));
+        periods.add(SchedulePeriod.of(adjStart, adjEnd, unadj.get(i), unadj.get(i + 1)));
+        adjStart = adjEnd;
       }
     } catch (IllegalArgumentException ex) {
       // check dates to throw a better exception for duplicate dates in schedule
@@ -408,7 +424,7 @@ public final class PeriodicSchedule
       throw se;
     }
     return Schedule.builder()
-        .periods(periods)
+        .periods(periods.build())
         .frequency(frequency)
         .rollConvention(rollConv)
         .build();
@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.schedule;
+
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.opengamma.strata.basics.ReferenceData;
+
+/**
+ * A global cache of schedules created from periodic schedule definitions.
+ * <p>
+ * Large portfolios of swaps are typically formed from a relatively small number of distinct schedules.
+ * This cache allows the schedule created for a definition to be shared by all trades using that definition.
+ * <p>
+ * Schedules are keyed by the {@link PeriodicSchedule} definition, using {@code equals} and {@code hashCode},
+ * and by the identity of the reference data used to adjust the dates.
+ * The reference data is held weakly, such that the schedules are discarded once the reference data is
+ * no longer in use. A new reference data instance, for example following a holiday calendar update,
+ * causes the schedules to be created again.
+ * <p>
+ * The number of schedules held for each reference data instance is bounded, with the least recently
+ * used schedules evicted when the maximum size is reached. Failures are not cached.
+ * This class is thread-safe.
+ */
+final class ScheduleCache {
+
+  /**
+   * The maximum number of schedules to hold for each reference data instance.
+   */
+  private static final int MAX_SIZE = 10_000;
+  /**
+   * The schedules, keyed by the reference data, compared by identity, then by definition.
+   */
+  private static final Cache<ReferenceData, Cache<PeriodicSchedule, Schedule>> CACHE =
+      CacheBuilder.newBuilder().weakKeys().build();
+
+  /**
+   * Restricted constructor.
+   */
+  private ScheduleCache() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the cached schedule for the definition, creating it if necessary.
+   *
+   * @param definition  the schedule definition
+   * @param refData  the reference data, used to find the holiday calendars
+   * @return the schedule
+   * @throws ScheduleException if the definition is invalid
+   */
+  static Schedule createSchedule(PeriodicSchedule definition, ReferenceData refData) {
+    Cache<PeriodicSchedule, Schedule> schedules = schedules(refData);
+    Schedule schedule = schedules.getIfPresent(definition);
+    if (schedule == null) {
+      // the race to create the schedule is benign, as the result is the same
+      schedule = definition.createScheduleUncached(refData);
+      schedules.put(definition, schedule);
+    }
+    return schedule;
+  }
+
+  // finds the schedules for the reference data
+  private static Cache<PeriodicSchedule, Schedule> schedules(ReferenceData refData) {
+    try {
+      return CACHE.get(refData, () -> CacheBuilder.newBuilder().maximumSize(MAX_SIZE).build());
+    } catch (UncheckedExecutionException | ExecutionException ex) {
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+}
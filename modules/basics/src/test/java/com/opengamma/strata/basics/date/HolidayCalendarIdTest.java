@@ -9,6 +9,8 @@ import static com.opengamma.strata.basics.date.HolidayCalendarIds.NO_HOLIDAYS;
 import static com.opengamma.strata.collect.TestHelper.assertSerialization;
 import static com.opengamma.strata.collect.TestHelper.assertThrows;
 import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
 
@@ -16,6 +18,7 @@ import java.time.LocalDate;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ImmutableReferenceData;
 import com.opengamma.strata.basics.ReferenceData;
@@ -86,6 +89,50 @@ public class HolidayCalendarIdTest {
     assertEquals(refData.getValue(combined), combinedCal);
   }
 
+  public void test_resolve_combined_flattened() {
+    HolidayCalendarId gb = HolidayCalendarId.of("GBF");
+    HolidayCalendarId eu = HolidayCalendarId.of("EUF");
+    HolidayCalendarId us = HolidayCalendarId.of("USF");
+    LocalDate gbHoliday = LocalDate.of(2016, 8, 29);
+    LocalDate euHoliday = LocalDate.of(2016, 8, 30);
+    LocalDate usHoliday = LocalDate.of(2016, 9, 5);
+    HolidayCalendar gbCal = ImmutableHolidayCalendar.of(gb, ImmutableList.of(gbHoliday), SATURDAY, SUNDAY);
+    HolidayCalendar euCal = ImmutableHolidayCalendar.of(eu, ImmutableList.of(euHoliday), SATURDAY, SUNDAY);
+    HolidayCalendar usCal = ImmutableHolidayCalendar.of(us, ImmutableList.of(usHoliday), SATURDAY, SUNDAY);
+    ReferenceData refData = ImmutableReferenceData.of(ImmutableMap.of(gb, gbCal, eu, euCal, us, usCal));
+    HolidayCalendarId combined = us.combinedWith(gb).combinedWith(eu);
+    HolidayCalendar test = combined.resolve(refData);
+    assertEquals(test instanceof ImmutableHolidayCalendar, true);
+    assertEquals(test.getId(), combined);
+    assertEquals(test.isHoliday(gbHoliday), true);
+    assertEquals(test.isHoliday(euHoliday), true);
+    assertEquals(test.isHoliday(usHoliday), true);
+    assertEquals(test.isHoliday(LocalDate.of(2016, 8, 31)), false);
+    assertEquals(test.isHoliday(LocalDate.of(2016, 9, 3)), true);
+    // shared while the underlying calendars are unchanged
+    assertSame(combined.resolve(refData), test);
+    ReferenceData refDataCopy = ImmutableReferenceData.of(ImmutableMap.of(gb, gbCal, eu, euCal, us, usCal));
+    assertSame(combined.resolve(refDataCopy), test);
+    // rebuilt when an underlying calendar is replaced
+    HolidayCalendar gbCal2 = ImmutableHolidayCalendar.of(gb, ImmutableList.of(), SATURDAY, SUNDAY);
+    ReferenceData refData2 = ImmutableReferenceData.of(ImmutableMap.of(gb, gbCal2, eu, euCal, us, usCal));
+    HolidayCalendar test2 = combined.resolve(refData2);
+    assertEquals(test2.isHoliday(gbHoliday), false);
+    assertEquals(test2.isHoliday(euHoliday), true);
+  }
+
+  public void test_resolve_combined_notFlattened() {
+    HolidayCalendarId gb = HolidayCalendarId.of("GBN");
+    HolidayCalendar gbCal = ImmutableHolidayCalendar.of(gb, ImmutableList.of(LocalDate.of(2016, 8, 29)), SATURDAY, SUNDAY);
+    HolidayCalendarId eu = HolidayCalendarId.of("EUN");
+    HolidayCalendar euCal = HolidayCalendars.FRI_SAT;
+    ReferenceData refData = ImmutableReferenceData.of(ImmutableMap.of(gb, gbCal, eu, euCal));
+    HolidayCalendar test = gb.combinedWith(eu).resolve(refData);
+    assertEquals(test, euCal.combinedWith(gbCal));
+    assertEquals(test.shift(LocalDate.of(2016, 8, 25), 1), LocalDate.of(2016, 8, 30));
+    assertEquals(test.daysBetween(LocalDate.of(2016, 8, 25), LocalDate.of(2016, 9, 1)), 3);
+  }
+
   @Test
   public void testImmutableReferenceDataWithMergedHolidays() {
     HolidayCalendar hc = HolidayCalendars.FRI_SAT.combinedWith(HolidayCalendars.SAT_SUN);
@@ -751,6 +751,15 @@ public class ImmutableHolidayCalendarTest {
     assertEquals(HOLCAL_MON_WED.daysBetween(start, end), expected);
   }
 
+  public void test_daysBetween_range() {
+    assertEquals(HOLCAL_MON_WED.daysBetween(date(2013, 12, 30), date(2014, 1, 3)), 4);
+    assertEquals(HOLCAL_MON_WED.daysBetween(date(2014, 12, 29), date(2015, 1, 2)), 4);
+    assertEquals(HOLCAL_MON_WED.daysBetween(date(2014, 7, 1), date(2015, 1, 1)), 130);
+    assertEquals(HOLCAL_MON_WED.daysBetween(TUE_2014_07_22, FRI_2014_07_11), 0);
+    assertEquals(HOLCAL_SAT_SUN.daysBetween(FRI_2014_07_11, TUE_2014_07_22), 7);
+    assertThrowsIllegalArg(() -> HOLCAL_MON_WED.daysBetween(LocalDate.MIN, date(2014, 1, 1)));
+  }
+
   //-------------------------------------------------------------------------
   public void test_combinedWith() {
     Iterable<LocalDate> holidays1 = Arrays.asList(WED_2014_07_16);
@@ -772,6 +781,14 @@ public class ImmutableHolidayCalendarTest {
     assertEquals(test.isHoliday(SAT_2014_07_19), true);
     assertEquals(test.isHoliday(SUN_2014_07_20), true);
     assertEquals(test.isHoliday(MON_2014_07_21), false);
+
+    // uses the business day index of the flattened calendar
+    assertEquals(test.shift(THU_2014_07_10, 1), TUE_2014_07_15);
+    assertEquals(test.shift(MON_2014_07_21, -3), THU_2014_07_10);
+    assertEquals(test.daysBetween(THU_2014_07_10, MON_2014_07_21), 3);
+    HolidayCalendar test3 = test.combinedWith(HolidayCalendars.FRI_SAT);
+    assertEquals(test3.shift(THU_2014_07_10, 1), TUE_2014_07_15);
+    assertEquals(test3.daysBetween(THU_2014_07_10, MON_2014_07_21), 3);
   }
 
   public void test_combineWith_same() {
@@ -833,6 +850,48 @@ public class ImmutableHolidayCalendarTest {
     }
   }
 
+  public void test_broadCheck_shiftAndDaysBetween() {
+    LocalDate start = LocalDate.of(2010, 1, 1);
+    LocalDate end = LocalDate.of(2020, 1, 1);
+    Random random = new Random(547698);
+    for (int i = 0; i < 10; i++) {
+      // create sample holiday dates, including a month without business days
+      LocalDate date = start;
+      SortedSet<LocalDate> set = new TreeSet<>();
+      while (date.isBefore(end)) {
+        set.add(date);
+        date = date.plusDays(random.nextInt(10) + 1);
+      }
+      LocalDate holidayMonth = LocalDate.of(2015, 3, 1);
+      while (holidayMonth.getMonthValue() == 3) {
+        set.add(holidayMonth);
+        holidayMonth = holidayMonth.plusDays(1);
+      }
+      // check business day index against simple algorithm, including dates outside the range
+      ImmutableHolidayCalendar test = ImmutableHolidayCalendar.of(
+          HolidayCalendarId.of("TestBroad" + i), set, SATURDAY, SUNDAY);
+      for (int j = 0; j < 500; j++) {
+        LocalDate checkDate = start.minusYears(1).plusDays(random.nextInt(12 * 366));
+        int amount = random.nextInt(1000) - 500;
+        LocalDate expected = checkDate;
+        for (int k = 0; k < Math.abs(amount); k++) {
+          expected = amount > 0 ? expected.plusDays(1) : expected.minusDays(1);
+          while (expected.getDayOfWeek() == SATURDAY || expected.getDayOfWeek() == SUNDAY || set.contains(expected)) {
+            expected = amount > 0 ? expected.plusDays(1) : expected.minusDays(1);
+          }
+        }
+        assertEquals(test.shift(checkDate, amount), expected);
+        LocalDate endDate = checkDate.plusDays(random.nextInt(1000));
+        int expectedDays = 0;
+        for (LocalDate day = checkDate; day.isBefore(endDate); day = day.plusDays(1)) {
+          DayOfWeek dow = day.getDayOfWeek();
+          expectedDays += (dow == SATURDAY || dow == SUNDAY || set.contains(day)) ? 0 : 1;
+        }
+        assertEquals(test.daysBetween(checkDate, endDate), expectedDays);
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   public void test_equals() {
     ImmutableHolidayCalendar a1 = ImmutableHolidayCalendar.of(TEST_ID, Arrays.asList(WED_2014_07_16), SATURDAY, SUNDAY);
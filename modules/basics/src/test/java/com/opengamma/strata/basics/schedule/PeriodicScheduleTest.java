@@ -44,6 +44,8 @@ import static java.time.Month.NOVEMBER;
 import static java.time.Month.OCTOBER;
 import static java.time.Month.SEPTEMBER;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -53,6 +55,7 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.date.AdjustableDate;
 import com.opengamma.strata.basics.date.BusinessDayAdjustment;
@@ -550,6 +553,41 @@ public class PeriodicScheduleTest {
     assertEquals(test.createAdjustedDates(REF_DATA), ImmutableList.of(date(2014, 10, 3), date(2015, 1, 5), date(2015, 4, 3)));
   }
 
+  public void test_createSchedule_startEndAdjust() {
+    BusinessDayAdjustment bda1 = BusinessDayAdjustment.of(PRECEDING, SAT_SUN);
+    BusinessDayAdjustment bda2 = BusinessDayAdjustment.of(MODIFIED_PRECEDING, SAT_SUN);
+    PeriodicSchedule test = PeriodicSchedule.builder()
+        .startDate(date(2014, 10, 4))
+        .endDate(date(2015, 4, 4))
+        .frequency(P3M)
+        .businessDayAdjustment(BDA)
+        .startDateBusinessDayAdjustment(bda1)
+        .endDateBusinessDayAdjustment(bda2)
+        .stubConvention(STUB_NONE)
+        .build();
+    Schedule schedule = test.createSchedule(REF_DATA);
+    assertEquals(schedule.size(), 2);
+    assertEquals(schedule.getPeriod(0), SchedulePeriod.of(
+        date(2014, 10, 3), date(2015, 1, 5), date(2014, 10, 4), date(2015, 1, 4)));
+    assertEquals(schedule.getPeriod(1), SchedulePeriod.of(
+        date(2015, 1, 5), date(2015, 4, 3), date(2015, 1, 4), date(2015, 4, 4)));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_createSchedule_cached() {
+    PeriodicSchedule defn1 = PeriodicSchedule.of(date(2014, 6, 4), date(2024, 6, 4), P3M, BDA, SHORT_INITIAL, false);
+    PeriodicSchedule defn2 = PeriodicSchedule.of(date(2014, 6, 4), date(2024, 6, 4), P3M, BDA, SHORT_INITIAL, false);
+    Schedule schedule = defn1.createSchedule(REF_DATA);
+    assertEquals(schedule.size(), 40);
+    assertSame(defn2.createSchedule(REF_DATA), schedule);
+    // cache is keyed by reference data identity
+    ReferenceData refData = ReferenceData.of(ImmutableMap.of());
+    Schedule other = defn2.createSchedule(refData);
+    assertNotSame(other, schedule);
+    assertEquals(other, schedule);
+    assertSame(defn1.createSchedule(refData), other);
+  }
+
   //-------------------------------------------------------------------------
   @Test(expectedExceptions = ScheduleException.class)
   public void test_none_badStub() {
@@ -0,0 +1,48 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks, reporting the allocation rate alongside the timings.
+ * <p>
+ * The standard JMH command line options are accepted, such as a regular expression to select
+ * the benchmarks, or {@code -rf json} to write the results in a machine readable form.
+ * The GC profiler is always added, thus the normalized allocation rate in bytes per operation
+ * is reported for each benchmark.
+ */
+public final class BenchmarkRunner {
+
+  /**
+   * Runs the benchmarks.
+   * 
+   * @param args  the JMH command line options
+   * @throws CommandLineOptionException if the options are invalid
+   * @throws RunnerException if the benchmarks fail
+   */
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+    Options options = new OptionsBuilder()
+        .parent(new CommandLineOptions(args))
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(options).run();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Restricted constructor.
+   */
+  private BenchmarkRunner() {
+  }
+
+}
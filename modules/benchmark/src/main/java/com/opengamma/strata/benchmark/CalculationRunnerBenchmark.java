@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.CalculationRunner;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.marketdata.MarketDataConfig;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.StandardComponents;
+import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.SwapTrade;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
+
+/**
+ * Benchmark for {@link CalculationRunner#calculateMultiScenario}.
+ * <p>
+ * A portfolio of USD swaps is calculated using curves calibrated to the example USD curve group.
+ * The calibration is performed once, thus the benchmark measures the calculation engine and pricers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CalculationRunnerBenchmark {
+
+  /**
+   * The number of trades in the portfolio.
+   */
+  private static final int TRADE_COUNT = 200;
+  /**
+   * The reference data.
+   */
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  /**
+   * The columns to calculate.
+   */
+  private static final List<Column> COLUMNS = ImmutableList.of(
+      Column.of(Measures.PRESENT_VALUE),
+      Column.of(Measures.PAR_RATE),
+      Column.of(Measures.PV01_CALIBRATED_SUM));
+
+  /**
+   * The number of scenarios.
+   */
+  @Param({"1", "20"})
+  private int scenarioCount;
+  /**
+   * The type of runner, matching the name of the factory method on {@code CalculationRunner}.
+   */
+  @Param({"ofMultiThreaded", "ofWorkStealing", "ofVirtualThreads"})
+  private String runnerType;
+  /**
+   * The runner.
+   */
+  private CalculationRunner runner;
+  /**
+   * The calculation rules.
+   */
+  private CalculationRules rules;
+  /**
+   * The trades.
+   */
+  private List<SwapTrade> trades;
+  /**
+   * The scenario market data.
+   */
+  private ScenarioMarketData marketData;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates the trades and calibrates the market data.
+   */
+  @Setup
+  public void setup() {
+    ExampleCurveGroup group = ExampleCurveGroup.USD;
+    LocalDate valuationDate = group.getValuationDate();
+    CurveGroupDefinition definition = group.loadDefinition(REF_DATA);
+
+    ImmutableList.Builder<SwapTrade> builder = ImmutableList.builder();
+    for (int i = 0; i < TRADE_COUNT; i++) {
+      builder.add(FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M.createTrade(
+          valuationDate, Tenor.ofYears(1 + i % 30), BuySell.BUY, 1_000_000d, 0.01 + i * 0.0001, REF_DATA));
+    }
+    trades = builder.build();
+
+    rules = CalculationRules.of(StandardComponents.calculationFunctions(), RatesMarketDataLookup.of(definition));
+    MarketDataConfig config = MarketDataConfig.builder()
+        .add(group.getGroupName(), definition)
+        .build();
+    MarketDataRequirements reqs = MarketDataRequirements.of(rules, trades, COLUMNS, REF_DATA);
+    MarketData calibrated = StandardComponents.marketDataFactory().create(reqs, config, group.loadQuotes(), REF_DATA);
+    marketData = ScenarioMarketData.of(scenarioCount, calibrated);
+    runner = createRunner(runnerType);
+  }
+
+  // creates the runner
+  private static CalculationRunner createRunner(String runnerType) {
+    switch (runnerType) {
+      case "ofWorkStealing":
+        return CalculationRunner.ofWorkStealing();
+      case "ofVirtualThreads":
+        return CalculationRunner.ofVirtualThreads(Runtime.getRuntime().availableProcessors());
+      default:
+        return CalculationRunner.ofMultiThreaded();
+    }
+  }
+
+  /**
+   * Closes the runner.
+   */
+  @TearDown
+  public void tearDown() {
+    runner.close();
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public Results calculateMultiScenario() {
+    return runner.calculateMultiScenario(rules, trades, COLUMNS, marketData, REF_DATA);
+  }
+
+}
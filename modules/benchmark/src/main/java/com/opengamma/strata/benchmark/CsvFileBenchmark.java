@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.io.CharSource;
+import com.opengamma.strata.collect.Unchecked;
+import com.opengamma.strata.collect.io.CsvFile;
+
+/**
+ * Benchmark for {@link CsvFile}.
+ * <p>
+ * The example quotes file is held in memory and repeated to the requested number of rows,
+ * thus the benchmark measures parsing rather than file access.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvFileBenchmark {
+
+  /**
+   * The minimum number of data rows in the file.
+   */
+  @Param({"100", "10000"})
+  private int rows;
+  /**
+   * The source of the CSV file.
+   */
+  private CharSource source;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Loads the quotes file, repeating the data rows.
+   */
+  @Setup
+  public void setup() {
+    CharSource quotes = ExampleCurveGroup.USD.quotesResource().getCharSource();
+    List<String> lines = Unchecked.wrap(() -> quotes.readLines());
+    StringBuilder buf = new StringBuilder(lines.get(0)).append('\n');
+    int count = 0;
+    while (count < rows) {
+      for (String line : lines.subList(1, lines.size())) {
+        buf.append(line).append('\n');
+        count++;
+      }
+    }
+    source = CharSource.wrap(buf.toString());
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public CsvFile of() {
+    return CsvFile.of(source, true);
+  }
+
+}
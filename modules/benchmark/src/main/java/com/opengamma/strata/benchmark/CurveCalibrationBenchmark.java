@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.pricer.curve.CurveCalibrator;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+
+/**
+ * Benchmark for {@link CurveCalibrator}.
+ * <p>
+ * The example USD and EUR curve groups are calibrated to the example quotes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CurveCalibrationBenchmark {
+
+  /**
+   * The calibrator.
+   */
+  private static final CurveCalibrator CALIBRATOR = CurveCalibrator.standard();
+  /**
+   * The reference data.
+   */
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+
+  /**
+   * The curve group to calibrate.
+   */
+  @Param({"USD", "EUR"})
+  private ExampleCurveGroup group;
+  /**
+   * The curve group definition.
+   */
+  private CurveGroupDefinition definition;
+  /**
+   * The market data containing the quotes.
+   */
+  private MarketData quotes;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Loads the curve group definition and quotes.
+   */
+  @Setup
+  public void setup() {
+    definition = group.loadDefinition(REF_DATA);
+    quotes = group.loadQuotes();
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public ImmutableRatesProvider calibrate() {
+    return CALIBRATOR.calibrate(definition, quotes, REF_DATA);
+  }
+
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.time.LocalDate;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.loader.csv.QuotesCsvLoader;
+import com.opengamma.strata.loader.csv.RatesCalibrationCsvLoader;
+import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.market.curve.CurveGroupName;
+
+/**
+ * The example curve groups used by the benchmarks.
+ * <p>
+ * The configuration and quotes are those of the calibration examples.
+ */
+public enum ExampleCurveGroup {
+
+  /**
+   * The USD group, with curves for discounting and Fed Fund forward, and for Libor 3M forward.
+   */
+  USD(LocalDate.of(2015, 7, 21), "USD-DSCON-LIBOR3M", "groups.csv", "settings.csv", "calibrations.csv", "quotes.csv"),
+  /**
+   * The EUR group, with curves for discounting and EONIA forward, and for Euribor 3M and 6M forward.
+   */
+  EUR(LocalDate.of(2015, 11, 20), "EUR-DSCONOIS-EURIBOR3MBS-EURIBOR6MIRS",
+      "groups-eur.csv", "settings-eur.csv", "calibrations-eur.csv", "quotes-eur.csv");
+
+  /**
+   * The location of the calibration data on the classpath.
+   */
+  private static final String PATH_CONFIG = "example-calibration/";
+
+  /**
+   * The valuation date.
+   */
+  private final LocalDate valuationDate;
+  /**
+   * The name of the curve group.
+   */
+  private final CurveGroupName groupName;
+  /**
+   * The curve groups file.
+   */
+  private final String groupsFile;
+  /**
+   * The curve settings file.
+   */
+  private final String settingsFile;
+  /**
+   * The curve calibrations file.
+   */
+  private final String calibrationsFile;
+  /**
+   * The quotes file.
+   */
+  private final String quotesFile;
+
+  // creates an instance
+  private ExampleCurveGroup(
+      LocalDate valuationDate,
+      String groupName,
+      String groupsFile,
+      String settingsFile,
+      String calibrationsFile,
+      String quotesFile) {
+
+    this.valuationDate = valuationDate;
+    this.groupName = CurveGroupName.of(groupName);
+    this.groupsFile = groupsFile;
+    this.settingsFile = settingsFile;
+    this.calibrationsFile = calibrationsFile;
+    this.quotesFile = quotesFile;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the valuation date.
+   * 
+   * @return the valuation date
+   */
+  public LocalDate getValuationDate() {
+    return valuationDate;
+  }
+
+  /**
+   * Gets the name of the curve group.
+   * 
+   * @return the curve group name
+   */
+  public CurveGroupName getGroupName() {
+    return groupName;
+  }
+
+  /**
+   * Loads the curve group definition, filtered for the valuation date.
+   * 
+   * @param refData  the reference data
+   * @return the curve group definition
+   */
+  public CurveGroupDefinition loadDefinition(ReferenceData refData) {
+    return RatesCalibrationCsvLoader.load(
+        curvesResource(groupsFile),
+        curvesResource(settingsFile),
+        curvesResource(calibrationsFile))
+        .get(groupName)
+        .filtered(valuationDate, refData);
+  }
+
+  /**
+   * Loads the market data containing the quotes used in calibration.
+   * 
+   * @return the market data
+   */
+  public MarketData loadQuotes() {
+    return ImmutableMarketData.of(valuationDate, QuotesCsvLoader.load(valuationDate, quotesResource()));
+  }
+
+  /**
+   * Gets the location of the quotes file.
+   * 
+   * @return the location of the quotes file
+   */
+  public ResourceLocator quotesResource() {
+    return ResourceLocator.ofClasspath(PATH_CONFIG + "quotes/" + quotesFile);
+  }
+
+  // obtains a curve configuration file
+  private static ResourceLocator curvesResource(String file) {
+    return ResourceLocator.ofClasspath(PATH_CONFIG + "curves/" + file);
+  }
+
+}
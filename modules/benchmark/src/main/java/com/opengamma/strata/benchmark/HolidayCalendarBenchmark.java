@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.date.HolidayCalendarId;
+
+/**
+ * Benchmark for {@link HolidayCalendar}.
+ * <p>
+ * Each invocation processes a range of consecutive dates, including weekends and holidays.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HolidayCalendarBenchmark {
+
+  /**
+   * The number of dates processed by each invocation.
+   */
+  private static final int DATE_COUNT = 1000;
+
+  /**
+   * The identifier of the calendar, which may be a combined calendar.
+   */
+  @Param({"USNY", "GBLO+USNY"})
+  private String calendarId;
+  /**
+   * The calendar.
+   */
+  private HolidayCalendar calendar;
+  /**
+   * The dates.
+   */
+  private LocalDate[] dates;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Resolves the calendar and creates the dates.
+   */
+  @Setup
+  public void setup() {
+    calendar = HolidayCalendarId.of(calendarId).resolve(ReferenceData.standard());
+    dates = new LocalDate[DATE_COUNT];
+    LocalDate start = LocalDate.of(2015, 1, 1);
+    for (int i = 0; i < DATE_COUNT; i++) {
+      dates[i] = start.plusDays(i);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  @OperationsPerInvocation(DATE_COUNT)
+  public void shift(Blackhole blackhole) {
+    for (LocalDate date : dates) {
+      blackhole.consume(calendar.shift(date, 5));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(DATE_COUNT)
+  public void nextOrSame(Blackhole blackhole) {
+    for (LocalDate date : dates) {
+      blackhole.consume(calendar.nextOrSame(date));
+    }
+  }
+
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.date.BusinessDayConventions;
+import com.opengamma.strata.basics.date.HolidayCalendarIds;
+import com.opengamma.strata.basics.schedule.Frequency;
+import com.opengamma.strata.basics.schedule.PeriodicSchedule;
+import com.opengamma.strata.basics.schedule.Schedule;
+import com.opengamma.strata.basics.schedule.StubConvention;
+
+/**
+ * Benchmark for {@link PeriodicSchedule#createSchedule(ReferenceData)}.
+ * <p>
+ * A quarterly schedule with a short initial stub is created, adjusted using the New York calendar.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PeriodicScheduleBenchmark {
+
+  /**
+   * The reference data.
+   */
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+
+  /**
+   * The length of the schedule, in years.
+   */
+  @Param({"2", "10", "30"})
+  private int years;
+  /**
+   * The schedule definition.
+   */
+  private PeriodicSchedule definition;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates the schedule definition.
+   */
+  @Setup
+  public void setup() {
+    LocalDate start = LocalDate.of(2015, 7, 21);
+    definition = PeriodicSchedule.of(
+        start,
+        start.plusYears(years).plusMonths(1),
+        Frequency.P3M,
+        BusinessDayAdjustment.of(BusinessDayConventions.MODIFIED_FOLLOWING, HolidayCalendarIds.USNY),
+        StubConvention.SHORT_INITIAL,
+        false);
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public Schedule createSchedule() {
+    return definition.createSchedule(REF_DATA);
+  }
+
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.curve.CurveCalibrator;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
+
+/**
+ * Benchmark for {@link DiscountingSwapProductPricer}.
+ * <p>
+ * A USD fixed versus Libor 3M swap is priced using curves calibrated to the example USD curve group.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SwapPricerBenchmark {
+
+  /**
+   * The pricer.
+   */
+  private static final DiscountingSwapProductPricer PRICER = DiscountingSwapProductPricer.DEFAULT;
+
+  /**
+   * The tenor of the swap, in years.
+   */
+  @Param({"2", "10", "30"})
+  private int tenorYears;
+  /**
+   * The swap.
+   */
+  private ResolvedSwap swap;
+  /**
+   * The rates provider.
+   */
+  private ImmutableRatesProvider provider;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calibrates the curves and creates the swap.
+   */
+  @Setup
+  public void setup() {
+    ReferenceData refData = ReferenceData.standard();
+    ExampleCurveGroup group = ExampleCurveGroup.USD;
+    provider = CurveCalibrator.standard().calibrate(group.loadDefinition(refData), group.loadQuotes(), refData);
+    swap = FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M
+        .createTrade(group.getValuationDate(), Tenor.ofYears(tenorYears), BuySell.BUY, 1_000_000d, 0.02, refData)
+        .getProduct()
+        .resolve(refData);
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public MultiCurrencyAmount presentValue() {
+    return PRICER.presentValue(swap, provider);
+  }
+
+  @Benchmark
+  public PointSensitivities presentValueSensitivity() {
+    return PRICER.presentValueSensitivity(swap, provider).build();
+  }
+
+}
@@ -12,6 +12,7 @@ import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.runner.CalculationListener;
 import com.opengamma.strata.calc.runner.CalculationTaskRunner;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -66,6 +67,74 @@ public interface CalculationRunner extends AutoCloseable {
     return DefaultCalculationRunner.of(executor);
   }
 
+  /**
+   * Creates a work-stealing calculation runner capable of performing calculations.
+   * <p>
+   * This factory creates a fork-join pool basing the parallelism on the number of available processors.
+   * The calculations are ordered by estimated cost, with the most expensive started first,
+   * and are executed in batches using work-stealing.
+   * This can reduce the total run time where the cost of the calculations varies significantly.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (CalculationRunner runner = CalculationRunner.ofWorkStealing()) {
+   *    // use the runner
+   *  }
+   * </pre>
+   * 
+   * @return the calculation runner
+   */
+  public static CalculationRunner ofWorkStealing() {
+    return DefaultCalculationRunner.ofWorkStealing();
+  }
+
+  /**
+   * Creates a calculation runner that runs each calculation on a virtual thread, limiting the concurrency.
+   * <p>
+   * Each calculation runs on its own virtual thread, thus a function that blocks, for example on a
+   * market data cache or a time-series store, does not occupy a platform thread while blocked.
+   * The number of calculations running at any one time is limited to the specified maximum.
+   * There is no default limit, as the best value depends on how much the functions block.
+   * For purely CPU-bound functions, the number of available processors is appropriate.
+   * Where the functions block, a limit above the number of processors allows other calculations
+   * to proceed while calculations are blocked.
+   * If the Java runtime does not support virtual threads, a pool of platform threads is used instead.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (CalculationRunner runner = CalculationRunner.ofVirtualThreads(64)) {
+   *    // use the runner
+   *  }
+   * </pre>
+   * 
+   * @param maxConcurrency  the maximum number of calculations running at any one time
+   * @return the calculation runner
+   */
+  public static CalculationRunner ofVirtualThreads(int maxConcurrency) {
+    return DefaultCalculationRunner.ofVirtualThreads(maxConcurrency);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a runner that splits the scenarios of each calculation into chunks that are calculated in parallel.
+   * <p>
+   * By default, all the scenarios of a single target and measure are calculated together on a single thread.
+   * When there are many scenarios but few targets, this can leave threads idle.
+   * A runner with a scenario chunk size splits the scenarios into chunks of at most the specified size,
+   * calculates the chunks in parallel, and reassembles the results.
+   * A chunk size of zero disables splitting.
+   * <p>
+   * The returned runner shares the resources of this runner, thus closing either closes both.
+   * <p>
+   * Splitting only affects performance, not the results. As such, the default implementation
+   * returns this runner, which calculates all the scenarios together.
+   * 
+   * @param scenarioChunkSize  the maximum number of scenarios calculated together, zero to disable splitting
+   * @return a runner that splits the scenarios into chunks
+   */
+  public default CalculationRunner withScenarioChunkSize(int scenarioChunkSize) {
+    ArgChecker.notNegative(scenarioChunkSize, "scenarioChunkSize");
+    return this;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
@@ -59,6 +59,29 @@ class DefaultCalculationRunner implements CalculationRunner {
     return new DefaultCalculationRunner(CalculationTaskRunner.of(executor));
   }
 
+  /**
+   * Creates a work-stealing calculation runner capable of performing calculations.
+   * <p>
+   * This factory creates a fork-join pool basing the parallelism on the number of available processors.
+   * 
+   * @return the calculation runner
+   */
+  static DefaultCalculationRunner ofWorkStealing() {
+    return new DefaultCalculationRunner(CalculationTaskRunner.ofWorkStealing());
+  }
+
+  /**
+   * Creates a calculation runner that runs each calculation on a virtual thread.
+   * <p>
+   * The number of calculations running at any one time is limited to the specified maximum.
+   * 
+   * @param maxConcurrency  the maximum number of calculations running at any one time
+   * @return the calculation runner
+   */
+  static DefaultCalculationRunner ofVirtualThreads(int maxConcurrency) {
+    return new DefaultCalculationRunner(CalculationTaskRunner.ofVirtualThreads(maxConcurrency));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance specifying the underlying task runner to use.
@@ -69,6 +92,12 @@ class DefaultCalculationRunner implements CalculationRunner {
     this.taskRunner = ArgChecker.notNull(taskRunner, "taskRunner");
   }
 
+  //-------------------------------------------------------------------------
+  @Override
+  public DefaultCalculationRunner withScenarioChunkSize(int scenarioChunkSize) {
+    return new DefaultCalculationRunner(taskRunner.withScenarioChunkSize(scenarioChunkSize));
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public Results calculate(
@@ -16,9 +16,12 @@ import java.util.Optional;
 import java.util.Set;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.collect.MapStream;
+import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
@@ -42,6 +45,9 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   /** Market data functions, keyed by the type of the market data ID they can handle. */
   private final Map<Class<? extends MarketDataId<?>>, MarketDataFunction<?, ?>> functions;
 
+  /** The cache of market data built by the functions, null if not caching. */
+  private final MarketDataCache cache;
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance of the factory based on providers of market data and time-series.
@@ -52,14 +58,35 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * @param timeSeriesProvider  the provider time-series
    * @param functions  the functions that create the market data
    */
+  DefaultMarketDataFactory(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    this(observableDataProvider, timeSeriesProvider, null, functions);
+  }
+
+  /**
+   * Creates an instance of the factory based on providers of market data and time-series,
+   * retaining the market data built by the functions in a cache.
+   * <p>
+   * The market data functions are used to build the market data.
+   *
+   * @param observableDataProvider  the provider observable market data
+   * @param timeSeriesProvider  the provider time-series
+   * @param cache  the cache of built market data, null if not caching
+   * @param functions  the functions that create the market data
+   */
   @SuppressWarnings("unchecked")
   DefaultMarketDataFactory(
       ObservableDataProvider observableDataProvider,
       TimeSeriesProvider timeSeriesProvider,
+      MarketDataCache cache,
       List<MarketDataFunction<?, ?>> functions) {
 
     this.observableDataProvider = observableDataProvider;
     this.timeSeriesProvider = timeSeriesProvider;
+    this.cache = cache;
 
     // Use a HashMap instead of an ImmutableMap.Builder so values can be overwritten.
     // If the functions argument includes a missing mapping builder it can overwrite the one inserted below
@@ -201,6 +228,75 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     return builtData;
   }
 
+  @Override
+  public ScenarioMarketData createLazyMultiScenario(
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData suppliedData,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
+    return new LazyScenarioMarketData(this, marketDataConfig, suppliedData, refData, scenarioDefinition);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds a single item of market data on demand, applying any matching perturbation.
+   * <p>
+   * This is used by {@link LazyScenarioMarketData}. Supplied data is used if available,
+   * otherwise the data is obtained from the observable data provider or built using a market data function.
+   * Any data required to build the value is obtained from {@code marketData}, which builds it on demand.
+   *
+   * @param id  ID of the market data that should be built
+   * @param marketDataConfig  configuration specifying how the market data should be built
+   * @param suppliedData  the market data supplied by the user
+   * @param marketData  the market data used to obtain any data required to build the value
+   * @param refData  the reference data
+   * @param scenarioDefinition  definition of a set of scenarios
+   * @return a result containing the market data or details of why it wasn't built
+   */
+  Result<MarketDataBox<?>> buildValue(
+      MarketDataId<?> id,
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData suppliedData,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
+    Result<MarketDataBox<?>> result;
+    if (suppliedData.containsValue(id)) {
+      result = Result.success(suppliedData.getValue(id));
+    } else if (id instanceof ObservableId) {
+      ObservableId observableId = (ObservableId) id;
+      Result<Double> observableResult =
+          observableDataProvider.provideObservableData(ImmutableSet.of(observableId)).get(observableId);
+      if (observableResult == null) {
+        return Result.failure(FailureReason.MISSING_DATA, "No market data provided for identifier '{}'", id);
+      }
+      result = observableResult.map(value -> MarketDataBox.ofSingleValue(value));
+    } else {
+      result = Result.wrap(() -> buildNonObservableData(id, marketDataConfig, marketData, refData));
+    }
+    return result.flatMap(value -> perturb(id, value, refData, scenarioDefinition));
+  }
+
+  /**
+   * Obtains a time-series on demand.
+   * <p>
+   * This is used by {@link LazyScenarioMarketData}.
+   * The supplied time-series is used if available, otherwise the time-series provider is used.
+   *
+   * @param id  ID of the time-series
+   * @param suppliedData  the market data supplied by the user
+   * @return a result containing the time-series or details of why it wasn't found
+   */
+  Result<LocalDateDoubleTimeSeries> buildTimeSeries(ObservableId id, ScenarioMarketData suppliedData) {
+    LocalDateDoubleTimeSeries suppliedTimeSeries = suppliedData.getTimeSeries(id);
+    if (!suppliedTimeSeries.isEmpty()) {
+      return Result.success(suppliedTimeSeries);
+    }
+    return timeSeriesProvider.provideTimeSeries(id);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds items of non-observable market data using a market data function.
@@ -215,7 +311,7 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   private Result<MarketDataBox<?>> buildNonObservableData(
       MarketDataId id,
       MarketDataConfig marketDataConfig,
-      BuiltScenarioMarketData suppliedData,
+      ScenarioMarketData suppliedData,
       ReferenceData refData) {
 
     // The raw types in this method are an unfortunate necessity. The type parameters on MarketDataBuilder
@@ -231,7 +327,16 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     if (marketDataFunction == null) {
       throw new IllegalStateException("No market data function available for market data ID of type " + idClass.getName());
     }
-    return Result.of(() -> marketDataFunction.build(id, marketDataConfig, suppliedData, refData));
+    if (cache == null) {
+      return Result.of(() -> marketDataFunction.build(id, marketDataConfig, suppliedData, refData));
+    }
+    return Result.of(() -> cache.build(
+        id,
+        marketDataFunction.requirements(id, marketDataConfig),
+        marketDataConfig,
+        suppliedData,
+        refData,
+        () -> marketDataFunction.build(id, marketDataConfig, suppliedData, refData)));
   }
 
   @SuppressWarnings("unchecked")
@@ -318,10 +423,7 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       ScenarioDefinition scenarioDefinition,
       BuiltScenarioMarketDataBuilder builder) {
 
-    Optional<PerturbationMapping<?>> optionalMapping = scenarioDefinition.getMappings().stream()
-        .filter(m -> m.matches(id, value, refData))
-        .findFirst();
-
+    Optional<PerturbationMapping<?>> optionalMapping = findMapping(id, value, refData, scenarioDefinition);
     if (optionalMapping.isPresent()) {
       // This is definitely safe because the filter matched the value and the types of the filter and perturbation
       // are compatible
@@ -335,4 +437,43 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     }
   }
 
+  /**
+   * Applies the scenario definition to an item of market data.
+   * <p>
+   * If any of the mappings match the value, the perturbed value is returned.
+   * Otherwise the value is returned unchanged.
+   *
+   * @param id  ID of the market data value
+   * @param value  the market data value
+   * @param scenarioDefinition  definition of a set of scenarios
+   * @return a result containing the market data value, perturbed if a mapping matches
+   */
+  @SuppressWarnings("unchecked")
+  private Result<MarketDataBox<?>> perturb(
+      MarketDataId<?> id,
+      MarketDataBox<?> value,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
+    Optional<PerturbationMapping<?>> optionalMapping = findMapping(id, value, refData, scenarioDefinition);
+    if (!optionalMapping.isPresent()) {
+      return Result.success(value);
+    }
+    PerturbationMapping<Object> mapping = (PerturbationMapping<Object>) optionalMapping.get();
+    MarketDataBox<Object> objectValue = ((MarketDataBox<Object>) value);
+    return Result.of(() -> mapping.applyPerturbation(objectValue, refData));
+  }
+
+  // finds the first mapping in the scenario definition that matches the value
+  private Optional<PerturbationMapping<?>> findMapping(
+      MarketDataId<?> id,
+      MarketDataBox<?> value,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
+    return scenarioDefinition.getMappings().stream()
+        .filter(m -> m.matches(id, value, refData))
+        .findFirst();
+  }
+
 }
@@ -0,0 +1,239 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.collect.Guavate;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.result.FailureException;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.FxRateId;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.NamedMarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Market data for a set of scenarios that is built on demand.
+ * <p>
+ * This is created by {@link MarketDataFactory#createLazyMultiScenario}.
+ * Each item of market data is built the first time it is requested and the result is memoised.
+ * Once built, the same value is returned for all subsequent requests.
+ * Concurrent requests for the same item block until the first request has built it,
+ * ensuring that each item is only built once.
+ * <p>
+ * The market data needed to build an item is requested from this instance, and is thus also built on demand.
+ * The dependencies between items of market data must not be cyclic.
+ * <p>
+ * The methods {@link #getIds()}, {@link #findIds(MarketDataName)} and {@link #getTimeSeriesIds()}
+ * only return the identifiers of the supplied data and of the data that has been built so far.
+ */
+final class LazyScenarioMarketData implements ScenarioMarketData {
+
+  /**
+   * The factory used to build the market data.
+   */
+  private final DefaultMarketDataFactory factory;
+  /**
+   * The configuration needed to build non-observable market data.
+   */
+  private final MarketDataConfig marketDataConfig;
+  /**
+   * The market data supplied by the user.
+   */
+  private final ScenarioMarketData suppliedData;
+  /**
+   * The reference data.
+   */
+  private final ReferenceData refData;
+  /**
+   * The definition of the scenarios.
+   */
+  private final ScenarioDefinition scenarioDefinition;
+  /**
+   * The number of scenarios.
+   */
+  private final int scenarioCount;
+  /**
+   * The memoised market data values, built on first access.
+   */
+  private final LoadingCache<MarketDataId<?>, Result<MarketDataBox<?>>> values;
+  /**
+   * The memoised time-series, obtained on first access.
+   */
+  private final LoadingCache<ObservableId, Result<LocalDateDoubleTimeSeries>> timeSeries;
+
+  /**
+   * Creates an instance.
+   *
+   * @param factory  the factory used to build the market data
+   * @param marketDataConfig  configuration needed to build non-observable market data
+   * @param suppliedData  the base market data used to derive the data for each scenario
+   * @param refData  the reference data
+   * @param scenarioDefinition  defines how the market data for each scenario is derived from the base data
+   */
+  LazyScenarioMarketData(
+      DefaultMarketDataFactory factory,
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData suppliedData,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
+    this.factory = factory;
+    this.marketDataConfig = marketDataConfig;
+    this.suppliedData = suppliedData;
+    this.refData = refData;
+    this.scenarioDefinition = scenarioDefinition;
+    this.scenarioCount = scenarioCount(suppliedData, scenarioDefinition);
+    this.values = CacheBuilder.newBuilder().build(CacheLoader.from(this::buildValue));
+    this.timeSeries = CacheBuilder.newBuilder().build(CacheLoader.from(this::buildTimeSeries));
+  }
+
+  // determines the number of scenarios from the supplied data and the scenario definition
+  private static int scenarioCount(ScenarioMarketData suppliedData, ScenarioDefinition scenarioDefinition) {
+    int suppliedCount = suppliedData.getScenarioCount();
+    int definitionCount = scenarioDefinition.getScenarioCount();
+    if (definitionCount == 0) {
+      return suppliedCount;
+    }
+    if (suppliedCount == 1 || suppliedCount == definitionCount) {
+      return definitionCount;
+    }
+    throw new IllegalArgumentException(Messages.format(
+        "Scenario count mismatch: supplied data has {} scenarios but the scenario definition has {}",
+        suppliedCount,
+        definitionCount));
+  }
+
+  // builds a single value, checking the number of scenarios
+  private Result<MarketDataBox<?>> buildValue(MarketDataId<?> id) {
+    Result<MarketDataBox<?>> result =
+        factory.buildValue(id, marketDataConfig, suppliedData, this, refData, scenarioDefinition);
+    if (result.isSuccess()) {
+      MarketDataBox<?> box = result.getValue();
+      if (box.isScenarioValue() && box.getScenarioCount() != scenarioCount) {
+        return Result.failure(
+            FailureReason.INVALID,
+            "Market data for identifier '{}' has {} scenarios but {} were expected",
+            id,
+            box.getScenarioCount(),
+            scenarioCount);
+      }
+    }
+    return result;
+  }
+
+  // obtains a single time-series
+  private Result<LocalDateDoubleTimeSeries> buildTimeSeries(ObservableId id) {
+    return factory.buildTimeSeries(id, suppliedData);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public MarketDataBox<LocalDate> getValuationDate() {
+    return suppliedData.getValuationDate();
+  }
+
+  @Override
+  public int getScenarioCount() {
+    return scenarioCount;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> MarketDataBox<T> getValue(MarketDataId<T> id) {
+    // a special case for FX rates containing the same currency twice
+    if (isIdentityFxRate(id)) {
+      return identityFxRate(id);
+    }
+    Result<MarketDataBox<?>> result = values.getUnchecked(id);
+    if (result.isFailure()) {
+      throw new FailureException(result.getFailure());
+    }
+    return (MarketDataBox<T>) result.getValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> Optional<MarketDataBox<T>> findValue(MarketDataId<T> id) {
+    // a special case for FX rates containing the same currency twice
+    if (isIdentityFxRate(id)) {
+      return Optional.of(identityFxRate(id));
+    }
+    Result<MarketDataBox<?>> result = values.getUnchecked(id);
+    return result.isSuccess() ? Optional.of((MarketDataBox<T>) result.getValue()) : Optional.empty();
+  }
+
+  // checks if the identifier is for an FX rate containing the same currency twice
+  private static boolean isIdentityFxRate(MarketDataId<?> id) {
+    return id instanceof FxRateId && ((FxRateId) id).getPair().isIdentity();
+  }
+
+  // returns the rate of one for an FX rate containing the same currency twice
+  @SuppressWarnings("unchecked")
+  private static <T> MarketDataBox<T> identityFxRate(MarketDataId<T> id) {
+    FxRateId fxRateId = (FxRateId) id;
+    FxRate identityRate = FxRate.of(fxRateId.getPair(), 1);
+    return MarketDataBox.ofSingleValue((T) identityRate);
+  }
+
+  @Override
+  public Set<MarketDataId<?>> getIds() {
+    Stream<MarketDataId<?>> builtIds = values.asMap().entrySet().stream()
+        .filter(e -> e.getValue().isSuccess())
+        .map(e -> e.getKey());
+    return Stream.concat(suppliedData.getIds().stream(), builtIds)
+        .collect(Guavate.toImmutableSet());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> Set<MarketDataId<T>> findIds(MarketDataName<T> name) {
+    Stream<MarketDataId<T>> builtIds = values.asMap().entrySet().stream()
+        .filter(e -> e.getValue().isSuccess())
+        .map(e -> e.getKey())
+        .filter(id -> id instanceof NamedMarketDataId)
+        .filter(id -> ((NamedMarketDataId<?>) id).getMarketDataName().equals(name))
+        .map(id -> (MarketDataId<T>) id);
+    return Stream.concat(suppliedData.findIds(name).stream(), builtIds)
+        .collect(Guavate.toImmutableSet());
+  }
+
+  @Override
+  public Set<ObservableId> getTimeSeriesIds() {
+    Stream<ObservableId> builtIds = timeSeries.asMap().entrySet().stream()
+        .filter(e -> e.getValue().isSuccess())
+        .map(e -> e.getKey());
+    return Stream.concat(suppliedData.getTimeSeriesIds().stream(), builtIds)
+        .collect(Guavate.toImmutableSet());
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
+    Result<LocalDateDoubleTimeSeries> result = timeSeries.getUnchecked(id);
+    return result.isSuccess() ? result.getValue() : LocalDateDoubleTimeSeries.empty();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return Messages.format("LazyScenarioMarketData[scenarioCount={}, built={}]", scenarioCount, values.size());
+  }
+
+}
@@ -0,0 +1,279 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.function.ObjDoublePredicate;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+import com.opengamma.strata.collect.timeseries.LocalDateDoublePoint;
+
+/**
+ * A read-only time-series that is a view of data held in buffers.
+ * <p>
+ * The dates are held as epoch-days in one buffer and the values in another,
+ * typically both memory-mapped from a file by {@link MappedTimeSeriesProvider}.
+ * The buffers are never modified and only absolute access methods are used,
+ * allowing the same buffers to be safely shared between threads.
+ * <p>
+ * Sub-series are views of the same buffers. Operations that create new data
+ * return a time-series held on the heap.
+ */
+final class MappedLocalDateDoubleTimeSeries implements LocalDateDoubleTimeSeries {
+
+  /**
+   * The dates, expressed as epoch-days, ordered from earliest to latest.
+   */
+  private final IntBuffer epochDays;
+  /**
+   * The values, the date for each value is at the matching index.
+   */
+  private final DoubleBuffer values;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a time-series viewing part of the specified buffers.
+   * <p>
+   * The dates in the specified range must be in ascending order.
+   *
+   * @param epochDays  the dates, expressed as epoch-days
+   * @param values  the values
+   * @param startInclusive  the index of the first point
+   * @param endExclusive  the index after the last point
+   * @return the time-series
+   */
+  static LocalDateDoubleTimeSeries of(IntBuffer epochDays, DoubleBuffer values, int startInclusive, int endExclusive) {
+    if (startInclusive == endExclusive) {
+      return LocalDateDoubleTimeSeries.empty();
+    }
+    IntBuffer epochDaysView = epochDays.duplicate();
+    epochDaysView.limit(endExclusive).position(startInclusive);
+    DoubleBuffer valuesView = values.duplicate();
+    valuesView.limit(endExclusive).position(startInclusive);
+    return new MappedLocalDateDoubleTimeSeries(epochDaysView.slice(), valuesView.slice());
+  }
+
+  /**
+   * Creates an instance.
+   *
+   * @param epochDays  the dates, expressed as epoch-days
+   * @param values  the values
+   */
+  private MappedLocalDateDoubleTimeSeries(IntBuffer epochDays, DoubleBuffer values) {
+    this.epochDays = epochDays;
+    this.values = values;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int size() {
+    return epochDays.limit();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean containsDate(LocalDate date) {
+    return findDatePosition(date) >= 0;
+  }
+
+  @Override
+  public OptionalDouble get(LocalDate date) {
+    int position = findDatePosition(date);
+    return (position >= 0 ? OptionalDouble.of(values.get(position)) : OptionalDouble.empty());
+  }
+
+  @Override
+  public OptionalDouble get(int epochDay) {
+    int position = binarySearch(epochDay);
+    return (position >= 0 ? OptionalDouble.of(values.get(position)) : OptionalDouble.empty());
+  }
+
+  private int findDatePosition(LocalDate date) {
+    long epochDay = date.toEpochDay();
+    if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+      return -1;
+    }
+    return binarySearch((int) epochDay);
+  }
+
+  // same contract as Arrays.binarySearch()
+  private int binarySearch(int epochDay) {
+    int low = 0;
+    int high = size() - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int midEpochDay = epochDays.get(mid);
+      if (midEpochDay < epochDay) {
+        low = mid + 1;
+      } else if (midEpochDay > epochDay) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  // finds the insertion point of a date
+  private int insertionPoint(LocalDate date) {
+    long epochDay = Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, date.toEpochDay()));
+    int position = binarySearch((int) epochDay);
+    if (position < 0) {
+      return -position - 1;
+    }
+    // a clamped date may match the first or last epoch-day
+    return (date.toEpochDay() > epochDay ? position + 1 : position);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDate getLatestDate() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Unable to return latest, time-series is empty");
+    }
+    return LocalDate.ofEpochDay(epochDays.get(size() - 1));
+  }
+
+  @Override
+  public double getLatestValue() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Unable to return latest, time-series is empty");
+    }
+    return values.get(size() - 1);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDateDoubleTimeSeries subSeries(LocalDate startInclusive, LocalDate endExclusive) {
+    ArgChecker.notNull(startInclusive, "startInclusive");
+    ArgChecker.notNull(endExclusive, "endExclusive");
+    if (endExclusive.isBefore(startInclusive)) {
+      throw new IllegalArgumentException(
+          "Invalid sub series, end before start: " + startInclusive + " to " + endExclusive);
+    }
+    return of(epochDays, values, insertionPoint(startInclusive), insertionPoint(endExclusive));
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries headSeries(int numPoints) {
+    ArgChecker.notNegative(numPoints, "numPoints");
+    if (numPoints >= size()) {
+      return this;
+    }
+    return of(epochDays, values, 0, numPoints);
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries tailSeries(int numPoints) {
+    ArgChecker.notNegative(numPoints, "numPoints");
+    if (numPoints >= size()) {
+      return this;
+    }
+    return of(epochDays, values, size() - numPoints, size());
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public Stream<LocalDateDoublePoint> stream() {
+    return IntStream.range(0, size())
+        .mapToObj(i -> LocalDateDoublePoint.of(LocalDate.ofEpochDay(epochDays.get(i)), values.get(i)));
+  }
+
+  @Override
+  public Stream<LocalDate> dates() {
+    return IntStream.range(0, size()).mapToObj(i -> LocalDate.ofEpochDay(epochDays.get(i)));
+  }
+
+  @Override
+  public DoubleStream values() {
+    return IntStream.range(0, size()).mapToDouble(values::get);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void forEach(ObjDoubleConsumer<LocalDate> action) {
+    ArgChecker.notNull(action, "action");
+    for (int i = 0; i < size(); i++) {
+      action.accept(LocalDate.ofEpochDay(epochDays.get(i)), values.get(i));
+    }
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries mapDates(Function<? super LocalDate, ? extends LocalDate> mapper) {
+    return toBuilder().build().mapDates(mapper);
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries mapValues(DoubleUnaryOperator mapper) {
+    ArgChecker.notNull(mapper, "mapper");
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    forEach((date, value) -> builder.put(date, mapper.applyAsDouble(value)));
+    return builder.build();
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries filter(ObjDoublePredicate<LocalDate> predicate) {
+    ArgChecker.notNull(predicate, "predicate");
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    forEach((date, value) -> {
+      if (predicate.test(date, value)) {
+        builder.put(date, value);
+      }
+    });
+    return builder.build();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDateDoubleTimeSeriesBuilder toBuilder() {
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    forEach(builder::put);
+    return builder;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof MappedLocalDateDoubleTimeSeries) {
+      MappedLocalDateDoubleTimeSeries other = (MappedLocalDateDoubleTimeSeries) obj;
+      return epochDays.equals(other.epochDays) && values.equals(other.values);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * epochDays.hashCode() + values.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return stream()
+        .map(LocalDateDoublePoint::toString)
+        .collect(Collectors.joining(", ", "[", "]"));
+  }
+
+}
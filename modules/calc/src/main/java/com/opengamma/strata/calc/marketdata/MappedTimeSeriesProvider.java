@@ -0,0 +1,256 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.Unchecked;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.tuple.Triple;
+import com.opengamma.strata.data.FieldName;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.ObservableSource;
+
+/**
+ * A time-series provider backed by a memory-mapped file.
+ * <p>
+ * The file holds the time-series in a columnar binary format, with all the dates stored
+ * as epoch-days in one column and all the values stored in a second column.
+ * An index at the start of the file locates the points of each time-series.
+ * Only the index is read onto the heap when the provider is created.
+ * The columns are memory-mapped and are paged in by the operating system as they are accessed,
+ * allowing the page cache to be shared by all the processes reading the same file.
+ * <p>
+ * The time-series returned are read-only views of the mapped file, and no data is copied
+ * when they are obtained or when {@code subSeries}, {@code headSeries} or {@code tailSeries} is called.
+ * Operations that create new data, such as {@code mapValues}, return time-series held on the heap.
+ * <p>
+ * Time-series are keyed by the standard identifier, field name and observable source of the
+ * {@link ObservableId}. Files are created using {@link #write(Path, Map)}.
+ * Each column is limited to {@code Integer.MAX_VALUE} bytes, thus a file can hold
+ * up to {@code Integer.MAX_VALUE / 8} points.
+ */
+public final class MappedTimeSeriesProvider implements TimeSeriesProvider {
+
+  /**
+   * The marker at the start of the file.
+   */
+  private static final int MAGIC = 0x53545453;
+  /**
+   * The version of the file format.
+   */
+  private static final int VERSION = 1;
+  /**
+   * The size of the fixed header, consisting of magic, version, series count, point count and index size.
+   */
+  private static final int HEADER_SIZE = 20;
+  /**
+   * The maximum number of points in a file.
+   */
+  private static final int MAX_POINTS = Integer.MAX_VALUE / Double.BYTES;
+
+  /**
+   * The index of the time-series, mapping key to a packed start position and point count.
+   */
+  private final ImmutableMap<Triple<StandardId, FieldName, ObservableSource>, Long> index;
+  /**
+   * The mapped column of dates, expressed as epoch-days.
+   */
+  private final IntBuffer epochDays;
+  /**
+   * The mapped column of values.
+   */
+  private final DoubleBuffer values;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a provider that reads the time-series from the specified file.
+   * <p>
+   * The index of the file is read immediately, while the time-series data is mapped
+   * into memory and loaded lazily as it is accessed.
+   *
+   * @param file  the file, created by {@link #write(Path, Map)}
+   * @return the time-series provider
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file is not in the expected format
+   */
+  public static MappedTimeSeriesProvider of(Path file) {
+    ArgChecker.notNull(file, "file");
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+      int magic = in.readInt();
+      int version = in.readInt();
+      ArgChecker.isTrue(magic == MAGIC, "File is not a time-series file: {}", file);
+      ArgChecker.isTrue(version == VERSION, "Unsupported time-series file version {}: {}", version, file);
+      int seriesCount = in.readInt();
+      int pointCount = in.readInt();
+      int indexSize = in.readInt();
+      Map<Triple<StandardId, FieldName, ObservableSource>, Long> index = new HashMap<>();
+      for (int i = 0; i < seriesCount; i++) {
+        StandardId standardId = StandardId.parse(in.readUTF());
+        FieldName fieldName = FieldName.of(in.readUTF());
+        ObservableSource source = ObservableSource.of(in.readUTF());
+        long start = in.readInt();
+        long count = in.readInt();
+        index.put(Triple.of(standardId, fieldName, source), (start << 32) | count);
+      }
+      long epochDaysPosition = align(HEADER_SIZE + indexSize);
+      long valuesPosition = align(epochDaysPosition + (long) pointCount * Integer.BYTES);
+      IntBuffer epochDays = channel.map(MapMode.READ_ONLY, epochDaysPosition, (long) pointCount * Integer.BYTES)
+          .asIntBuffer();
+      DoubleBuffer values = channel.map(MapMode.READ_ONLY, valuesPosition, (long) pointCount * Double.BYTES)
+          .asDoubleBuffer();
+      return new MappedTimeSeriesProvider(ImmutableMap.copyOf(index), epochDays, values);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * Writes the specified time-series to a file readable by this provider.
+   * <p>
+   * Time-series whose identifiers have the same standard identifier, field name and observable source
+   * are treated as the same time-series, and must not both be present.
+   *
+   * @param file  the file to write to, replaced if it exists
+   * @param timeSeries  the time-series to write, keyed by identifier
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the time-series cannot be written
+   */
+  public static void write(Path file, Map<? extends ObservableId, LocalDateDoubleTimeSeries> timeSeries) {
+    ArgChecker.notNull(file, "file");
+    ArgChecker.noNulls(timeSeries, "timeSeries");
+    long totalPoints = timeSeries.values().stream().mapToLong(LocalDateDoubleTimeSeries::size).sum();
+    ArgChecker.isTrue(totalPoints <= MAX_POINTS, "Too many points for a time-series file: {}", totalPoints);
+    try {
+      // index
+      ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+      DataOutputStream indexOut = new DataOutputStream(indexBytes);
+      Map<Triple<StandardId, FieldName, ObservableSource>, ObservableId> keys = new HashMap<>();
+      int start = 0;
+      for (Entry<? extends ObservableId, LocalDateDoubleTimeSeries> entry : timeSeries.entrySet()) {
+        ObservableId id = entry.getKey();
+        ObservableId existing = keys.put(key(id), id);
+        if (existing != null) {
+          throw new IllegalArgumentException(
+              Messages.format("Identifiers map to the same time-series: {} and {}", existing, id));
+        }
+        indexOut.writeUTF(id.getStandardId().toString());
+        indexOut.writeUTF(id.getFieldName().getName());
+        indexOut.writeUTF(id.getObservableSource().getName());
+        indexOut.writeInt(start);
+        indexOut.writeInt(entry.getValue().size());
+        start += entry.getValue().size();
+      }
+      indexOut.flush();
+      // header, index and columns
+      try (OutputStream os = Files.newOutputStream(file)) {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(timeSeries.size());
+        out.writeInt((int) totalPoints);
+        out.writeInt(indexBytes.size());
+        indexBytes.writeTo(out);
+        pad(out);
+        for (LocalDateDoubleTimeSeries series : timeSeries.values()) {
+          series.forEach((date, value) -> Unchecked.wrap(() -> out.writeInt(Math.toIntExact(date.toEpochDay()))));
+        }
+        pad(out);
+        for (LocalDateDoubleTimeSeries series : timeSeries.values()) {
+          series.forEach((date, value) -> Unchecked.wrap(() -> out.writeDouble(value)));
+        }
+        out.flush();
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  // aligns a file position to eight bytes
+  private static long align(long position) {
+    return (position + 7) & ~7L;
+  }
+
+  // pads the output to an eight byte boundary
+  private static void pad(DataOutputStream out) throws IOException {
+    while ((out.size() & 7) != 0) {
+      out.writeByte(0);
+    }
+  }
+
+  // the key used to find a time-series
+  private static Triple<StandardId, FieldName, ObservableSource> key(ObservableId id) {
+    return Triple.of(id.getStandardId(), id.getFieldName(), id.getObservableSource());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an instance.
+   *
+   * @param index  the index
+   * @param epochDays  the mapped column of dates
+   * @param values  the mapped column of values
+   */
+  private MappedTimeSeriesProvider(
+      ImmutableMap<Triple<StandardId, FieldName, ObservableSource>, Long> index,
+      IntBuffer epochDays,
+      DoubleBuffer values) {
+
+    this.index = index;
+    this.epochDays = epochDays;
+    this.values = values;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the number of time-series available from this provider.
+   *
+   * @return the number of time-series
+   */
+  public int size() {
+    return index.size();
+  }
+
+  @Override
+  public Result<LocalDateDoubleTimeSeries> provideTimeSeries(ObservableId identifier) {
+    Long packed = index.get(key(identifier));
+    if (packed == null) {
+      return Result.failure(
+          FailureReason.MISSING_DATA,
+          "No time-series found in file for '{}'",
+          identifier);
+    }
+    int start = (int) (packed >>> 32);
+    int count = (int) (long) packed;
+    return Result.success(MappedLocalDateDoubleTimeSeries.of(epochDays, values, start, start + count));
+  }
+
+}
@@ -0,0 +1,256 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * A cache of built market data that is retained between calls to a {@link MarketDataFactory}.
+ * <p>
+ * Each call to build market data normally starts from nothing, thus curve groups, FX matrices and
+ * volatility surfaces are rebuilt even when none of their inputs have changed since the previous call.
+ * When a factory is created with a cache, the result of each {@link MarketDataFunction} is stored,
+ * together with a snapshot of the inputs it was built from.
+ * The inputs are the values and time-series declared by {@link MarketDataFunction#requirements}.
+ * <p>
+ * When the same market data is requested again, the stored value is returned if the inputs, valuation date,
+ * number of scenarios, configuration and reference data are unchanged. Otherwise the value is rebuilt and the entry replaced.
+ * Since a cached value is returned as the same instance, market data built from it sees unchanged inputs,
+ * thus only the market data downstream of a changed quote is rebuilt.
+ * <p>
+ * Entries can also be removed explicitly using {@link #invalidate(Set)}, which follows the
+ * recorded dependencies to remove all the market data built directly or indirectly from the specified data.
+ * <p>
+ * The input values are compared using {@code equals}, whereas the configuration and reference data are
+ * compared by identity, as they are typically long-lived instances that are expensive to compare.
+ * Failures are not cached. Perturbations are applied to the inputs before the cache is consulted,
+ * and to the output afterwards, so the cache is compatible with scenarios.
+ * <p>
+ * The cache holds at most one entry for each market data identifier.
+ * This class is thread-safe.
+ */
+public final class MarketDataCache {
+
+  /**
+   * The cached entries, keyed by the identifier of the built market data.
+   */
+  private final Map<MarketDataId<?>, Entry> entries = new ConcurrentHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an empty cache.
+   *
+   * @return the cache
+   */
+  public static MarketDataCache create() {
+    return new MarketDataCache();
+  }
+
+  // restricted constructor
+  private MarketDataCache() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the cached value if the inputs are unchanged, otherwise builds and caches the value.
+   * <p>
+   * If any of the inputs are not available, the value is built without using the cache.
+   *
+   * @param id  the identifier of the market data
+   * @param inputs  the requirements of the market data function that builds the value
+   * @param marketDataConfig  the configuration used to build the value
+   * @param marketData  the market data containing the inputs
+   * @param refData  the reference data
+   * @param builder  the builder of the value, invoked if there is no matching entry in the cache
+   * @return the market data value
+   */
+  MarketDataBox<?> build(
+      MarketDataId<?> id,
+      MarketDataRequirements inputs,
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      Supplier<MarketDataBox<?>> builder) {
+
+    Entry candidate = Entry.of(inputs, marketDataConfig, marketData, refData);
+    if (candidate == null) {
+      return builder.get();
+    }
+    Entry existing = entries.get(id);
+    if (existing != null && existing.matches(candidate)) {
+      return existing.value;
+    }
+    MarketDataBox<?> value = builder.get();
+    entries.put(id, candidate.withValue(value));
+    return value;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Removes the entries built from the specified market data, directly or indirectly.
+   * <p>
+   * This would typically be called with the identifiers of quotes that have changed.
+   * Any entry for one of the identifiers is also removed.
+   *
+   * @param ids  the identifiers of the changed market data
+   */
+  public void invalidate(Set<? extends MarketDataId<?>> ids) {
+    ArgChecker.notNull(ids, "ids");
+    Set<MarketDataId<?>> changed = new HashSet<>(ids);
+    entries.keySet().removeAll(changed);
+    // follow the dependencies until no further entries are affected
+    boolean removed = true;
+    while (removed) {
+      removed = false;
+      for (Map.Entry<MarketDataId<?>, Entry> mapEntry : entries.entrySet()) {
+        if (mapEntry.getValue().dependsOnAny(changed) && entries.remove(mapEntry.getKey()) != null) {
+          changed.add(mapEntry.getKey());
+          removed = true;
+        }
+      }
+    }
+  }
+
+  /**
+   * Checks if the cache contains an entry for the specified market data.
+   *
+   * @param id  the identifier of the market data
+   * @return true if the cache contains an entry for the identifier
+   */
+  public boolean contains(MarketDataId<?> id) {
+    return entries.containsKey(id);
+  }
+
+  /**
+   * Returns the number of entries in the cache.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Removes all entries from the cache.
+   */
+  public void clear() {
+    entries.clear();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "MarketDataCache[size=" + entries.size() + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A cached value together with the inputs it was built from.
+   */
+  private static final class Entry {
+    private final ImmutableMap<MarketDataId<?>, MarketDataBox<?>> values;
+    private final ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> timeSeries;
+    private final MarketDataBox<LocalDate> valuationDate;
+    private final int scenarioCount;
+    private final MarketDataConfig marketDataConfig;
+    private final ReferenceData refData;
+    private final int inputsHash;
+    private final MarketDataBox<?> value;
+
+    // captures the inputs, returning null if any input is unavailable
+    static Entry of(
+        MarketDataRequirements inputs,
+        MarketDataConfig marketDataConfig,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      ImmutableMap.Builder<MarketDataId<?>, MarketDataBox<?>> values = ImmutableMap.builder();
+      for (MarketDataId<?> id : ImmutableSet.<MarketDataId<?>>builder()
+          .addAll(inputs.getObservables())
+          .addAll(inputs.getNonObservables())
+          .build()) {
+        if (!marketData.containsValue(id)) {
+          return null;
+        }
+        values.put(id, marketData.getValue(id));
+      }
+      ImmutableMap.Builder<ObservableId, LocalDateDoubleTimeSeries> timeSeries = ImmutableMap.builder();
+      for (ObservableId id : inputs.getTimeSeries()) {
+        timeSeries.put(id, marketData.getTimeSeries(id));
+      }
+      return new Entry(
+          values.build(),
+          timeSeries.build(),
+          marketData.getValuationDate(),
+          marketData.getScenarioCount(),
+          marketDataConfig,
+          refData,
+          null);
+    }
+
+    private Entry(
+        ImmutableMap<MarketDataId<?>, MarketDataBox<?>> values,
+        ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> timeSeries,
+        MarketDataBox<LocalDate> valuationDate,
+        int scenarioCount,
+        MarketDataConfig marketDataConfig,
+        ReferenceData refData,
+        MarketDataBox<?> value) {
+
+      this.values = values;
+      this.timeSeries = timeSeries;
+      this.valuationDate = valuationDate;
+      this.scenarioCount = scenarioCount;
+      this.marketDataConfig = marketDataConfig;
+      this.refData = refData;
+      this.inputsHash = 31 * values.hashCode() + timeSeries.hashCode();
+      this.value = value;
+    }
+
+    // returns a copy of the entry holding the built value
+    Entry withValue(MarketDataBox<?> value) {
+      return new Entry(values, timeSeries, valuationDate, scenarioCount, marketDataConfig, refData, value);
+    }
+
+    // checks if the entry was built from the same inputs as the candidate
+    boolean matches(Entry candidate) {
+      return marketDataConfig == candidate.marketDataConfig &&
+          refData == candidate.refData &&
+          inputsHash == candidate.inputsHash &&
+          scenarioCount == candidate.scenarioCount &&
+          Objects.equals(valuationDate, candidate.valuationDate) &&
+          Objects.equals(values, candidate.values) &&
+          Objects.equals(timeSeries, candidate.timeSeries);
+    }
+
+    // checks if the entry was built from any of the identifiers
+    boolean dependsOnAny(Set<MarketDataId<?>> ids) {
+      for (MarketDataId<?> id : ids) {
+        if (values.containsKey(id) || timeSeries.containsKey(id)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+}
@@ -10,6 +10,7 @@ import java.util.List;
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.runner.CalculationTasks;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -34,6 +35,7 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The {@code create} method is used to obtain and calibrate a single set of market data.
  * By contrast, the {@code createMultiScenario} methods are used to create data with multiple
  * scenarios based on a {@link ScenarioDefinition}.
+ * The {@code createLazyMultiScenario} method creates scenario data that is built on demand.
  */
 public interface MarketDataFactory {
 
@@ -74,6 +76,30 @@ public interface MarketDataFactory {
     return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions);
   }
 
+  /**
+   * Obtains an instance of the factory based on providers of market data and time-series,
+   * retaining the market data built by the functions in a cache.
+   * <p>
+   * The market data functions are used to build the market data.
+   * The cache is consulted before invoking a function, allowing market data to be reused between calls
+   * to the factory when its inputs have not changed. See {@link MarketDataCache} for details.
+   *
+   * @param observableDataProvider  the provider of observable market data
+   * @param timeSeriesProvider  the provider of time-series
+   * @param cache  the cache of built market data, typically shared between calls to the factory
+   * @param functions  the functions that create the market data
+   * @return the market data factory
+   */
+  public static MarketDataFactory of(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      MarketDataCache cache,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    ArgChecker.notNull(cache, "cache");
+    return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, cache, functions);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds a set of market data.
@@ -154,4 +180,45 @@ public interface MarketDataFactory {
       ReferenceData refData,
       ScenarioDefinition scenarioDefinition);
 
+  //-------------------------------------------------------------------------
+  /**
+   * Creates market data for a set of scenarios that is built on demand.
+   * <p>
+   * Unlike {@code createMultiScenario}, no requirements are needed.
+   * Instead, each item of market data is built the first time it is requested, for example
+   * by a calculation task, and the result is memoised for subsequent requests.
+   * The market data needed to build an item, such as the quotes used to calibrate a curve,
+   * is itself built on demand. Each item is built at most once, even when accessed concurrently.
+   * <p>
+   * The scenario definition is applied to each item as it is built.
+   * The same restrictions on {@code suppliedData} apply as for {@code createMultiScenario}.
+   * The number of scenarios in the supplied data must be one or match that of the scenario definition.
+   * <p>
+   * Observable data not present in {@code suppliedData} is requested from the observable data provider
+   * one identifier at a time. Where the provider is efficient at bulk requests, {@code createMultiScenario}
+   * may be more appropriate.
+   * <p>
+   * The default implementation does not build on demand. Instead it delegates to {@code createMultiScenario},
+   * requiring the identifiers of the supplied data, thus the supplied data is available with the
+   * scenario definition applied. Implementations able to build on demand should override this method.
+   *
+   * @param marketDataConfig  configuration needed to build non-observable market data, for example curves or surfaces
+   * @param suppliedData  the base market data used to derive the data for each scenario
+   * @param refData  the reference data
+   * @param scenarioDefinition  defines how the market data for each scenario is derived from the base data
+   * @return the market data, built on demand
+   */
+  public default ScenarioMarketData createLazyMultiScenario(
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData suppliedData,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(suppliedData.getIds())
+        .addTimeSeries(suppliedData.getTimeSeriesIds())
+        .build();
+    return createMultiScenario(requirements, marketDataConfig, suppliedData, refData, scenarioDefinition);
+  }
+
 }
@@ -78,6 +78,41 @@ public interface CalculationFunction<T extends CalculationTarget> {
     return Optional.empty();
   }
 
+  /**
+   * Returns an estimate of the relative cost of calculating a single scenario for the specified target.
+   * <p>
+   * This is used by the calculation runner to order the tasks, such that the most expensive
+   * tasks are started first. A value of 1 represents a simple target, such as a FRA.
+   * The value is only used for ordering and has no effect on the results.
+   * This should be overridden for targets that are expensive to price,
+   * for example swaptions, or swaps with many legs.
+   * <p>
+   * This method must not throw an exception.
+   *
+   * @param target  the target of the calculation
+   * @return the estimated relative cost of calculating the target, one by default
+   */
+  public default double costEstimate(T target) {
+    return 1d;
+  }
+
+  /**
+   * Checks if the scenarios can be calculated in separate chunks.
+   * <p>
+   * A calculation runner may split the scenarios into chunks that are calculated in parallel,
+   * see {@link CalculationTaskRunner#withScenarioChunkSize(int)}.
+   * This is only possible if the result of each measure is a {@link ScenarioArray} holding
+   * a value for each scenario, where the value for a scenario does not depend on the other scenarios.
+   * This must be overridden to return false if any measure aggregates across the scenarios.
+   * <p>
+   * This method must not throw an exception.
+   *
+   * @return true if the scenarios can be calculated in separate chunks, true by default
+   */
+  public default boolean supportsScenarioChunking() {
+    return true;
+  }
+
   /**
    * Returns the "natural" currency for the specified target.
    * <p>
@@ -191,6 +191,19 @@ public final class CalculationTask implements ImmutableBean {
     return function.naturalCurrency(target, refData);
   }
 
+  /**
+   * Estimates the relative cost of executing the task.
+   * <p>
+   * This combines the {@linkplain CalculationFunction#costEstimate(CalculationTarget) cost of the target}
+   * with the number of cells and scenarios. It is used to start the most expensive tasks first.
+   *
+   * @param scenarioCount  the number of scenarios that will be calculated
+   * @return the estimated cost of the task
+   */
+  public double costEstimate(int scenarioCount) {
+    return function.costEstimate(target) * cells.size() * Math.max(scenarioCount, 1);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Executes the task, performing calculations for the target using multiple sets of market data.
@@ -201,10 +214,18 @@ public final class CalculationTask implements ImmutableBean {
    * @param refData  the reference data
    * @return results of the calculation, one for every scenario in the market data
    */
-  @SuppressWarnings("unchecked")
   public CalculationResults execute(ScenarioMarketData marketData, ReferenceData refData) {
     // calculate the results
     Map<Measure, Result<?>> results = calculate(marketData, refData);
+    return createResults(results, marketData, refData);
+  }
+
+  // converts the calculated results
+  @SuppressWarnings("unchecked")
+  CalculationResults createResults(
+      Map<Measure, Result<?>> results,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
 
     // convert the results, using a normal loop for better stack traces
     ScenarioFxRateProvider fxProvider = ScenarioFxRateProvider.of(marketData);
@@ -217,8 +238,8 @@ public final class CalculationTask implements ImmutableBean {
     return CalculationResults.of(target, resultBuilder.build());
   }
 
-  // calculates the result
-  private Map<Measure, Result<?>> calculate(ScenarioMarketData marketData, ReferenceData refData) {
+  // calculates the result, not converting currencies
+  Map<Measure, Result<?>> calculate(ScenarioMarketData marketData, ReferenceData refData) {
     try {
       Set<Measure> requestedMeasures = getMeasures();
       Set<Measure> supportedMeasures = function.supportedMeasures();
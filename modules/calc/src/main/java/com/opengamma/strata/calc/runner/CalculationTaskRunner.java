@@ -7,12 +7,15 @@ package com.opengamma.strata.calc.runner;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.CalculationRules;
 import com.opengamma.strata.calc.CalculationRunner;
 import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
 /**
@@ -79,6 +82,101 @@ public interface CalculationTaskRunner extends AutoCloseable {
     return DefaultCalculationTaskRunner.of(executor);
   }
 
+  /**
+   * Creates a work-stealing calculation task runner capable of performing calculations.
+   * <p>
+   * This factory creates a fork-join pool basing the parallelism on the number of available processors.
+   * The tasks are ordered by {@linkplain CalculationTask#costEstimate(int) estimated cost}, with the most
+   * expensive started first, and are executed in batches using work-stealing.
+   * This can reduce the total run time where the cost of the tasks varies significantly.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (CalculationTaskRunner runner = CalculationTaskRunner.ofWorkStealing()) {
+   *    // use the runner
+   *  }
+   * </pre>
+   * 
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofWorkStealing() {
+    return DefaultCalculationTaskRunner.ofWorkStealing();
+  }
+
+  /**
+   * Creates a work-stealing calculation task runner capable of performing calculations, specifying the pool.
+   * <p>
+   * The tasks are ordered by {@linkplain CalculationTask#costEstimate(int) estimated cost}, with the most
+   * expensive started first, and are executed in batches using work-stealing.
+   * It is the callers responsibility to manage the life-cycle of the pool.
+   * 
+   * @param pool  the fork-join pool to use
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofWorkStealing(ForkJoinPool pool) {
+    return DefaultCalculationTaskRunner.ofWorkStealing(pool);
+  }
+
+  /**
+   * Creates a calculation task runner that runs each task on a virtual thread, limiting the concurrency.
+   * <p>
+   * Each task runs on its own virtual thread, thus a function that blocks, for example on a
+   * market data cache or a time-series store, does not occupy a platform thread while blocked.
+   * The number of tasks running at any one time is limited to the specified maximum,
+   * which bounds the amount of CPU-bound work competing for the available processors.
+   * Where the functions block, a limit above the number of processors allows other tasks
+   * to proceed while tasks are blocked.
+   * <p>
+   * If the Java runtime does not support virtual threads, a pool of platform threads
+   * is created with the maximum number of threads.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (CalculationTaskRunner runner = CalculationTaskRunner.ofVirtualThreads(64)) {
+   *    // use the runner
+   *  }
+   * </pre>
+   * 
+   * @param maxConcurrency  the maximum number of tasks running at any one time
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofVirtualThreads(int maxConcurrency) {
+    return DefaultCalculationTaskRunner.ofVirtualThreads(maxConcurrency);
+  }
+
+  /**
+   * Checks if the Java runtime supports virtual threads.
+   * <p>
+   * If not, the runners created by {@link #ofVirtualThreads(int)} use a pool of platform threads instead.
+   * 
+   * @return true if the runtime supports virtual threads
+   */
+  public static boolean isVirtualThreadSupported() {
+    return DefaultCalculationTaskRunner.isVirtualThreadSupported();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a runner that splits the scenarios of each task into chunks that are calculated in parallel.
+   * <p>
+   * By default, all the scenarios of a task are calculated together on a single thread.
+   * When there are many scenarios but few tasks, this can leave threads idle.
+   * A runner with a scenario chunk size splits the scenarios of each task into chunks
+   * of at most the specified size, calculates the chunks in parallel, and reassembles
+   * the results into a single {@link ScenarioArray}.
+   * A chunk size of zero disables splitting.
+   * <p>
+   * The returned runner shares the resources of this runner, thus closing either closes both.
+   * <p>
+   * Splitting only affects performance, not the results. As such, the default implementation
+   * returns this runner, which calculates all the scenarios together.
+   * 
+   * @param scenarioChunkSize  the maximum number of scenarios calculated together, zero to disable splitting
+   * @return a runner that splits the scenarios into chunks
+   */
+  public default CalculationTaskRunner withScenarioChunkSize(int scenarioChunkSize) {
+    ArgChecker.notNegative(scenarioChunkSize, "scenarioChunkSize");
+    return this;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
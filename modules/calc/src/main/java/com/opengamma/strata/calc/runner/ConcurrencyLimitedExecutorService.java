@@ -0,0 +1,164 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * An executor service that limits the number of tasks running concurrently in an underlying executor.
+ * <p>
+ * A task is passed to the underlying executor when fewer than the maximum number of tasks are running.
+ * Otherwise the task is queued, and is run by the next underlying thread to finish its task.
+ * This is intended for use with an underlying executor that creates a thread per task, such as
+ * a virtual thread executor, to avoid creating a thread for every task at the same time.
+ * <p>
+ * Tasks are only passed to the underlying executor by {@link #execute(Runnable)}, thus a queued task
+ * cannot be lost due to rejection by the underlying executor. If the underlying executor rejects a task,
+ * the {@link RejectedExecutionException} is thrown to the caller and the task is not counted as running.
+ * <p>
+ * When shutdown, the queued tasks are still run, and the underlying executor is shutdown
+ * once the queue is empty.
+ */
+final class ConcurrencyLimitedExecutorService extends AbstractExecutorService {
+
+  /**
+   * The underlying executor.
+   */
+  private final ExecutorService underlying;
+  /**
+   * The maximum number of tasks passed to the underlying executor at any one time.
+   */
+  private final int maxConcurrency;
+  /**
+   * The tasks waiting for an underlying thread, guarded by this.
+   */
+  private final Queue<Runnable> queue = new ArrayDeque<>();
+  /**
+   * The number of underlying threads running tasks, guarded by this.
+   */
+  private int running;
+  /**
+   * Whether the executor has been shutdown, guarded by this.
+   */
+  private boolean shutdown;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an instance.
+   *
+   * @param underlying  the underlying executor
+   * @param maxConcurrency  the maximum number of tasks running at any one time
+   */
+  ConcurrencyLimitedExecutorService(ExecutorService underlying, int maxConcurrency) {
+    this.underlying = ArgChecker.notNull(underlying, "underlying");
+    this.maxConcurrency = ArgChecker.notNegativeOrZero(maxConcurrency, "maxConcurrency");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void execute(Runnable command) {
+    ArgChecker.notNull(command, "command");
+    synchronized (this) {
+      if (shutdown) {
+        throw new RejectedExecutionException("Executor has been shutdown");
+      }
+      if (running >= maxConcurrency) {
+        queue.add(command);
+        return;
+      }
+      running++;
+    }
+    try {
+      underlying.execute(() -> runAll(command));
+    } catch (RejectedExecutionException ex) {
+      release();
+      throw ex;
+    }
+  }
+
+  // runs the task, then the queued tasks until the queue is empty
+  private void runAll(Runnable first) {
+    Runnable task = first;
+    while (task != null) {
+      try {
+        task.run();
+      } catch (RuntimeException | Error ex) {
+        // report the failure as the underlying thread would, then continue with the queued tasks
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+      }
+      task = nextOrRelease();
+    }
+  }
+
+  // returns the next queued task, releasing the underlying thread if there is none
+  private synchronized Runnable nextOrRelease() {
+    Runnable next = queue.poll();
+    if (next == null) {
+      release();
+    }
+    return next;
+  }
+
+  // releases an underlying thread, shutting down the underlying executor once complete
+  private synchronized void release() {
+    running--;
+    if (shutdown && running == 0 && queue.isEmpty()) {
+      underlying.shutdown();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public synchronized void shutdown() {
+    shutdown = true;
+    if (running == 0 && queue.isEmpty()) {
+      underlying.shutdown();
+    }
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    List<Runnable> notRun;
+    synchronized (this) {
+      shutdown = true;
+      notRun = new ArrayList<>(queue);
+      queue.clear();
+    }
+    notRun.addAll(underlying.shutdownNow());
+    return notRun;
+  }
+
+  @Override
+  public synchronized boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    synchronized (this) {
+      if (!shutdown || !queue.isEmpty()) {
+        return false;
+      }
+    }
+    return underlying.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return underlying.awaitTermination(timeout, unit);
+  }
+
+}
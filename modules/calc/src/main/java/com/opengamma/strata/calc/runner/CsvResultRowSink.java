@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.io.Flushable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.Unchecked;
+import com.opengamma.strata.collect.io.CsvOutput;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+
+/**
+ * A sink that writes rows of calculation results as CSV.
+ * <p>
+ * The first line is a header, containing "Row", "Scenario" and the name of each column.
+ * Each row of results is written as one line for each scenario.
+ * If a result is a {@link ScenarioArray} the value for the scenario is written,
+ * otherwise the same value is written on each line of the row.
+ * Failures are written as "FAIL: " followed by the failure message.
+ * <p>
+ * Lines are written in the order the rows complete, thus the "Row" column is needed to
+ * restore the original order if required.
+ */
+public final class CsvResultRowSink implements ResultRowSink {
+
+  /**
+   * The CSV output.
+   */
+  private final CsvOutput csv;
+  /**
+   * The underlying output, flushed on completion.
+   */
+  private final Appendable output;
+  /**
+   * The function used to format each value.
+   */
+  private final Function<Object, String> formatter;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that writes to the specified output, formatting values using {@code toString()}.
+   * <p>
+   * The header is written immediately.
+   *
+   * @param columns  the columns of the results
+   * @param output  the output to write to
+   * @return the sink
+   */
+  public static CsvResultRowSink of(List<Column> columns, Appendable output) {
+    return of(columns, output, String::valueOf);
+  }
+
+  /**
+   * Obtains an instance that writes to the specified output, formatting values using the specified function.
+   * <p>
+   * The header is written immediately.
+   *
+   * @param columns  the columns of the results
+   * @param output  the output to write to
+   * @param formatter  the function used to format each value
+   * @return the sink
+   */
+  public static CsvResultRowSink of(List<Column> columns, Appendable output, Function<Object, String> formatter) {
+    ArgChecker.notNull(columns, "columns");
+    CsvResultRowSink sink = new CsvResultRowSink(output, formatter);
+    List<String> header = ImmutableList.<String>builder()
+        .add("Row")
+        .add("Scenario")
+        .addAll(columns.stream().map(c -> c.getName().getName()).collect(toImmutableList()))
+        .build();
+    sink.csv.writeLine(header);
+    return sink;
+  }
+
+  // restricted constructor
+  private CsvResultRowSink(Appendable output, Function<Object, String> formatter) {
+    this.output = ArgChecker.notNull(output, "output");
+    this.formatter = ArgChecker.notNull(formatter, "formatter");
+    this.csv = new CsvOutput(output);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void rowCompleted(int rowIndex, CalculationTarget target, List<Result<?>> results) {
+    int scenarioCount = 1;
+    for (Result<?> result : results) {
+      if (result.isSuccess() && result.getValue() instanceof ScenarioArray) {
+        scenarioCount = Math.max(scenarioCount, ((ScenarioArray<?>) result.getValue()).getScenarioCount());
+      }
+    }
+    for (int scenarioIndex = 0; scenarioIndex < scenarioCount; scenarioIndex++) {
+      List<String> line = new ArrayList<>(results.size() + 2);
+      line.add(Integer.toString(rowIndex));
+      line.add(Integer.toString(scenarioIndex));
+      for (Result<?> result : results) {
+        line.add(format(result, scenarioIndex));
+      }
+      csv.writeLine(line);
+    }
+  }
+
+  // formats a single value
+  private String format(Result<?> result, int scenarioIndex) {
+    if (result.isFailure()) {
+      return Messages.format("FAIL: {}", result.getFailure().getMessage());
+    }
+    Object value = result.getValue();
+    if (value instanceof ScenarioArray) {
+      ScenarioArray<?> array = (ScenarioArray<?>) value;
+      return scenarioIndex < array.getScenarioCount() ? formatter.apply(array.get(scenarioIndex)) : "";
+    }
+    return formatter.apply(value);
+  }
+
+  @Override
+  public void complete() {
+    if (output instanceof Flushable) {
+      Unchecked.wrap(() -> ((Flushable) output).flush());
+    }
+  }
+
+}
@@ -7,12 +7,20 @@ package com.opengamma.strata.calc.runner;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -24,6 +32,7 @@ import com.opengamma.strata.calc.ColumnHeader;
 import com.opengamma.strata.calc.Results;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.Unchecked;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioArray;
@@ -33,14 +42,37 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default calculation task runner.
  * <p>
  * This uses a single instance of {@link ExecutorService}.
+ * <p>
+ * If the runner is created using {@link #ofWorkStealing()} then a {@link ForkJoinPool} is used.
+ * The tasks are sorted by their {@linkplain CalculationTask#costEstimate(int) estimated cost} and
+ * submitted in batches, allowing idle threads to steal work. The most expensive tasks are started first.
  */
 class DefaultCalculationTaskRunner implements CalculationTaskRunner {
 
+  /**
+   * The number of batches created per thread when running in work-stealing mode.
+   * Splitting into more batches than threads allows the work to be balanced.
+   */
+  private static final int BATCHES_PER_THREAD = 8;
+  /**
+   * Comparator for sorting the tasks by descending cost.
+   */
+  private static final Comparator<CostedTask> COST_DESCENDING =
+      Comparator.comparingDouble(CostedTask::getCost).reversed();
+
   /**
    * Executes the tasks that perform the individual calculations.
    * This will typically be multi-threaded, but single or direct executors also work.
    */
   private final ExecutorService executor;
+  /**
+   * The work-stealing pool, null if tasks are submitted individually to the executor.
+   */
+  private final ForkJoinPool workStealingPool;
+  /**
+   * The maximum number of scenarios calculated together by a task, zero if not split.
+   */
+  private final int scenarioChunkSize;
 
   //-------------------------------------------------------------------------
   /**
@@ -57,7 +89,7 @@ class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner ofMultiThreaded() {
-    return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()));
+    return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()), null, 0);
   }
 
   /**
@@ -69,7 +101,58 @@ class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner of(ExecutorService executor) {
-    return new DefaultCalculationTaskRunner(executor);
+    return new DefaultCalculationTaskRunner(executor, null, 0);
+  }
+
+  /**
+   * Creates a work-stealing calculation task runner capable of performing calculations.
+   * <p>
+   * This factory creates a fork-join pool basing the parallelism on the number of available processors.
+   * The tasks are ordered by estimated cost and executed in batches using work-stealing.
+   * It is recommended to use try-with-resources to manage the runner:
+   * <pre>
+   *  try (DefaultCalculationTaskRunner runner = DefaultCalculationTaskRunner.ofWorkStealing()) {
+   *    // use the runner
+   *  }
+   * </pre>
+   * 
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofWorkStealing() {
+    return ofWorkStealing(createForkJoinPool(Runtime.getRuntime().availableProcessors()));
+  }
+
+  /**
+   * Creates a work-stealing calculation task runner capable of performing calculations, specifying the pool.
+   * <p>
+   * The tasks are ordered by estimated cost and executed in batches using work-stealing.
+   * It is the callers responsibility to manage the life-cycle of the pool.
+   * 
+   * @param pool  the fork-join pool to use
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofWorkStealing(ForkJoinPool pool) {
+    return new DefaultCalculationTaskRunner(pool, pool, 0);
+  }
+
+  /**
+   * Creates a calculation task runner that uses virtual threads where available.
+   * <p>
+   * Each task runs on its own thread, thus a function that blocks does not prevent other tasks running.
+   * The number of tasks running at any one time is limited to the specified maximum.
+   * <p>
+   * Virtual threads are used if the Java runtime supports them.
+   * Otherwise, a pool of daemon platform threads is created with the maximum number of threads.
+   * 
+   * @param maxConcurrency  the maximum number of tasks running at any one time
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofVirtualThreads(int maxConcurrency) {
+    ArgChecker.notNegativeOrZero(maxConcurrency, "maxConcurrency");
+    ExecutorService executor = createVirtualThreadExecutor()
+        .<ExecutorService>map(virtual -> new ConcurrencyLimitedExecutorService(virtual, maxConcurrency))
+        .orElseGet(() -> createExecutor(maxConcurrency));
+    return new DefaultCalculationTaskRunner(executor, null, 0);
   }
 
   // create an executor with daemon threads
@@ -84,14 +167,60 @@ class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     return Executors.newFixedThreadPool(effectiveThreads, threadFactory);
   }
 
+  // checks if the runtime supports virtual threads
+  static boolean isVirtualThreadSupported() {
+    Optional<ExecutorService> executor = createVirtualThreadExecutor();
+    executor.ifPresent(ExecutorService::shutdown);
+    return executor.isPresent();
+  }
+
+  // create an executor that starts a virtual thread for each task, empty if the runtime does not support them
+  private static Optional<ExecutorService> createVirtualThreadExecutor() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return Optional.of((ExecutorService) factory.invoke(null));
+    } catch (InvocationTargetException ex) {
+      // virtual threads are a preview feature before Java 21, which throws if not enabled
+      if (ex.getCause() instanceof UnsupportedOperationException) {
+        return Optional.empty();
+      }
+      throw Unchecked.propagate(ex);
+    } catch (ReflectiveOperationException ex) {
+      // virtual threads were added in Java 19
+      return Optional.empty();
+    }
+  }
+
+  // create a fork-join pool with daemon threads
+  private static ForkJoinPool createForkJoinPool(int parallelism) {
+    int effectiveParallelism = (parallelism <= 0 ? Runtime.getRuntime().availableProcessors() : parallelism);
+    ForkJoinWorkerThreadFactory threadFactory = pool -> {
+      ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      t.setName("CalculationTaskRunner-" + t.getName());
+      t.setDaemon(true);
+      return t;
+    };
+    return new ForkJoinPool(effectiveParallelism, threadFactory, null, false);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance specifying the executor to use.
    * 
    * @param executor  the executor that is used to perform the calculations
+   * @param workStealingPool  the work-stealing pool, null if not using work-stealing
+   * @param scenarioChunkSize  the maximum number of scenarios calculated together, zero if not split
    */
-  private DefaultCalculationTaskRunner(ExecutorService executor) {
+  private DefaultCalculationTaskRunner(ExecutorService executor, ForkJoinPool workStealingPool, int scenarioChunkSize) {
     this.executor = ArgChecker.notNull(executor, "executor");
+    this.workStealingPool = workStealingPool;
+    this.scenarioChunkSize = ArgChecker.notNegative(scenarioChunkSize, "scenarioChunkSize");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public DefaultCalculationTaskRunner withScenarioChunkSize(int scenarioChunkSize) {
+    return new DefaultCalculationTaskRunner(executor, workStealingPool, scenarioChunkSize);
   }
 
   //-------------------------------------------------------------------------
@@ -180,8 +309,13 @@ class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     // the wrapper ensures thread-safety for the listener
     // it also calls the listener with single CalculationResult cells, not CalculationResults
     Consumer<CalculationResults> consumer = new ListenerWrapper(listener, taskList.size());
-    // run each task using the executor
-    taskList.stream().forEach(task -> runTask(task, marketData, refData, consumer));
+    if (workStealingPool != null) {
+      // run the tasks in batches, most expensive first
+      runTasksWorkStealing(taskList, marketData, refData, consumer);
+    } else {
+      // run each task using the executor
+      taskList.stream().forEach(task -> runTask(task, marketData, refData, consumer));
+    }
   }
 
   // submits a task to the executor to be run
@@ -193,16 +327,121 @@ class DefaultCalculationTaskRunner implements CalculationTaskRunner {
 
     // the task is executed, with the result passed to the consumer
     // the consumer wraps the listener to ensure thread-safety
-    Supplier<CalculationResults> taskExecutor = () -> task.execute(marketData, refData);
+    Supplier<CalculationResults> taskExecutor = () -> execute(task, marketData, refData);
     CompletableFuture.supplyAsync(taskExecutor, executor).thenAccept(consumer);
   }
 
+  // submits the tasks to the work-stealing pool, ordered by descending cost
+  private void runTasksWorkStealing(
+      List<CalculationTask> taskList,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      Consumer<CalculationResults> consumer) {
+
+    if (taskList.isEmpty()) {
+      return;
+    }
+    // the cost is calculated once, as the function may not be cheap
+    int scenarioCount = marketData.getScenarioCount();
+    CostedTask[] costedTasks = new CostedTask[taskList.size()];
+    for (int i = 0; i < costedTasks.length; i++) {
+      CalculationTask task = taskList.get(i);
+      costedTasks[i] = new CostedTask(task, task.costEstimate(scenarioCount));
+    }
+    Arrays.sort(costedTasks, COST_DESCENDING);
+    int batchSize = Math.max(1, costedTasks.length / (workStealingPool.getParallelism() * BATCHES_PER_THREAD));
+    TaskBatch batch = new TaskBatch(this, costedTasks, 0, costedTasks.length, batchSize, marketData, refData, consumer);
+    workStealingPool.execute(batch);
+  }
+
+  // executes a single task, splitting the scenarios into chunks if configured
+  private CalculationResults execute(CalculationTask task, ScenarioMarketData marketData, ReferenceData refData) {
+    return ScenarioChunkedExecution.execute(task, marketData, refData, scenarioChunkSize, executor);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public void close() {
     executor.shutdown();
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * A calculation task with its estimated cost.
+   */
+  private static final class CostedTask {
+
+    private final CalculationTask task;
+    private final double cost;
+
+    private CostedTask(CalculationTask task, double cost) {
+      this.task = task;
+      this.cost = cost;
+    }
+
+    private double getCost() {
+      return cost;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A batch of calculation tasks executed in a fork-join pool.
+   * <p>
+   * The tasks are sorted by descending cost. A large batch is split in two, with the
+   * second half forked so that it can be stolen by an idle thread, while the current thread
+   * continues with the more expensive first half. Tasks within a small batch are run in order.
+   */
+  private static final class TaskBatch extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient DefaultCalculationTaskRunner runner;
+    private final transient CostedTask[] tasks;
+    private final int start;
+    private final int end;
+    private final int batchSize;
+    private final transient ScenarioMarketData marketData;
+    private final transient ReferenceData refData;
+    private final transient Consumer<CalculationResults> consumer;
+
+    private TaskBatch(
+        DefaultCalculationTaskRunner runner,
+        CostedTask[] tasks,
+        int start,
+        int end,
+        int batchSize,
+        ScenarioMarketData marketData,
+        ReferenceData refData,
+        Consumer<CalculationResults> consumer) {
+
+      this.runner = runner;
+      this.tasks = tasks;
+      this.start = start;
+      this.end = end;
+      this.batchSize = batchSize;
+      this.marketData = marketData;
+      this.refData = refData;
+      this.consumer = consumer;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start > batchSize) {
+        int mid = (start + end) >>> 1;
+        TaskBatch second = new TaskBatch(runner, tasks, mid, end, batchSize, marketData, refData, consumer);
+        second.fork();
+        new TaskBatch(runner, tasks, start, mid, batchSize, marketData, refData, consumer).compute();
+        second.join();
+      } else {
+        // the consumer wraps the listener to ensure thread-safety
+        for (int i = start; i < end; i++) {
+          consumer.accept(runner.execute(tasks[i].task, marketData, refData));
+        }
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculation listener that receives the results of individual calculations
@@ -96,6 +96,16 @@ class DerivedCalculationFunctionWrapper<T extends CalculationTarget, R> implemen
     return delegate.identifier(target);
   }
 
+  @Override
+  public double costEstimate(T target) {
+    return delegate.costEstimate(target);
+  }
+
+  @Override
+  public boolean supportsScenarioChunking() {
+    return delegate.supportsScenarioChunking();
+  }
+
   @Override
   public Currency naturalCurrency(T target, ReferenceData refData) {
     return delegate.naturalCurrency(target, refData);
@@ -0,0 +1,48 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.List;
+
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * A destination for complete rows of calculation results.
+ * <p>
+ * This is used by {@link StreamingCalculationListener} to output each row of results
+ * as soon as all the columns of the row have been calculated.
+ * Implementations might write the row to a file, or store it in a columnar format.
+ * <p>
+ * It is guaranteed that the methods of a sink will only be invoked by a single thread at any
+ * time. Therefore implementations are not necessarily required to be thread safe.
+ * The rows are passed to the sink in the order they are completed, not in row index order.
+ */
+@FunctionalInterface
+public interface ResultRowSink {
+
+  /**
+   * Invoked when all the columns of a row have been calculated.
+   * <p>
+   * The sink must not retain a reference to the results unless it is intended to keep them in memory.
+   *
+   * @param rowIndex  the index of the row in the grid of results
+   * @param target  the calculation target, such as a trade
+   * @param results  the results of the row, one for each column
+   */
+  public abstract void rowCompleted(int rowIndex, CalculationTarget target, List<Result<?>> results);
+
+  /**
+   * Invoked when all rows have been passed to the sink.
+   * <p>
+   * This is guaranteed to be called after all rows have been passed to {@link #rowCompleted}.
+   * The default implementation does nothing.
+   */
+  public default void complete() {
+    // do nothing
+  }
+
+}
@@ -0,0 +1,202 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.google.common.util.concurrent.Futures;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.ConcatenableScenarioArray;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Executes a calculation task by splitting the scenarios into chunks that are calculated in parallel.
+ * <p>
+ * Each chunk is a {@linkplain ScenarioMarketData#subset(int, int) subset} of the scenarios.
+ * The results of the chunks are reassembled into a single {@link ScenarioArray} for each measure.
+ * Arrays implementing {@link ConcatenableScenarioArray} are joined by the array itself, retaining its type.
+ * <p>
+ * All chunks except the first are submitted to the executor. The calling thread then runs
+ * any chunk that has not yet been started, thus the calculation cannot deadlock if the
+ * executor is saturated, for example because the calling thread is itself part of the executor.
+ * <p>
+ * A result that is the same in every chunk, such as the resolved target, is used as is.
+ * <p>
+ * The scenarios are not split if the function does not {@linkplain CalculationFunction#supportsScenarioChunking()
+ * support chunking}, which functions aggregating across the scenarios must declare. If such a function
+ * does not declare it, the results of the chunks cannot be combined, and the task is executed again without
+ * splitting to obtain the correct result.
+ */
+final class ScenarioChunkedExecution {
+
+  /**
+   * Restricted constructor.
+   */
+  private ScenarioChunkedExecution() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Executes the task, splitting the scenarios into chunks of the specified size.
+   * <p>
+   * If the chunk size is zero, the number of scenarios does not exceed the chunk size,
+   * or the function does not support chunking, the task is executed directly.
+   *
+   * @param task  the task to execute
+   * @param marketData  the market data used in the calculation
+   * @param refData  the reference data
+   * @param chunkSize  the maximum number of scenarios in each chunk, zero to disable splitting
+   * @param executor  the executor used to calculate the chunks
+   * @return results of the calculation, one for every scenario in the market data
+   */
+  static CalculationResults execute(
+      CalculationTask task,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      int chunkSize,
+      Executor executor) {
+
+    int scenarioCount = marketData.getScenarioCount();
+    if (chunkSize <= 0 || scenarioCount <= chunkSize || !task.getFunction().supportsScenarioChunking()) {
+      return task.execute(marketData, refData);
+    }
+    // create the chunks
+    List<FutureTask<Map<Measure, Result<?>>>> chunks = new ArrayList<>();
+    List<Integer> chunkSizes = new ArrayList<>();
+    for (int start = 0; start < scenarioCount; start += chunkSize) {
+      int end = Math.min(start + chunkSize, scenarioCount);
+      ScenarioMarketData chunkMarketData = marketData.subset(start, end);
+      chunks.add(new FutureTask<>(() -> task.calculate(chunkMarketData, refData)));
+      chunkSizes.add(end - start);
+    }
+    // submit all but the first chunk, which is run by this thread
+    for (int i = 1; i < chunks.size(); i++) {
+      try {
+        executor.execute(chunks.get(i));
+      } catch (RejectedExecutionException ex) {
+        // the chunk will be run by this thread
+        break;
+      }
+    }
+    // run any chunks not yet started, a no-op for chunks already run by the executor
+    for (FutureTask<Map<Measure, Result<?>>> chunk : chunks) {
+      chunk.run();
+    }
+    List<Map<Measure, Result<?>>> chunkResults = new ArrayList<>();
+    for (FutureTask<Map<Measure, Result<?>>> chunk : chunks) {
+      chunkResults.add(Futures.getUnchecked(chunk));
+    }
+    // combine the results, falling back to a direct execution if the results cannot be combined
+    Map<Measure, Result<?>> results = new HashMap<>();
+    for (Measure measure : chunkResults.get(0).keySet()) {
+      Result<?> combined = combine(measure, chunkResults, chunkSizes);
+      if (combined == null) {
+        return task.execute(marketData, refData);
+      }
+      results.put(measure, combined);
+    }
+    return task.createResults(results, marketData, refData);
+  }
+
+  // combines the results of each chunk, returning null if they cannot be combined
+  private static Result<?> combine(
+      Measure measure,
+      List<Map<Measure, Result<?>>> chunkResults,
+      List<Integer> chunkSizes) {
+
+    List<Object> values = new ArrayList<>(chunkResults.size());
+    for (Map<Measure, Result<?>> chunkResult : chunkResults) {
+      Result<?> result = chunkResult.get(measure);
+      if (result == null) {
+        return null;
+      }
+      if (result.isFailure()) {
+        return result;
+      }
+      values.add(result.getValue());
+    }
+    List<ScenarioArray<?>> arrays = new ArrayList<>(values.size());
+    for (int i = 0; i < values.size(); i++) {
+      Object value = values.get(i);
+      if (value instanceof ScenarioArray && ((ScenarioArray<?>) value).getScenarioCount() == chunkSizes.get(i)) {
+        arrays.add((ScenarioArray<?>) value);
+      }
+    }
+    if (arrays.size() == values.size()) {
+      return Result.success(concat(arrays));
+    }
+    // a value that does not depend on the scenarios, such as the resolved target, is the same in every chunk
+    Object first = values.get(0);
+    if (values.stream().allMatch(value -> value.equals(first))) {
+      return Result.success(first);
+    }
+    return null;
+  }
+
+  // concatenates the arrays, retaining the efficient representation where possible
+  private static ScenarioArray<?> concat(List<ScenarioArray<?>> arrays) {
+    ScenarioArray<?> first = arrays.get(0);
+    int size = arrays.stream().mapToInt(array -> array.getScenarioCount()).sum();
+    if (first instanceof CurrencyScenarioArray && arrays.stream().allMatch(
+        array -> array instanceof CurrencyScenarioArray &&
+            ((CurrencyScenarioArray) array).getCurrency().equals(((CurrencyScenarioArray) first).getCurrency()))) {
+      double[] values = new double[size];
+      int pos = 0;
+      for (ScenarioArray<?> array : arrays) {
+        DoubleArray chunkValues = ((CurrencyScenarioArray) array).getAmounts().getValues();
+        chunkValues.copyInto(values, pos);
+        pos += chunkValues.size();
+      }
+      return CurrencyScenarioArray.of(((CurrencyScenarioArray) first).getCurrency(), DoubleArray.ofUnsafe(values));
+    }
+    if (arrays.stream().allMatch(array -> array instanceof DoubleScenarioArray)) {
+      double[] values = new double[size];
+      int pos = 0;
+      for (ScenarioArray<?> array : arrays) {
+        DoubleArray chunkValues = ((DoubleScenarioArray) array).getValues();
+        chunkValues.copyInto(values, pos);
+        pos += chunkValues.size();
+      }
+      return DoubleScenarioArray.of(DoubleArray.ofUnsafe(values));
+    }
+    if (arrays.stream().allMatch(array -> array instanceof MultiCurrencyScenarioArray)) {
+      List<MultiCurrencyAmount> amounts = new ArrayList<>(size);
+      for (ScenarioArray<?> array : arrays) {
+        ((MultiCurrencyScenarioArray) array).stream().forEach(amounts::add);
+      }
+      return MultiCurrencyScenarioArray.of(amounts);
+    }
+    if (first instanceof ConcatenableScenarioArray) {
+      return concatWith((ConcatenableScenarioArray<?>) first, arrays.subList(1, arrays.size()));
+    }
+    List<Object> values = new ArrayList<>(size);
+    for (ScenarioArray<?> array : arrays) {
+      array.stream().forEach(values::add);
+    }
+    return ScenarioArray.of(values);
+  }
+
+  // concatenates using the array, which handles other arrays whose values are of a different type
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static ScenarioArray<?> concatWith(ConcatenableScenarioArray<?> first, List<ScenarioArray<?>> others) {
+    return ((ConcatenableScenarioArray) first).concatWith((List) others);
+  }
+
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * Calculation listener that passes each row of results to a sink as soon as the row is complete.
+ * <p>
+ * The results of a calculation arrive in an arbitrary order. This listener holds the results
+ * of each row until every column has been received, passes the row to a {@link ResultRowSink}
+ * and then discards it. The memory used is thus bounded by the number of rows in flight,
+ * rather than by the total number of rows, as is the case when a {@code Results} grid is built.
+ * <p>
+ * The {@linkplain #result() result} of the listener is the number of rows passed to the sink.
+ * This allows the caller to wait for the calculations to complete:
+ * <pre>
+ *  StreamingCalculationListener listener = StreamingCalculationListener.of(columns.size(), sink);
+ *  runner.calculateMultiScenarioAsync(rules, targets, columns, marketData, refData, listener);
+ *  listener.result();
+ * </pre>
+ */
+public final class StreamingCalculationListener extends AggregatingCalculationListener<Integer> {
+
+  /**
+   * The number of columns in each row.
+   */
+  private final int columnCount;
+  /**
+   * The sink that receives the complete rows.
+   */
+  private final ResultRowSink sink;
+  /**
+   * The rows that have been partially received, keyed by row index.
+   */
+  private final Map<Integer, PartialRow> rowsInFlight = new HashMap<>();
+  /**
+   * The number of rows passed to the sink.
+   */
+  private int rowCount;
+  /**
+   * The maximum number of rows that were in flight at any one time.
+   */
+  private int maxRowsInFlight;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that passes complete rows to the specified sink.
+   *
+   * @param columnCount  the number of columns in each row
+   * @param sink  the sink that receives the complete rows
+   * @return the listener
+   */
+  public static StreamingCalculationListener of(int columnCount, ResultRowSink sink) {
+    return new StreamingCalculationListener(columnCount, sink);
+  }
+
+  // restricted constructor
+  private StreamingCalculationListener(int columnCount, ResultRowSink sink) {
+    this.columnCount = ArgChecker.notNegativeOrZero(columnCount, "columnCount");
+    this.sink = ArgChecker.notNull(sink, "sink");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the maximum number of rows that were held in memory at any one time.
+   * <p>
+   * This is intended for monitoring the memory used by the listener.
+   *
+   * @return the maximum number of rows in flight
+   */
+  public int getMaxRowsInFlight() {
+    return maxRowsInFlight;
+  }
+
+  @Override
+  public void resultReceived(CalculationTarget target, CalculationResult result) {
+    int rowIndex = result.getRowIndex();
+    PartialRow row = rowsInFlight.get(rowIndex);
+    if (row == null) {
+      row = new PartialRow(target, columnCount);
+      rowsInFlight.put(rowIndex, row);
+      maxRowsInFlight = Math.max(maxRowsInFlight, rowsInFlight.size());
+    }
+    if (row.add(result.getColumnIndex(), result.getResult())) {
+      rowsInFlight.remove(rowIndex);
+      rowCount++;
+      sink.rowCompleted(rowIndex, row.target, row.toList());
+    }
+  }
+
+  @Override
+  protected Integer createAggregateResult() {
+    // any incomplete rows are passed to the sink in row order with the missing results as failures
+    for (Map.Entry<Integer, PartialRow> entry : new TreeMap<>(rowsInFlight).entrySet()) {
+      PartialRow row = entry.getValue();
+      rowCount++;
+      sink.rowCompleted(entry.getKey(), row.target, row.toList());
+    }
+    rowsInFlight.clear();
+    sink.complete();
+    return rowCount;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A row for which only some of the results have been received.
+   */
+  private static final class PartialRow {
+
+    private final CalculationTarget target;
+    private final Result<?>[] results;
+    private int received;
+
+    private PartialRow(CalculationTarget target, int columnCount) {
+      this.target = target;
+      this.results = new Result<?>[columnCount];
+    }
+
+    // adds a result, returning true if the row is complete
+    private boolean add(int columnIndex, Result<?> result) {
+      if (results[columnIndex] == null) {
+        received++;
+      }
+      results[columnIndex] = result;
+      return received == results.length;
+    }
+
+    // returns the results, with missing results as failures
+    private List<Result<?>> toList() {
+      for (int i = 0; i < results.length; i++) {
+        if (results[i] == null) {
+          results[i] = Result.failure(FailureReason.MISSING_DATA, "No result was calculated for column {}", i);
+        }
+      }
+      return ImmutableList.copyOf(results);
+    }
+  }
+
+}
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.calc.marketdata;
 
+import static com.opengamma.strata.basics.currency.Currency.GBP;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.TestHelper.assertThrows;
 import static com.opengamma.strata.collect.TestHelper.date;
@@ -12,6 +13,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import org.testng.annotations.Test;
@@ -21,15 +23,19 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.collect.result.FailureException;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.FieldName;
+import com.opengamma.strata.data.FxRateId;
 import com.opengamma.strata.data.ImmutableMarketData;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.data.ObservableId;
 import com.opengamma.strata.data.ObservableSource;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
 import com.opengamma.strata.data.scenario.MarketDataBox;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.data.scenario.ScenarioPerturbation;
@@ -844,6 +850,172 @@ public class DefaultMarketDataFactoryTest {
     assertThat(values).isEqualTo(expectedValues);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Tests building market data on demand that depends on other market data.
+   */
+  public void buildLazyDataFromOtherData() {
+    LocalDateDoubleTimeSeries timeSeries1 =
+        LocalDateDoubleTimeSeries.builder()
+            .put(date(2011, 3, 8), 1)
+            .put(date(2011, 3, 9), 2)
+            .build();
+    LocalDateDoubleTimeSeries timeSeries2 =
+        LocalDateDoubleTimeSeries.builder()
+            .put(date(2011, 3, 8), 10)
+            .put(date(2011, 3, 9), 20)
+            .build();
+    Map<TestIdA, LocalDateDoubleTimeSeries> timeSeriesMap =
+        ImmutableMap.of(
+            new TestIdA("1"), timeSeries1,
+            new TestIdA("2"), timeSeries2);
+    MarketDataFactory factory = MarketDataFactory.of(
+        new TestObservableDataProvider(),
+        new TestTimeSeriesProvider(timeSeriesMap),
+        new TestMarketDataFunctionB(),
+        new TestMarketDataFunctionC());
+    BuiltScenarioMarketData suppliedData = BuiltScenarioMarketData.builder(date(2011, 3, 8)).build();
+    ScenarioMarketData marketData =
+        factory.createLazyMultiScenario(MARKET_DATA_CONFIG, suppliedData, REF_DATA, ScenarioDefinition.empty());
+    assertThat(marketData.getIds()).isEmpty();
+
+    MarketDataBox<TestMarketDataB> marketDataB1 = marketData.getValue(new TestIdB("1"));
+    TestMarketDataB expectedB1 = new TestMarketDataB(1, new TestMarketDataC(timeSeries1));
+    assertThat(marketDataB1).isEqualTo(MarketDataBox.ofSingleValue(expectedB1));
+    assertThat(marketData.getValue(new TestIdB("1"))).isSameAs(marketDataB1);
+
+    // only the requested data and its dependencies are built
+    assertThat(marketData.getIds()).containsOnly(new TestIdA("1"), new TestIdB("1"), new TestIdC("1"));
+    assertThat(marketData.getTimeSeriesIds()).containsOnly(new TestIdA("1"));
+    assertThat(marketData.getScenarioCount()).isEqualTo(1);
+    assertThat(marketData.getValuationDate()).isEqualTo(MarketDataBox.ofSingleValue(date(2011, 3, 8)));
+  }
+
+  /**
+   * Tests that market data built on demand sees the effects of the perturbations.
+   */
+  public void buildLazyDataFromPerturbedObservableData() {
+    MarketDataFactory factory = MarketDataFactory.of(
+        new TestObservableDataProvider(),
+        new TestTimeSeriesProvider(ImmutableMap.of()),
+        new NonObservableMarketDataFunction());
+    BuiltScenarioMarketData suppliedData = BuiltScenarioMarketData.builder(date(2011, 3, 8)).build();
+
+    MarketDataId<?> id1 = new NonObservableId("a");
+    MarketDataId<?> id2 = new NonObservableId("b");
+    TestObservableId quoteId = TestObservableId.of(StandardId.of("reqs", "b"));
+
+    PerturbationMapping<Double> mapping = PerturbationMapping.of(
+        Double.class,
+        new ExactIdFilter<>(quoteId),
+        new RelativeDoubleShift(0.1, 0.2, 0.3));
+    ScenarioDefinition scenarioDefinition = ScenarioDefinition.ofMappings(ImmutableList.of(mapping));
+    ScenarioMarketData marketData =
+        factory.createLazyMultiScenario(MARKET_DATA_CONFIG, suppliedData, REF_DATA, scenarioDefinition);
+
+    assertThat(marketData.getScenarioCount()).isEqualTo(3);
+    assertThat(marketData.getValue(id1)).isEqualTo(MarketDataBox.ofSingleValue("1.0"));
+    assertThat(marketData.getValue(id2)).isEqualTo(MarketDataBox.ofScenarioValues("2.2", "2.4", "2.6"));
+    assertThat(marketData.getValue(quoteId)).isEqualTo(MarketDataBox.ofScenarioValues(2.2, 2.4, 2.6));
+  }
+
+  /**
+   * Tests that an exception is thrown when market data built on demand has no market data function.
+   */
+  public void buildLazyDataWithMissingBuilder() {
+    MarketDataFactory factory = MarketDataFactory.of(
+        new TestObservableDataProvider(),
+        new TestTimeSeriesProvider(ImmutableMap.of()),
+        new TestMarketDataFunctionB());
+    BuiltScenarioMarketData suppliedData = BuiltScenarioMarketData.builder(date(2011, 3, 8)).build();
+    ScenarioMarketData marketData =
+        factory.createLazyMultiScenario(MARKET_DATA_CONFIG, suppliedData, REF_DATA, ScenarioDefinition.empty());
+
+    // market data B depends on market data C, which has no market data function
+    assertThat(marketData.findValue(new TestIdB("1")).isPresent()).isFalse();
+    assertThrows(
+        () -> marketData.getValue(new TestIdB("1")),
+        FailureException.class,
+        "No market data function available for market data ID of type.*");
+    assertThat(marketData.getIds()).containsOnly(new TestIdA("1"));
+  }
+
+  /**
+   * Tests that market data built on demand returns a rate of one for an FX rate with the same currency twice.
+   */
+  public void buildLazyDataIdentityFxRate() {
+    MarketDataFactory factory = MarketDataFactory.of(
+        new TestObservableDataProvider(),
+        new TestTimeSeriesProvider(ImmutableMap.of()));
+    BuiltScenarioMarketData suppliedData = BuiltScenarioMarketData.builder(date(2011, 3, 8)).build();
+    ScenarioMarketData marketData =
+        factory.createLazyMultiScenario(MARKET_DATA_CONFIG, suppliedData, REF_DATA, ScenarioDefinition.empty());
+
+    FxRateId id = FxRateId.of(GBP, GBP);
+    MarketDataBox<FxRate> expected = MarketDataBox.ofSingleValue(FxRate.of(GBP, GBP, 1));
+    assertThat(marketData.findValue(id)).isEqualTo(Optional.of(expected));
+    assertThat(marketData.getValue(id)).isEqualTo(expected);
+  }
+
+  /**
+   * Tests the default lazy market data, which delegates to the eager building of the supplied data.
+   */
+  public void buildLazyDataDefault() {
+    MarketDataFactory underlying = MarketDataFactory.of(
+        new TestObservableDataProvider(),
+        new TestTimeSeriesProvider(ImmutableMap.of()));
+    MarketDataFactory factory = new MarketDataFactory() {
+
+      @Override
+      public BuiltMarketData create(
+          MarketDataRequirements requirements,
+          MarketDataConfig marketDataConfig,
+          MarketData suppliedData,
+          ReferenceData refData) {
+
+        return underlying.create(requirements, marketDataConfig, suppliedData, refData);
+      }
+
+      @Override
+      public BuiltScenarioMarketData createMultiScenario(
+          MarketDataRequirements requirements,
+          MarketDataConfig marketDataConfig,
+          MarketData suppliedData,
+          ReferenceData refData,
+          ScenarioDefinition scenarioDefinition) {
+
+        return underlying.createMultiScenario(
+            requirements, marketDataConfig, suppliedData, refData, scenarioDefinition);
+      }
+
+      @Override
+      public BuiltScenarioMarketData createMultiScenario(
+          MarketDataRequirements requirements,
+          MarketDataConfig marketDataConfig,
+          ScenarioMarketData suppliedData,
+          ReferenceData refData,
+          ScenarioDefinition scenarioDefinition) {
+
+        return underlying.createMultiScenario(
+            requirements, marketDataConfig, suppliedData, refData, scenarioDefinition);
+      }
+    };
+    TestObservableId quoteId = TestObservableId.of(StandardId.of("reqs", "b"));
+    ScenarioMarketData suppliedData = ImmutableScenarioMarketData.builder(date(2011, 3, 8))
+        .addValue(quoteId, 2d)
+        .build();
+    PerturbationMapping<Double> mapping = PerturbationMapping.of(
+        Double.class,
+        new ExactIdFilter<>(quoteId),
+        new RelativeDoubleShift(0.1, 0.2, 0.3));
+    ScenarioDefinition scenarioDefinition = ScenarioDefinition.ofMappings(ImmutableList.of(mapping));
+    ScenarioMarketData marketData =
+        factory.createLazyMultiScenario(MARKET_DATA_CONFIG, suppliedData, REF_DATA, scenarioDefinition);
+
+    assertThat(marketData.getScenarioCount()).isEqualTo(3);
+    assertThat(marketData.getValue(quoteId)).isEqualTo(MarketDataBox.ofScenarioValues(2.2, 2.4, 2.6));
+  }
+
   /**
    * Tests ObservableDataProvider.none(), which is never normally be invoked.
    */
@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.ObservableSource;
+
+/**
+ * Test {@link MappedTimeSeriesProvider}.
+ */
+@Test
+public class MappedTimeSeriesProviderTest {
+
+  private static final TestObservableId ID1 = TestObservableId.of("1");
+  private static final TestObservableId ID2 = TestObservableId.of("2");
+  private static final TestObservableId ID_EMPTY = TestObservableId.of("empty");
+  private static final LocalDateDoubleTimeSeries SERIES1 = LocalDateDoubleTimeSeries.builder()
+      .put(date(2010, 1, 1), 1d)
+      .put(date(2011, 1, 1), 2d)
+      .put(date(2012, 1, 1), 3d)
+      .put(date(2013, 1, 1), 4d)
+      .build();
+  private static final LocalDateDoubleTimeSeries SERIES2 = LocalDateDoubleTimeSeries.builder()
+      .put(date(2015, 3, 2), 0.01d)
+      .put(date(2015, 3, 3), 0.02d)
+      .build();
+
+  private Path file;
+  private MappedTimeSeriesProvider provider;
+
+  @BeforeClass
+  public void setUp() throws IOException {
+    file = Files.createTempFile("MappedTimeSeriesProviderTest", ".bin");
+    Map<ObservableId, LocalDateDoubleTimeSeries> map = new LinkedHashMap<>();
+    map.put(ID1, SERIES1);
+    map.put(ID_EMPTY, LocalDateDoubleTimeSeries.empty());
+    map.put(ID2, SERIES2);
+    MappedTimeSeriesProvider.write(file, map);
+    provider = MappedTimeSeriesProvider.of(file);
+  }
+
+  @AfterClass
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_provideTimeSeries() {
+    assertEquals(provider.size(), 3);
+    assertEquals(provider.provideTimeSeries(ID1).getValue().toBuilder().build(), SERIES1);
+    assertEquals(provider.provideTimeSeries(ID2).getValue().toBuilder().build(), SERIES2);
+    assertEquals(provider.provideTimeSeries(ID_EMPTY).getValue(), LocalDateDoubleTimeSeries.empty());
+  }
+
+  public void test_provideTimeSeries_missing() {
+    Result<LocalDateDoubleTimeSeries> test = provider.provideTimeSeries(TestObservableId.of("3"));
+    assertTrue(test.isFailure());
+    assertEquals(test.getFailure().getReason(), FailureReason.MISSING_DATA);
+    Result<LocalDateDoubleTimeSeries> otherSource =
+        provider.provideTimeSeries(ID1.withObservableSource(ObservableSource.of("Other")));
+    assertTrue(otherSource.isFailure());
+  }
+
+  public void test_view() {
+    LocalDateDoubleTimeSeries test = provider.provideTimeSeries(ID1).getValue();
+    assertEquals(test.size(), 4);
+    assertEquals(test.isEmpty(), false);
+    assertEquals(test.containsDate(date(2011, 1, 1)), true);
+    assertEquals(test.containsDate(date(2011, 1, 2)), false);
+    assertEquals(test.get(date(2012, 1, 1)), OptionalDouble.of(3d));
+    assertEquals(test.get((int) date(2012, 1, 1).toEpochDay()), OptionalDouble.of(3d));
+    assertEquals(test.get(date(2014, 1, 1)), OptionalDouble.empty());
+    assertEquals(test.getEarliestDate(), date(2010, 1, 1));
+    assertEquals(test.getLatestDate(), date(2013, 1, 1));
+    assertEquals(test.getLatestValue(), 4d);
+    assertEquals(test.values().toArray(), new double[] {1d, 2d, 3d, 4d});
+    assertEquals(test.stream().toArray(), SERIES1.stream().toArray());
+    assertEquals(test.toString(), SERIES1.toString());
+  }
+
+  public void test_view_subSeries() {
+    LocalDateDoubleTimeSeries test = provider.provideTimeSeries(ID1).getValue();
+    assertEquals(test.subSeries(date(2011, 1, 1), date(2013, 1, 1)).toBuilder().build(),
+        SERIES1.subSeries(date(2011, 1, 1), date(2013, 1, 1)));
+    assertEquals(test.subSeries(date(2010, 6, 1), date(2012, 6, 1)).values().toArray(), new double[] {2d, 3d});
+    assertEquals(test.subSeries(date(2011, 1, 1), date(2011, 1, 1)), LocalDateDoubleTimeSeries.empty());
+    assertEquals(test.subSeries(LocalDate.MIN, LocalDate.MAX), test);
+    assertEquals(test.headSeries(2).values().toArray(), new double[] {1d, 2d});
+    assertEquals(test.tailSeries(1).values().toArray(), new double[] {4d});
+    assertEquals(test.headSeries(0), LocalDateDoubleTimeSeries.empty());
+    assertThrowsIllegalArg(() -> test.subSeries(date(2012, 1, 1), date(2011, 1, 1)));
+  }
+
+  public void test_view_operations() {
+    LocalDateDoubleTimeSeries test = provider.provideTimeSeries(ID1).getValue();
+    assertEquals(test.mapValues(v -> v * 2), SERIES1.mapValues(v -> v * 2));
+    assertEquals(test.mapDates(d -> d.plusDays(1)), SERIES1.mapDates(d -> d.plusDays(1)));
+    assertEquals(test.filter((d, v) -> v > 2), SERIES1.filter((d, v) -> v > 2));
+  }
+
+  public void test_view_equals() {
+    LocalDateDoubleTimeSeries test = provider.provideTimeSeries(ID1).getValue();
+    assertEquals(test, provider.provideTimeSeries(ID1).getValue());
+    assertEquals(test.hashCode(), provider.provideTimeSeries(ID1).getValue().hashCode());
+    assertTrue(!test.equals(provider.provideTimeSeries(ID2).getValue()));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_of_notTimeSeriesFile() throws IOException {
+    Path other = Files.createTempFile("MappedTimeSeriesProviderTest", ".txt");
+    try {
+      Files.write(other, "Not a time-series file at all".getBytes("UTF-8"));
+      assertThrowsIllegalArg(() -> MappedTimeSeriesProvider.of(other));
+    } finally {
+      Files.deleteIfExists(other);
+    }
+  }
+
+}
@@ -0,0 +1,234 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link MarketDataCache}.
+ */
+@Test
+public class MarketDataCacheTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final MarketDataConfig MARKET_DATA_CONFIG = MarketDataConfig.empty();
+  private static final TestObservableId QUOTE1 = TestObservableId.of("1");
+  private static final TestObservableId QUOTE2 = TestObservableId.of("2");
+  /** Built from QUOTE1. */
+  private static final TestId ID_A = TestId.of("A");
+  /** Built from QUOTE2 and ID_A. */
+  private static final TestId ID_B = TestId.of("B");
+  /** Built from QUOTE1 and the valuation date. */
+  private static final TestId ID_C = TestId.of("C");
+  private static final MarketDataRequirements REQUIREMENTS = MarketDataRequirements.builder().addValues(ID_B).build();
+
+  //-------------------------------------------------------------------------
+  public void test_unchangedInputs() {
+    MarketDataCache cache = MarketDataCache.create();
+    CountingFunction function = new CountingFunction();
+    MarketDataFactory factory = factory(cache, function);
+
+    BuiltMarketData marketData1 = factory.create(REQUIREMENTS, MARKET_DATA_CONFIG, quotes(1d, 2d), REF_DATA);
+    assertThat(marketData1.getValue(ID_B)).isEqualTo("B2.0:A1.0");
+    assertThat(function.buildCount(ID_A)).isEqualTo(1);
+    assertThat(function.buildCount(ID_B)).isEqualTo(1);
+    assertThat(cache.size()).isEqualTo(2);
+
+    BuiltMarketData marketData2 = factory.create(REQUIREMENTS, MARKET_DATA_CONFIG, quotes(1d, 2d), REF_DATA);
+    assertThat(marketData2.getValue(ID_B)).isEqualTo("B2.0:A1.0");
+    assertThat(function.buildCount(ID_A)).isEqualTo(1);
+    assertThat(function.buildCount(ID_B)).isEqualTo(1);
+  }
+
+  public void test_changedInputs_onlyDownstreamRebuilt() {
+    MarketDataCache cache = MarketDataCache.create();
+    CountingFunction function = new CountingFunction();
+    MarketDataFactory factory = factory(cache, function);
+    factory.create(REQUIREMENTS, MARKET_DATA_CONFIG, quotes(1d, 2d), REF_DATA);
+
+    // only B depends on QUOTE2
+    BuiltMarketData marketData = factory.create(REQUIREMENTS, MARKET_DATA_CONFIG, quotes(1d, 3d), REF_DATA);
+    assertThat(marketData.getValue(ID_B)).isEqualTo("B3.0:A1.0");
+    assertThat(function.buildCount(ID_A)).isEqualTo(1);
+    assertThat(function.buildCount(ID_B)).isEqualTo(2);
+
+    // A and B depend on QUOTE1
+    marketData = factory.create(REQUIREMENTS, MARKET_DATA_CONFIG, quotes(5d, 3d), REF_DATA);
+    assertThat(marketData.getValue(ID_B)).isEqualTo("B3.0:A5.0");
+    assertThat(function.buildCount(ID_A)).isEqualTo(2);
+    assertThat(function.buildCount(ID_B)).isEqualTo(3);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  public void test_changedConfig() {
+    MarketDataCache cache = MarketDataCache.create();
+    CountingFunction function = new CountingFunction();
+    MarketDataFactory factory = factory(cache, function);
+    factory.create(REQUIREMENTS, MARKET_DATA_CONFIG, quotes(1d, 2d), REF_DATA);
+    MarketDataConfig otherConfig = MarketDataConfig.builder().build();
+    factory.create(REQUIREMENTS, otherConfig, quotes(1d, 2d), REF_DATA);
+    assertThat(function.buildCount(ID_A)).isEqualTo(2);
+    assertThat(function.buildCount(ID_B)).isEqualTo(2);
+  }
+
+  public void test_changedValuationDate() {
+    MarketDataCache cache = MarketDataCache.create();
+    CountingFunction function = new CountingFunction();
+    MarketDataFactory factory = factory(cache, function);
+    MarketDataRequirements requirements = MarketDataRequirements.builder().addValues(ID_C).build();
+    BuiltMarketData marketData1 = factory.create(requirements, MARKET_DATA_CONFIG, quotes(1d, 2d), REF_DATA);
+    assertThat(marketData1.getValue(ID_C)).isEqualTo("C1.0@2011-03-08");
+
+    // the same quotes on a different date must not use the cached value
+    MarketData quotes = ImmutableMarketData.builder(date(2011, 3, 9))
+        .addValue(QUOTE1, 1d)
+        .addValue(QUOTE2, 2d)
+        .build();
+    BuiltMarketData marketData2 = factory.create(requirements, MARKET_DATA_CONFIG, quotes, REF_DATA);
+    assertThat(marketData2.getValue(ID_C)).isEqualTo("C1.0@2011-03-09");
+    assertThat(function.buildCount(ID_C)).isEqualTo(2);
+  }
+
+  public void test_changedScenarioCount() {
+    MarketDataCache cache = MarketDataCache.create();
+    CountingFunction function = new CountingFunction();
+    MarketDataFactory factory = factory(cache, function);
+    Map<TestObservableId, MarketDataBox<?>> quotes = ImmutableMap.of(
+        QUOTE1, MarketDataBox.ofSingleValue(1d),
+        QUOTE2, MarketDataBox.ofSingleValue(2d));
+    factory.createMultiScenario(
+        REQUIREMENTS,
+        MARKET_DATA_CONFIG,
+        ScenarioMarketData.of(2, date(2011, 3, 8), quotes, ImmutableMap.of()),
+        REF_DATA,
+        ScenarioDefinition.empty());
+    factory.createMultiScenario(
+        REQUIREMENTS,
+        MARKET_DATA_CONFIG,
+        ScenarioMarketData.of(3, date(2011, 3, 8), quotes, ImmutableMap.of()),
+        REF_DATA,
+        ScenarioDefinition.empty());
+    assertThat(function.buildCount(ID_A)).isEqualTo(2);
+    assertThat(function.buildCount(ID_B)).isEqualTo(2);
+  }
+
+  public void test_invalidate() {
+    MarketDataCache cache = MarketDataCache.create();
+    CountingFunction function = new CountingFunction();
+    MarketDataFactory factory = factory(cache, function);
+    factory.create(REQUIREMENTS, MARKET_DATA_CONFIG, quotes(1d, 2d), REF_DATA);
+    assertThat(cache.contains(ID_A)).isTrue();
+    assertThat(cache.contains(ID_B)).isTrue();
+
+    cache.invalidate(ImmutableSet.of(QUOTE2));
+    assertThat(cache.contains(ID_A)).isTrue();
+    assertThat(cache.contains(ID_B)).isFalse();
+
+    // B is removed as it depends on A
+    factory.create(REQUIREMENTS, MARKET_DATA_CONFIG, quotes(1d, 2d), REF_DATA);
+    cache.invalidate(ImmutableSet.of(QUOTE1));
+    assertThat(cache.size()).isEqualTo(0);
+
+    factory.create(REQUIREMENTS, MARKET_DATA_CONFIG, quotes(1d, 2d), REF_DATA);
+    cache.clear();
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(cache.toString()).isEqualTo("MarketDataCache[size=0]");
+  }
+
+  public void test_scenarios() {
+    MarketDataCache cache = MarketDataCache.create();
+    CountingFunction function = new CountingFunction();
+    MarketDataFactory factory = factory(cache, function);
+    Map<TestObservableId, MarketDataBox<?>> quotes = ImmutableMap.of(
+        QUOTE1, MarketDataBox.ofSingleValue(1d),
+        QUOTE2, MarketDataBox.ofScenarioValues(2d, 3d));
+    ScenarioMarketData suppliedData = ScenarioMarketData.of(2, date(2011, 3, 8), quotes, ImmutableMap.of());
+    BuiltScenarioMarketData marketData1 = factory.createMultiScenario(
+        REQUIREMENTS, MARKET_DATA_CONFIG, suppliedData, REF_DATA, ScenarioDefinition.empty());
+    BuiltScenarioMarketData marketData2 = factory.createMultiScenario(
+        REQUIREMENTS, MARKET_DATA_CONFIG, suppliedData, REF_DATA, ScenarioDefinition.empty());
+    assertThat(marketData1.getValue(ID_B)).isEqualTo(MarketDataBox.ofScenarioValues("B2.0:A1.0", "B3.0:A1.0"));
+    assertThat(marketData2.getValue(ID_B)).isEqualTo(marketData1.getValue(ID_B));
+    assertThat(function.buildCount(ID_B)).isEqualTo(1);
+  }
+
+  //-------------------------------------------------------------------------
+  private static MarketDataFactory factory(MarketDataCache cache, CountingFunction function) {
+    return MarketDataFactory.of(
+        ObservableDataProvider.none(),
+        TimeSeriesProvider.none(),
+        cache,
+        ImmutableList.<MarketDataFunction<?, ?>>of(function));
+  }
+
+  private static MarketData quotes(double quote1, double quote2) {
+    return ImmutableMarketData.builder(date(2011, 3, 8))
+        .addValue(QUOTE1, quote1)
+        .addValue(QUOTE2, quote2)
+        .build();
+  }
+
+  /**
+   * Function building ID_A from QUOTE1, ID_B from QUOTE2 and ID_A, and ID_C from QUOTE1 and the valuation date,
+   * counting the number of builds.
+   */
+  private static final class CountingFunction implements MarketDataFunction<String, TestId> {
+
+    private final Map<TestId, Integer> buildCounts = new HashMap<>();
+
+    int buildCount(TestId id) {
+      return buildCounts.getOrDefault(id, 0);
+    }
+
+    @Override
+    public MarketDataRequirements requirements(TestId id, MarketDataConfig marketDataConfig) {
+      if (id.equals(ID_A) || id.equals(ID_C)) {
+        return MarketDataRequirements.builder().addValues(QUOTE1).build();
+      }
+      return MarketDataRequirements.builder().addValues(QUOTE2, ID_A).build();
+    }
+
+    @Override
+    public MarketDataBox<String> build(
+        TestId id,
+        MarketDataConfig marketDataConfig,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      buildCounts.merge(id, 1, Integer::sum);
+      if (id.equals(ID_A)) {
+        return marketData.getValue(QUOTE1).map(quote -> "A" + quote);
+      }
+      if (id.equals(ID_C)) {
+        MarketDataBox<Double> quote1 = marketData.getValue(QUOTE1);
+        return quote1.combineWith(marketData.getValuationDate(), (quote, date) -> "C" + quote + "@" + date);
+      }
+      MarketDataBox<String> valueA = marketData.getValue(ID_A);
+      return marketData.getValue(QUOTE2).combineWith(valueA, (quote, a) -> "B" + quote + ":" + a);
+    }
+
+    @Override
+    public Class<TestId> getMarketDataIdType() {
+      return TestId.class;
+    }
+  }
+
+}
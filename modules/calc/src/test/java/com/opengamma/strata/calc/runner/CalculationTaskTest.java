@@ -447,6 +447,15 @@ public class CalculationTaskTest {
     assertThat(requirements.getNonObservables()).isEmpty();
   }
 
+  public void costEstimate() {
+    CalculationTaskCell cell1 = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    CalculationTaskCell cell2 = CalculationTaskCell.of(0, 1, TestingMeasures.PRESENT_VALUE_MULTI_CCY, NATURAL);
+    CalculationTask task = CalculationTask.of(TARGET, new TestFunction(), cell1, cell2);
+    assertThat(task.costEstimate(1)).isEqualTo(2d);
+    assertThat(task.costEstimate(10)).isEqualTo(20d);
+    assertThat(task.costEstimate(0)).isEqualTo(2d);
+  }
+
   public void testToString() {
     OutputCurrenciesFunction fn = new OutputCurrenciesFunction();
     CalculationTaskCell cell = CalculationTaskCell.of(1, 2, TestingMeasures.PRESENT_VALUE, REPORTING_CURRENCY_USD);
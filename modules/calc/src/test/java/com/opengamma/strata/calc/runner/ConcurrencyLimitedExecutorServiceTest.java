@@ -0,0 +1,118 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test {@link ConcurrencyLimitedExecutorService}.
+ */
+@Test
+public class ConcurrencyLimitedExecutorServiceTest {
+
+  public void test_limitsConcurrency() throws Exception {
+    int taskCount = 50;
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(taskCount);
+    ExecutorService test = new ConcurrencyLimitedExecutorService(Executors.newCachedThreadPool(), 3);
+    for (int i = 0; i < taskCount; i++) {
+      test.execute(() -> {
+        int current = running.incrementAndGet();
+        maxRunning.accumulateAndGet(current, Math::max);
+        sleep(2);
+        running.decrementAndGet();
+        latch.countDown();
+      });
+    }
+    assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+    test.shutdown();
+    assertThat(test.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(test.isShutdown()).isTrue();
+    assertThat(test.isTerminated()).isTrue();
+  }
+
+  public void test_shutdown_runsQueuedTasks() throws Exception {
+    AtomicInteger count = new AtomicInteger();
+    ExecutorService test = new ConcurrencyLimitedExecutorService(Executors.newCachedThreadPool(), 1);
+    for (int i = 0; i < 10; i++) {
+      test.execute(() -> {
+        sleep(1);
+        count.incrementAndGet();
+      });
+    }
+    test.shutdown();
+    assertThrows(() -> test.execute(() -> {}), RejectedExecutionException.class);
+    assertThat(test.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(count.get()).isEqualTo(10);
+  }
+
+  public void test_queuedTasksNotLost() throws Exception {
+    ExecutorService underlying = Executors.newCachedThreadPool();
+    ExecutorService test = new ConcurrencyLimitedExecutorService(underlying, 1);
+    CountDownLatch latch = new CountDownLatch(1);
+    Future<Integer> running = test.submit(() -> {
+      latch.await();
+      return 0;
+    });
+    List<Future<Integer>> queued = new ArrayList<>();
+    for (int i = 1; i < 10; i++) {
+      int value = i;
+      queued.add(test.submit(() -> value));
+    }
+    // the underlying executor now rejects new tasks, but the queued tasks are still run
+    underlying.shutdown();
+    latch.countDown();
+    assertThat(running.get(10, TimeUnit.SECONDS)).isEqualTo(0);
+    for (int i = 1; i < 10; i++) {
+      assertThat(queued.get(i - 1).get(10, TimeUnit.SECONDS)).isEqualTo(i);
+    }
+    test.shutdown();
+    assertThat(test.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  public void test_underlyingRejects() throws Exception {
+    ExecutorService underlying = Executors.newCachedThreadPool();
+    underlying.shutdown();
+    ExecutorService test = new ConcurrencyLimitedExecutorService(underlying, 1);
+    // the rejected task is not counted as running, thus the second task is not queued
+    assertThrows(() -> test.submit(() -> 1), RejectedExecutionException.class);
+    assertThrows(() -> test.submit(() -> 2), RejectedExecutionException.class);
+    test.shutdown();
+    assertThat(test.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(test.isTerminated()).isTrue();
+  }
+
+  public void test_invalid() {
+    assertThrowsIllegalArg(() -> new ConcurrencyLimitedExecutorService(Executors.newCachedThreadPool(), 0));
+    assertThrowsIllegalArg(() -> new ConcurrencyLimitedExecutorService(null, 1));
+  }
+
+  //-------------------------------------------------------------------------
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
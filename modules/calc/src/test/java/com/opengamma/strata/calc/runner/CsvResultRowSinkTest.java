@@ -0,0 +1,58 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+
+/**
+ * Test {@link CsvResultRowSink}.
+ */
+@Test
+public class CsvResultRowSinkTest {
+
+  private static final TestTarget TARGET = new TestTarget();
+  private static final ImmutableList<Column> COLUMNS = ImmutableList.of(
+      Column.of(TestingMeasures.PRESENT_VALUE),
+      Column.of(TestingMeasures.PAR_RATE));
+
+  //-------------------------------------------------------------------------
+  public void test_singleValues() {
+    StringBuilder buf = new StringBuilder();
+    CsvResultRowSink test = CsvResultRowSink.of(COLUMNS, buf);
+    test.rowCompleted(3, TARGET, ImmutableList.of(
+        Result.success("a"),
+        Result.failure(FailureReason.CALCULATION_FAILED, "Bad")));
+    test.complete();
+    assertThat(buf.toString()).isEqualTo((
+        "Row,Scenario,PresentValue,ParRate\n" +
+            "3,0,a,FAIL: Bad\n").replace("\n", System.lineSeparator()));
+  }
+
+  public void test_scenarioValues() {
+    StringBuilder buf = new StringBuilder();
+    CsvResultRowSink test = CsvResultRowSink.of(COLUMNS, buf, v -> "<" + v + ">");
+    test.rowCompleted(1, TARGET, ImmutableList.of(
+        Result.success(CurrencyScenarioArray.of(USD, DoubleArray.of(1, 2))),
+        Result.success(5)));
+    assertThat(buf.toString()).isEqualTo((
+        "Row,Scenario,PresentValue,ParRate\n" +
+            "1,0,<USD 1>,<5>\n" +
+            "1,1,<USD 2>,<5>\n").replace("\n", System.lineSeparator()));
+  }
+
+}
@@ -12,8 +12,12 @@ import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static com.opengamma.strata.collect.TestHelper.date;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import org.testng.annotations.Test;
 
@@ -185,6 +189,150 @@ public class DefaultCalculationTaskRunnerTest {
     assertThat(results.getColumns().get(0).getMeasure()).isEqualTo(TestingMeasures.PRESENT_VALUE);
   }
 
+  /**
+   * Test that the work-stealing runner calculates every cell, whatever the cost of the tasks.
+   */
+  public void calculateWorkStealing() {
+    int rowCount = 100;
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    ImmutableList.Builder<CalculationTask> taskBuilder = ImmutableList.builder();
+    for (int i = 0; i < rowCount; i++) {
+      CalculationTaskCell cell = CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+      taskBuilder.add(CalculationTask.of(TARGET, new CostedFunction(i % 7), cell));
+    }
+    CalculationTasks tasks = CalculationTasks.of(taskBuilder.build(), ImmutableList.of(column));
+
+    try (CalculationTaskRunner test = CalculationTaskRunner.ofWorkStealing()) {
+      MarketData marketData = MarketData.empty(VAL_DATE);
+      Results results = test.calculate(tasks, marketData, REF_DATA);
+      assertThat(results.getRowCount()).isEqualTo(rowCount);
+      for (int i = 0; i < rowCount; i++) {
+        assertThat(results.get(i, 0)).hasValue("bar");
+      }
+      Results multiResults = test.calculateMultiScenario(tasks, ScenarioMarketData.of(1, marketData), REF_DATA);
+      assertThat(multiResults.getRowCount()).isEqualTo(rowCount);
+    }
+  }
+
+  /**
+   * Test that the work-stealing runner starts the most expensive tasks first.
+   */
+  public void calculateWorkStealingMostExpensiveFirst() {
+    double[] costs = {3, 1, 5, 2, 4};
+    List<Double> calculated = Collections.synchronizedList(new ArrayList<>());
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    ImmutableList.Builder<CalculationTask> taskBuilder = ImmutableList.builder();
+    for (int i = 0; i < costs.length; i++) {
+      CalculationTaskCell cell = CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+      taskBuilder.add(CalculationTask.of(TARGET, new CostedFunction(costs[i], calculated), cell));
+    }
+    CalculationTasks tasks = CalculationTasks.of(taskBuilder.build(), ImmutableList.of(column));
+
+    // a single thread runs the tasks in the order they are submitted
+    try (CalculationTaskRunner test = CalculationTaskRunner.ofWorkStealing(new ForkJoinPool(1))) {
+      Results results = test.calculate(tasks, MarketData.empty(VAL_DATE), REF_DATA);
+      assertThat(results.getRowCount()).isEqualTo(costs.length);
+    }
+    assertThat(calculated).containsExactly(5d, 4d, 3d, 2d, 1d);
+  }
+
+  /**
+   * Tests that the work-stealing runner completes when there are no tasks.
+   */
+  public void calculateWorkStealingWithNoTasks() {
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(), ImmutableList.of(column));
+
+    try (CalculationTaskRunner test = CalculationTaskRunner.ofWorkStealing()) {
+      Results results = test.calculate(tasks, MarketData.empty(VAL_DATE), REF_DATA);
+      assertThat(results.getRowCount()).isEqualTo(0);
+    }
+  }
+
+  /**
+   * Tests that the virtual thread runner calculates all the tasks.
+   */
+  public void calculateVirtualThreads() {
+    int rowCount = 100;
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    ImmutableList.Builder<CalculationTask> taskBuilder = ImmutableList.builder();
+    for (int i = 0; i < rowCount; i++) {
+      CalculationTaskCell cell = CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+      taskBuilder.add(CalculationTask.of(TARGET, new CostedFunction(1), cell));
+    }
+    CalculationTasks tasks = CalculationTasks.of(taskBuilder.build(), ImmutableList.of(column));
+
+    try (CalculationTaskRunner test = CalculationTaskRunner.ofVirtualThreads(4)) {
+      Results results = test.calculate(tasks, MarketData.empty(VAL_DATE), REF_DATA);
+      assertThat(results.getRowCount()).isEqualTo(rowCount);
+      for (int i = 0; i < rowCount; i++) {
+        assertThat(results.get(i, 0)).hasValue("bar");
+      }
+    }
+  }
+
+  public void ofVirtualThreads_invalid() {
+    assertThrowsIllegalArg(() -> CalculationTaskRunner.ofVirtualThreads(0));
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class CostedFunction implements CalculationFunction<TestTarget> {
+
+    private final double cost;
+    private final List<Double> calculated;
+
+    private CostedFunction(double cost) {
+      this(cost, Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    private CostedFunction(double cost, List<Double> calculated) {
+      this.cost = cost;
+      this.calculated = calculated;
+    }
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public double costEstimate(TestTarget target) {
+      return cost;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      calculated.add(cost);
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(ScenarioArray.of("bar")));
+    }
+  }
+
   //-------------------------------------------------------------------------
   private static final class ScenarioResultFunction implements CalculationFunction<TestTarget> {
 
@@ -0,0 +1,247 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.calc.ReportingCurrency.NATURAL;
+import static com.opengamma.strata.collect.CollectProjectAssertions.assertThat;
+import static com.opengamma.strata.collect.TestHelper.date;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.marketdata.TestId;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.ConcatenableScenarioArray;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link ScenarioChunkedExecution}.
+ */
+@Test
+public class ScenarioChunkedExecutionTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final TestTarget TARGET = new TestTarget();
+  private static final LocalDate VAL_DATE = date(2011, 3, 8);
+  private static final TestId ID = TestId.of("1");
+  private static final ScenarioMarketData MARKET_DATA = ImmutableScenarioMarketData.builder(VAL_DATE)
+      .addBox(ID, MarketDataBox.ofScenarioValues("1", "2", "3", "4", "5", "6", "7"))
+      .build();
+  private static final CalculationTaskCell CELL = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+
+  //-------------------------------------------------------------------------
+  public void test_execute_chunked() {
+    CalculationTask task = CalculationTask.of(TARGET, new ScenarioFunction(md -> currencyArray(md)), CELL);
+    CalculationResults expected = task.execute(MARKET_DATA, REF_DATA);
+    for (int chunkSize = 0; chunkSize < 9; chunkSize++) {
+      CalculationResults test = ScenarioChunkedExecution.execute(
+          task, MARKET_DATA, REF_DATA, chunkSize, MoreExecutors.directExecutor());
+      assertThat(test).isEqualTo(expected);
+    }
+    assertThat(expected.getCells().get(0).getResult())
+        .hasValue(CurrencyScenarioArray.of(USD, DoubleArray.of(1, 2, 3, 4, 5, 6, 7)));
+  }
+
+  public void test_execute_chunkedGeneric() {
+    CalculationTask task = CalculationTask.of(TARGET, new ScenarioFunction(md -> stringArray(md)), CELL);
+    CalculationResults test = ScenarioChunkedExecution.execute(
+        task, MARKET_DATA, REF_DATA, 2, MoreExecutors.directExecutor());
+    assertThat(test.getCells().get(0).getResult()).hasValue(ScenarioArray.of("1", "2", "3", "4", "5", "6", "7"));
+  }
+
+  public void test_execute_chunkedConcatenable() {
+    CalculationTask task = CalculationTask.of(TARGET, new ScenarioFunction(md -> new TestArray(stringArray(md))), CELL);
+    CalculationResults test = ScenarioChunkedExecution.execute(
+        task, MARKET_DATA, REF_DATA, 3, MoreExecutors.directExecutor());
+    // the array joins the chunks itself, retaining its type
+    assertThat(test.getCells().get(0).getResult())
+        .hasValue(new TestArray(ScenarioArray.of("1", "2", "3", "4", "5", "6", "7")));
+  }
+
+  public void test_execute_aggregate() {
+    // the function aggregates across scenarios and does not support chunking, so it is invoked once
+    ScenarioFunction function = new ScenarioFunction(md -> md.getScenarioCount(), false);
+    CalculationTask task = CalculationTask.of(TARGET, function, CELL);
+    CalculationResults test = ScenarioChunkedExecution.execute(
+        task, MARKET_DATA, REF_DATA, 3, MoreExecutors.directExecutor());
+    assertThat(test.getCells().get(0).getResult()).hasValue(7);
+    assertThat(function.calculateCount.get()).isEqualTo(1);
+  }
+
+  public void test_execute_aggregateUndeclared() {
+    // the chunks cannot be combined, so the task is executed again without splitting
+    ScenarioFunction function = new ScenarioFunction(md -> md.getScenarioCount());
+    CalculationTask task = CalculationTask.of(TARGET, function, CELL);
+    CalculationResults test = ScenarioChunkedExecution.execute(
+        task, MARKET_DATA, REF_DATA, 3, MoreExecutors.directExecutor());
+    assertThat(test.getCells().get(0).getResult()).hasValue(7);
+    assertThat(function.calculateCount.get()).isEqualTo(4);
+  }
+
+  public void test_execute_scenarioIndependent() {
+    // the value is the same in every chunk, so it is used as is
+    ScenarioFunction function = new ScenarioFunction(md -> "Resolved");
+    CalculationTask task = CalculationTask.of(TARGET, function, CELL);
+    CalculationResults test = ScenarioChunkedExecution.execute(
+        task, MARKET_DATA, REF_DATA, 3, MoreExecutors.directExecutor());
+    assertThat(test.getCells().get(0).getResult()).hasValue("Resolved");
+    assertThat(function.calculateCount.get()).isEqualTo(3);
+  }
+
+  public void test_execute_failure() {
+    CalculationTask task = CalculationTask.of(TARGET, new ScenarioFunction(md -> {
+      throw new IllegalArgumentException("Bad");
+    }), CELL);
+    CalculationResults test = ScenarioChunkedExecution.execute(
+        task, MARKET_DATA, REF_DATA, 3, MoreExecutors.directExecutor());
+    assertThat(test.getCells().get(0).getResult()).isFailure(FailureReason.CALCULATION_FAILED);
+  }
+
+  public void test_runner() {
+    CalculationTask task = CalculationTask.of(TARGET, new ScenarioFunction(md -> currencyArray(md)), CELL);
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    CalculationTasks tasks = CalculationTasks.of(ImmutableList.of(task), ImmutableList.of(column));
+
+    try (CalculationTaskRunner test = CalculationTaskRunner.ofMultiThreaded().withScenarioChunkSize(2)) {
+      Results results = test.calculateMultiScenario(tasks, MARKET_DATA, REF_DATA);
+      assertThat(results.get(0, 0)).hasValue(CurrencyScenarioArray.of(USD, DoubleArray.of(1, 2, 3, 4, 5, 6, 7)));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private static CurrencyScenarioArray currencyArray(ScenarioMarketData marketData) {
+    return CurrencyScenarioArray.of(
+        USD,
+        DoubleArray.of(marketData.getScenarioCount(), i -> Double.parseDouble(marketData.scenario(i).getValue(ID))));
+  }
+
+  private static ScenarioArray<String> stringArray(ScenarioMarketData marketData) {
+    return ScenarioArray.of(marketData.getScenarioCount(), i -> marketData.scenario(i).getValue(ID));
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class ScenarioFunction implements CalculationFunction<TestTarget> {
+
+    private final Function<ScenarioMarketData, Object> fn;
+    private final boolean chunking;
+    private final AtomicInteger calculateCount = new AtomicInteger();
+
+    private ScenarioFunction(Function<ScenarioMarketData, Object> fn) {
+      this(fn, true);
+    }
+
+    private ScenarioFunction(Function<ScenarioMarketData, Object> fn, boolean chunking) {
+      this.fn = fn;
+      this.chunking = chunking;
+    }
+
+    @Override
+    public boolean supportsScenarioChunking() {
+      return chunking;
+    }
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return ImmutableSet.of(TestingMeasures.PRESENT_VALUE);
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      calculateCount.incrementAndGet();
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(fn.apply(marketData)));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class TestArray implements ConcatenableScenarioArray<String> {
+
+    private final ScenarioArray<String> values;
+
+    private TestArray(ScenarioArray<String> values) {
+      this.values = values;
+    }
+
+    @Override
+    public int getScenarioCount() {
+      return values.getScenarioCount();
+    }
+
+    @Override
+    public String get(int scenarioIndex) {
+      return values.get(scenarioIndex);
+    }
+
+    @Override
+    public ScenarioArray<String> concatWith(List<? extends ScenarioArray<String>> others) {
+      List<String> joined = new ArrayList<>();
+      values.stream().forEach(joined::add);
+      others.forEach(other -> other.stream().forEach(joined::add));
+      return new TestArray(ScenarioArray.of(joined));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof TestArray && ((TestArray) obj).values.equals(values);
+    }
+
+    @Override
+    public int hashCode() {
+      return values.hashCode();
+    }
+  }
+
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * Test {@link StreamingCalculationListener}.
+ */
+@Test
+public class StreamingCalculationListenerTest {
+
+  private static final TestTarget TARGET = new TestTarget();
+
+  //-------------------------------------------------------------------------
+  public void test_rowsPassedWhenComplete() {
+    RecordingSink sink = new RecordingSink();
+    StreamingCalculationListener test = StreamingCalculationListener.of(2, sink);
+
+    test.resultReceived(TARGET, CalculationResult.of(0, 0, Result.success("a")));
+    test.resultReceived(TARGET, CalculationResult.of(1, 1, Result.success("d")));
+    assertThat(sink.rows).isEmpty();
+    test.resultReceived(TARGET, CalculationResult.of(1, 0, Result.success("c")));
+    assertThat(sink.rows).containsExactly("1:[c, d]");
+    test.resultReceived(TARGET, CalculationResult.of(0, 1, Result.success("b")));
+    assertThat(sink.rows).containsExactly("1:[c, d]", "0:[a, b]");
+    assertThat(sink.complete).isFalse();
+
+    test.calculationsComplete();
+    assertThat(test.result()).isEqualTo(2);
+    assertThat(test.getMaxRowsInFlight()).isEqualTo(2);
+    assertThat(sink.complete).isTrue();
+  }
+
+  public void test_incompleteRowsPassedAtEnd() {
+    RecordingSink sink = new RecordingSink();
+    StreamingCalculationListener test = StreamingCalculationListener.of(2, sink);
+
+    test.resultReceived(TARGET, CalculationResult.of(3, 0, Result.success("a")));
+    test.resultReceived(TARGET, CalculationResult.of(2, 1, Result.success("b")));
+    test.calculationsComplete();
+    assertThat(test.result()).isEqualTo(2);
+    assertThat(sink.rows).hasSize(2);
+    assertThat(sink.results.get(0).get(0).getFailure().getReason()).isEqualTo(FailureReason.MISSING_DATA);
+    assertThat(sink.results.get(0).get(1).getValue()).isEqualTo("b");
+    assertThat(sink.results.get(1).get(0).getValue()).isEqualTo("a");
+    assertThat(sink.results.get(1).get(1).isFailure()).isTrue();
+  }
+
+  public void test_invalid() {
+    assertThrowsIllegalArg(() -> StreamingCalculationListener.of(0, new RecordingSink()));
+    assertThrowsIllegalArg(() -> StreamingCalculationListener.of(1, null));
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class RecordingSink implements ResultRowSink {
+
+    private final List<String> rows = new ArrayList<>();
+    private final List<List<Result<?>>> results = new ArrayList<>();
+    private boolean complete;
+
+    @Override
+    public void rowCompleted(int rowIndex, CalculationTarget target, List<Result<?>> results) {
+      List<Object> values = new ArrayList<>();
+      for (Result<?> result : results) {
+        values.add(result.isSuccess() ? result.getValue() : "FAIL");
+      }
+      rows.add(rowIndex + ":" + values);
+      this.results.add(ImmutableList.copyOf(results));
+    }
+
+    @Override
+    public void complete() {
+      complete = true;
+    }
+  }
+
+}
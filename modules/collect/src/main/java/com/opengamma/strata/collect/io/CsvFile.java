@@ -7,6 +7,8 @@ package com.opengamma.strata.collect.io;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -26,7 +28,8 @@ import com.opengamma.strata.collect.Unchecked;
  * Represents a CSV file together with the ability to parse it from a {@link CharSource}.
  * The separator may be specified, allowing TSV files (tab-separated) and other similar formats to be parsed.
  * <p>
- * This class loads the entire CSV file into memory.
+ * This class loads the entire CSV file into memory, although the text is read line-by-line
+ * and only the parsed rows are retained.
  * To process the CSV file row-by-row, use {@link CsvIterator}.
  * <p>
  * The CSV file format is a general-purpose comma-separated value format.
@@ -88,16 +91,15 @@ public final class CsvFile {
    */
   public static CsvFile of(CharSource source, boolean headerRow, char separator) {
     ArgChecker.notNull(source, "source");
-    ImmutableList<String> lines = Unchecked.wrap(() -> source.readLines());
-    ArrayList<ImmutableList<String>> parsedCsv = parseAll(lines, separator);
+    ArrayList<ImmutableList<String>> parsedCsv = Unchecked.wrap(() -> parseAll(source, separator));
     if (!headerRow) {
-      return new CsvFile(ImmutableList.of(), ImmutableMap.of(), ImmutableList.copyOf(parsedCsv));
+      return new CsvFile(ImmutableList.of(), ImmutableMap.of(), parsedCsv);
     }
     if (parsedCsv.isEmpty()) {
       throw new IllegalArgumentException("Could not read header row from empty CSV file");
     }
-    ImmutableList<String> headers = parsedCsv.remove(0);
-    return new CsvFile(headers, buildSearchHeaders(headers), ImmutableList.copyOf(parsedCsv));
+    ImmutableList<String> headers = parsedCsv.get(0);
+    return new CsvFile(headers, buildSearchHeaders(headers), parsedCsv.subList(1, parsedCsv.size()));
   }
 
   //------------------------------------------------------------------------
@@ -127,63 +129,73 @@ public final class CsvFile {
   }
 
   //------------------------------------------------------------------------
-  // parses the CSV file format
-  private static ArrayList<ImmutableList<String>> parseAll(ImmutableList<String> lines, char separator) {
+  // parses the CSV file format, reading line-by-line to avoid holding the whole text in memory
+  private static ArrayList<ImmutableList<String>> parseAll(CharSource source, char separator) throws IOException {
     ArrayList<ImmutableList<String>> parsedLines = new ArrayList<>();
-    for (String line : lines) {
-      ImmutableList<String> parsed = parseLine(line, separator);
-      if (!parsed.isEmpty()) {
-        parsedLines.add(parsed);
+    try (BufferedReader reader = source.openBufferedStream()) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        ImmutableList<String> parsed = parseLine(line, separator);
+        if (!parsed.isEmpty()) {
+          parsedLines.add(parsed);
+        }
       }
     }
     return parsedLines;
   }
 
   // parse a single line
+  // this is a single pass over the line, with fast handling of unquoted fields
   static ImmutableList<String> parseLine(String line, char separator) {
     if (line.length() == 0 || line.startsWith("#") || line.startsWith(";")) {
       return ImmutableList.of();
     }
     ImmutableList.Builder<String> builder = ImmutableList.builder();
+    boolean hasContent = false;
+    int length = line.length();
     int start = 0;
-    String terminated = line + separator;
-    int nextSeparator = terminated.indexOf(separator, start);
-    while (nextSeparator >= 0) {
-      String possible = terminated.substring(start, nextSeparator).trim();
-      if (possible.startsWith("\"")) {
-        while (true) {
-          if (possible.substring(1).replace("\"\"", "").endsWith("\"")) {
-            possible = possible.substring(1, possible.length() - 1).replace("\"\"", "\"");
-            break;
-          } else {
-            nextSeparator = terminated.indexOf(separator, nextSeparator + 1);
-            if (nextSeparator < 0) {
-              throw new IllegalArgumentException("Mismatched quotes on line: " + line);
-            }
-            possible = terminated.substring(start, nextSeparator).trim();
+    while (start <= length) {
+      int end = nextSeparator(line, separator, start);
+      // trim without creating an intermediate string
+      int fieldStart = start;
+      int fieldEnd = end;
+      while (fieldStart < fieldEnd && line.charAt(fieldStart) <= ' ') {
+        fieldStart++;
+      }
+      while (fieldEnd > fieldStart && line.charAt(fieldEnd - 1) <= ' ') {
+        fieldEnd--;
+      }
+      String field;
+      if (fieldStart < fieldEnd && line.charAt(fieldStart) == '"') {
+        // quoted field, which may contain separators
+        String possible = line.substring(fieldStart, fieldEnd);
+        while (!possible.substring(1).replace("\"\"", "").endsWith("\"")) {
+          if (end >= length) {
+            throw new IllegalArgumentException("Mismatched quotes on line: " + line);
           }
+          end = nextSeparator(line, separator, end + 1);
+          possible = line.substring(start, end).trim();
         }
+        field = possible.substring(1, possible.length() - 1).replace("\"\"", "\"");
+        hasContent |= !field.trim().isEmpty();
+      } else {
+        field = line.substring(fieldStart, fieldEnd);
+        hasContent |= fieldStart < fieldEnd;
       }
-      builder.add(possible);
-      start = nextSeparator + 1;
-      nextSeparator = terminated.indexOf(separator, start);
+      builder.add(field);
+      start = end + 1;
     }
-    ImmutableList<String> fields = builder.build();
-    if (!hasContent(fields)) {
+    // this handles lines that contain separators but nothing else
+    if (!hasContent) {
       return ImmutableList.of();
     }
-    return fields;
+    return builder.build();
   }
 
-  // determines whether there is any content on a line
-  // this handles lines that contain separators but nothing else
-  private static boolean hasContent(ImmutableList<String> fields) {
-    for (String field : fields) {
-      if (!field.trim().isEmpty()) {
-        return true;
-      }
-    }
-    return false;
+  // finds the next separator, returning the length of the line if not found
+  private static int nextSeparator(String line, char separator, int fromIndex) {
+    int index = line.indexOf(separator, fromIndex);
+    return index < 0 ? line.length() : index;
   }
 
   // build the search headers
@@ -207,7 +219,7 @@ public final class CsvFile {
   private CsvFile(
       ImmutableList<String> headers,
       ImmutableMap<String, Integer> searchHeaders,
-      ImmutableList<ImmutableList<String>> rows) {
+      List<ImmutableList<String>> rows) {
 
     this.headers = headers;
     this.searchHeaders = searchHeaders;
@@ -118,12 +118,15 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
       if (!headerRow) {
         return new CsvIterator(reader, separator, ImmutableList.of(), ImmutableMap.of());
       }
-      String line = reader.readLine();
-      if (line == null) {
-        throw new IllegalArgumentException("Could not read header row from empty CSV file");
+      // the header is the first line with content, matching CsvFile
+      String line;
+      while ((line = reader.readLine()) != null) {
+        ImmutableList<String> headers = CsvFile.parseLine(line, separator);
+        if (!headers.isEmpty()) {
+          return new CsvIterator(reader, separator, headers, CsvFile.buildSearchHeaders(headers));
+        }
       }
-      ImmutableList<String> headers = CsvFile.parseLine(line, separator);
-      return new CsvIterator(reader, separator, headers, CsvFile.buildSearchHeaders(headers));
+      throw new IllegalArgumentException("Could not read header row from empty CSV file");
 
     } catch (RuntimeException ex) {
       try {
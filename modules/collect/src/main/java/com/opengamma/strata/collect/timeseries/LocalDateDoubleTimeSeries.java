@@ -123,6 +123,20 @@ public interface LocalDateDoubleTimeSeries {
    */
   public abstract OptionalDouble get(LocalDate date);
 
+  /**
+   * Gets the value associated with the specified date, expressed as an epoch-day.
+   * <p>
+   * This is equivalent to {@code get(LocalDate.ofEpochDay(epochDay))}, but allows
+   * implementations to perform the lookup without creating a {@code LocalDate}.
+   *
+   * @param epochDay  the date to get the value for, expressed as an epoch-day
+   * @return the value associated with the date, optional empty if the date is not present
+   * @see LocalDate#toEpochDay()
+   */
+  public default OptionalDouble get(int epochDay) {
+    return get(LocalDate.ofEpochDay(epochDay));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Get the earliest date contained in this time-series.
@@ -5,10 +5,16 @@
  */
 package com.opengamma.strata.collect.timeseries;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.OptionalDouble;
@@ -23,13 +29,10 @@ import java.util.stream.Stream;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
-import org.joda.beans.BeanDefinition;
 import org.joda.beans.ImmutableBean;
-import org.joda.beans.ImmutableConstructor;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.Property;
-import org.joda.beans.PropertyDefinition;
 import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
 import org.joda.beans.impl.direct.DirectMetaBean;
 import org.joda.beans.impl.direct.DirectMetaProperty;
@@ -50,8 +53,12 @@ import com.opengamma.strata.collect.function.ObjDoublePredicate;
  * is likely to be a better choice for the data.
  * <p>
  * This implementation uses arrays internally.
+ * The dates are stored as epoch-days in an {@code int} array, avoiding the memory
+ * overhead of a {@code LocalDate} object for each point.
+ * <p>
+ * The bean and serialized forms expose the dates as a {@code LocalDate} array named 'dates'.
+ * Since this differs from the stored form, the meta-bean is written manually rather than generated.
  */
-@BeanDefinition(builderScope = "private")
 final class SparseLocalDateDoubleTimeSeries
     implements ImmutableBean, Serializable, LocalDateDoubleTimeSeries {
 
@@ -59,20 +66,32 @@ final class SparseLocalDateDoubleTimeSeries
    * An empty time-series.
    */
   static final LocalDateDoubleTimeSeries EMPTY =
-      new SparseLocalDateDoubleTimeSeries(new LocalDate[0], new double[0]);
+      new SparseLocalDateDoubleTimeSeries(new int[0], new double[0], true);
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * The serialized form, which holds the dates as a {@code LocalDate} array.
+   */
+  private static final ObjectStreamField[] serialPersistentFields = {
+      new ObjectStreamField("dates", LocalDate[].class),
+      new ObjectStreamField("values", double[].class)};
 
   /**
-   * The dates in the series.
+   * The dates in the series, expressed as epoch-days.
    * The dates are ordered from earliest to latest.
    */
-  @PropertyDefinition(get = "manual", validate = "notNull")
-  private final LocalDate[] dates;
+  private final int[] epochDays;
   /**
    * The values in the series.
    * The date for each value is at the matching array index.
    */
-  @PropertyDefinition(get = "manual", validate = "notNull")
   private final double[] values;
+  /**
+   * The time-series read by Java serialization, null otherwise.
+   */
+  private transient SparseLocalDateDoubleTimeSeries deserialized;
 
   //-------------------------------------------------------------------------
   /**
@@ -87,63 +106,115 @@ final class SparseLocalDateDoubleTimeSeries
   static SparseLocalDateDoubleTimeSeries of(Collection<LocalDate> dates, Collection<Double> values) {
     ArgChecker.noNulls(dates, "dates");
     ArgChecker.noNulls(values, "values");
-    LocalDate[] datesArray = dates.toArray(new LocalDate[dates.size()]);
+    int[] epochDaysArray = new int[dates.size()];
+    Iterator<LocalDate> it = dates.iterator();
+    for (int i = 0; i < epochDaysArray.length; i++) {
+      epochDaysArray[i] = toEpochDay(it.next());
+    }
     double[] valuesArray = Doubles.toArray(values);
-    validate(datesArray, valuesArray);
-    return createUnsafe(datesArray, valuesArray);
+    validate(epochDaysArray, valuesArray);
+    return createUnsafe(epochDaysArray, valuesArray);
   }
 
   // creates time-series by directly assigning the input arrays
   // must only be called when safe to do so
-  private static SparseLocalDateDoubleTimeSeries createUnsafe(LocalDate[] dates, double[] values) {
-    return new SparseLocalDateDoubleTimeSeries(dates, values, true);
+  private static SparseLocalDateDoubleTimeSeries createUnsafe(int[] epochDays, double[] values) {
+    return new SparseLocalDateDoubleTimeSeries(epochDays, values, true);
   }
 
   // validates the arrays are same length and in order
-  private static void validate(LocalDate[] dates, double[] values) {
-    ArgChecker.isTrue(dates.length == values.length,
-        "Arrays are of different sizes - dates: {}, values: {}", dates.length, values.length);
-    LocalDate maxDate = LocalDate.MIN;
-    for (LocalDate date : dates) {
-      ArgChecker.isTrue(date.isAfter(maxDate),
-          "Dates must be in ascending order but: {} is not after: {}", date, maxDate);
-      maxDate = date;
+  private static void validate(int[] epochDays, double[] values) {
+    ArgChecker.isTrue(epochDays.length == values.length,
+        "Arrays are of different sizes - dates: {}, values: {}", epochDays.length, values.length);
+    for (int i = 1; i < epochDays.length; i++) {
+      if (epochDays[i] <= epochDays[i - 1]) {
+        throw new IllegalArgumentException(Messages.format(
+            "Dates must be in ascending order but: {} is not after: {}",
+            LocalDate.ofEpochDay(epochDays[i]),
+            LocalDate.ofEpochDay(epochDays[i - 1])));
+      }
     }
   }
 
+  // converts a date to an epoch-day, which must fit in an int
+  private static int toEpochDay(LocalDate date) {
+    long epochDay = date.toEpochDay();
+    if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Date is outside the range supported by time-series: " + date);
+    }
+    return (int) epochDay;
+  }
+
+  // converts a date to an epoch-day for searching, clamping dates outside the supported range
+  private static int toSearchEpochDay(LocalDate date) {
+    return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, date.toEpochDay()));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance, validating the supplied arrays.
    * <p>
-   * The arrays are cloned as this constructor is called from Joda-Beans.
+   * The values are cloned as this constructor is called from Joda-Beans.
    *
    * @param dates  the dates
    * @param values  the values
    */
-  @ImmutableConstructor
   private SparseLocalDateDoubleTimeSeries(LocalDate[] dates, double[] values) {
     ArgChecker.noNulls(dates, "dates");
     ArgChecker.notNull(values, "values");
-    validate(dates, values);
-    this.dates = dates.clone();
+    int[] epochDays = new int[dates.length];
+    for (int i = 0; i < dates.length; i++) {
+      epochDays[i] = toEpochDay(dates[i]);
+    }
+    validate(epochDays, values);
+    this.epochDays = epochDays;
     this.values = values.clone();
   }
 
   /**
    * Creates an instance without validating the supplied arrays.
    *
-   * @param dates  the dates
+   * @param epochDays  the dates, expressed as epoch-days
    * @param values  the values
    * @param trusted  flag to distinguish constructor
    */
-  private SparseLocalDateDoubleTimeSeries(LocalDate[] dates, double[] values, boolean trusted) {
+  private SparseLocalDateDoubleTimeSeries(int[] epochDays, double[] values, boolean trusted) {
     // constructor exists to avoid clones where possible
     // because Joda-Beans owns the main constructor, this one has a weird flag
     // use createUnsafe() instead of calling this directly
-    this.dates = dates;
+    this.epochDays = epochDays;
     this.values = values;
   }
 
+  //-------------------------------------------------------------------------
+  // writes the dates as LocalDate, retaining the serialized form of earlier versions
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    ObjectOutputStream.PutField fields = out.putFields();
+    fields.put("dates", getDates());
+    fields.put("values", values);
+    out.writeFields();
+  }
+
+  // reads the dates as LocalDate, creating the time-series in readResolve()
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    ObjectInputStream.GetField fields = in.readFields();
+    LocalDate[] dates = (LocalDate[]) fields.get("dates", null);
+    double[] values = (double[]) fields.get("values", null);
+    if (dates == null || values == null) {
+      throw new InvalidObjectException("Time-series must have dates and values");
+    }
+    try {
+      deserialized = new SparseLocalDateDoubleTimeSeries(dates, values);
+    } catch (IllegalArgumentException ex) {
+      throw new InvalidObjectException(ex.getMessage());
+    }
+  }
+
+  // returns the time-series read by readObject()
+  private Object readResolve() {
+    return deserialized;
+  }
+
   //-----------------------------------------------------------------------
   /**
    * Gets the dates in the series.
@@ -151,7 +222,11 @@ final class SparseLocalDateDoubleTimeSeries
    * @return the value of the property, not null
    */
   private LocalDate[] getDates() {
-    return dates.clone();
+    LocalDate[] dates = new LocalDate[epochDays.length];
+    for (int i = 0; i < dates.length; i++) {
+      dates[i] = LocalDate.ofEpochDay(epochDays[i]);
+    }
+    return dates;
   }
 
   /**
@@ -166,12 +241,12 @@ final class SparseLocalDateDoubleTimeSeries
   //-------------------------------------------------------------------------
   @Override
   public int size() {
-    return dates.length;
+    return epochDays.length;
   }
 
   @Override
   public boolean isEmpty() {
-    return dates.length == 0;
+    return epochDays.length == 0;
   }
 
   @Override
@@ -185,8 +260,18 @@ final class SparseLocalDateDoubleTimeSeries
     return (position >= 0 ? OptionalDouble.of(values[position]) : OptionalDouble.empty());
   }
 
+  @Override
+  public OptionalDouble get(int epochDay) {
+    int position = Arrays.binarySearch(epochDays, epochDay);
+    return (position >= 0 ? OptionalDouble.of(values[position]) : OptionalDouble.empty());
+  }
+
   private int findDatePosition(LocalDate date) {
-    return Arrays.binarySearch(dates, date);
+    long epochDay = date.toEpochDay();
+    if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+      return -1;
+    }
+    return Arrays.binarySearch(epochDays, (int) epochDay);
   }
 
   //-------------------------------------------------------------------------
@@ -195,7 +280,7 @@ final class SparseLocalDateDoubleTimeSeries
     if (isEmpty()) {
       throw new NoSuchElementException("Unable to return latest, time-series is empty");
     }
-    return dates[dates.length - 1];
+    return LocalDate.ofEpochDay(epochDays[epochDays.length - 1]);
   }
 
   @Override
@@ -220,14 +305,18 @@ final class SparseLocalDateDoubleTimeSeries
       return EMPTY;
     }
     // where in the array would start/end be (whether or not it's actually in the series)
-    int startPos = Arrays.binarySearch(dates, startInclusive);
+    int startPos = Arrays.binarySearch(epochDays, toSearchEpochDay(startInclusive));
     startPos = startPos >= 0 ? startPos : -startPos - 1;
-    int endPos = Arrays.binarySearch(dates, endExclusive);
+    int endPos = Arrays.binarySearch(epochDays, toSearchEpochDay(endExclusive));
     endPos = endPos >= 0 ? endPos : -endPos - 1;
+    // a clamped end date may match the last epoch-day, which must then be included
+    if (endPos < epochDays.length && endExclusive.toEpochDay() > epochDays[endPos]) {
+      endPos++;
+    }
     // create sub-series
-    LocalDate[] timesArray = Arrays.copyOfRange(dates, startPos, endPos);
+    int[] epochDaysArray = Arrays.copyOfRange(epochDays, startPos, endPos);
     double[] valuesArray = Arrays.copyOfRange(values, startPos, endPos);
-    return createUnsafe(timesArray, valuesArray);
+    return createUnsafe(epochDaysArray, valuesArray);
   }
 
   @Override
@@ -238,9 +327,9 @@ final class SparseLocalDateDoubleTimeSeries
     } else if (numPoints >= size()) {
       return this;
     }
-    LocalDate[] datesArray = Arrays.copyOfRange(dates, 0, numPoints);
+    int[] epochDaysArray = Arrays.copyOfRange(epochDays, 0, numPoints);
     double[] valuesArray = Arrays.copyOfRange(values, 0, numPoints);
-    return createUnsafe(datesArray, valuesArray);
+    return createUnsafe(epochDaysArray, valuesArray);
   }
 
   @Override
@@ -251,20 +340,20 @@ final class SparseLocalDateDoubleTimeSeries
     } else if (numPoints >= size()) {
       return this;
     }
-    LocalDate[] datesArray = Arrays.copyOfRange(dates, size() - numPoints, size());
+    int[] epochDaysArray = Arrays.copyOfRange(epochDays, size() - numPoints, size());
     double[] valuesArray = Arrays.copyOfRange(values, size() - numPoints, size());
-    return createUnsafe(datesArray, valuesArray);
+    return createUnsafe(epochDaysArray, valuesArray);
   }
 
   //-------------------------------------------------------------------------
   @Override
   public Stream<LocalDateDoublePoint> stream() {
-    return IntStream.range(0, size()).mapToObj(i -> LocalDateDoublePoint.of(dates[i], values[i]));
+    return IntStream.range(0, size()).mapToObj(i -> LocalDateDoublePoint.of(LocalDate.ofEpochDay(epochDays[i]), values[i]));
   }
 
   @Override
   public Stream<LocalDate> dates() {
-    return Stream.of(dates);
+    return IntStream.of(epochDays).mapToObj(LocalDate::ofEpochDay);
   }
 
   @Override
@@ -277,46 +366,53 @@ final class SparseLocalDateDoubleTimeSeries
   public void forEach(ObjDoubleConsumer<LocalDate> action) {
     ArgChecker.notNull(action, "action");
     for (int i = 0; i < size(); i++) {
-      action.accept(dates[i], values[i]);
+      action.accept(LocalDate.ofEpochDay(epochDays[i]), values[i]);
     }
   }
 
   @Override
   public LocalDateDoubleTimeSeries mapDates(Function<? super LocalDate, ? extends LocalDate> mapper) {
     ArgChecker.notNull(mapper, "mapper");
-    LocalDate[] dates = Arrays.stream(this.dates).map(mapper).toArray(size -> new LocalDate[size]);
+    LocalDate[] dates = IntStream.of(epochDays)
+        .mapToObj(LocalDate::ofEpochDay)
+        .map(mapper)
+        .toArray(size -> new LocalDate[size]);
     // Check the dates are still in ascending order after the mapping
     Arrays.stream(dates).reduce(this::checkAscending);
-    return createUnsafe(dates, values);
+    int[] mappedEpochDays = new int[dates.length];
+    for (int i = 0; i < dates.length; i++) {
+      mappedEpochDays[i] = toEpochDay(dates[i]);
+    }
+    return createUnsafe(mappedEpochDays, values);
   }
 
   @Override
   public LocalDateDoubleTimeSeries mapValues(DoubleUnaryOperator mapper) {
     ArgChecker.notNull(mapper, "mapper");
-    return createUnsafe(dates, DoubleStream.of(values).map(mapper).toArray());
+    return createUnsafe(epochDays, DoubleStream.of(values).map(mapper).toArray());
   }
 
   @Override
   public LocalDateDoubleTimeSeries filter(ObjDoublePredicate<LocalDate> predicate) {
     ArgChecker.notNull(predicate, "predicate");
     // build up result in arrays keeping track of count of retained dates
-    LocalDate[] resDates = new LocalDate[size()];
+    int[] resEpochDays = new int[size()];
     double[] resValues = new double[size()];
     int resCount = 0;
     for (int i = 0; i < size(); i++) {
-      if (predicate.test(dates[i], values[i])) {
-        resDates[resCount] = dates[i];
+      if (predicate.test(LocalDate.ofEpochDay(epochDays[i]), values[i])) {
+        resEpochDays[resCount] = epochDays[i];
         resValues[resCount] = values[i];
         resCount++;
       }
     }
-    return createUnsafe(Arrays.copyOf(resDates, resCount), Arrays.copyOf(resValues, resCount));
+    return createUnsafe(Arrays.copyOf(resEpochDays, resCount), Arrays.copyOf(resValues, resCount));
   }
 
   //-------------------------------------------------------------------------
   @Override
   public LocalDateDoubleTimeSeriesBuilder toBuilder() {
-    return new LocalDateDoubleTimeSeriesBuilder(dates, values);
+    return new LocalDateDoubleTimeSeriesBuilder(getDates(), values);
   }
 
   //-------------------------------------------------------------------------
@@ -336,7 +432,7 @@ final class SparseLocalDateDoubleTimeSeries
     }
     if (obj instanceof SparseLocalDateDoubleTimeSeries) {
       SparseLocalDateDoubleTimeSeries other = (SparseLocalDateDoubleTimeSeries) obj;
-      return Arrays.equals(dates, other.dates) && Arrays.equals(values, other.values);
+      return Arrays.equals(epochDays, other.epochDays) && Arrays.equals(values, other.values);
     }
     return false;
   }
@@ -348,7 +444,7 @@ final class SparseLocalDateDoubleTimeSeries
    */
   @Override
   public int hashCode() {
-    return 31 * Arrays.hashCode(dates) + Arrays.hashCode(values);
+    return 31 * Arrays.hashCode(epochDays) + Arrays.hashCode(values);
   }
 
   /**
@@ -384,7 +480,8 @@ final class SparseLocalDateDoubleTimeSeries
             later));
   }
 
-  //------------------------- AUTOGENERATED START -------------------------
+  //-------------------------------------------------------------------------
+  // the meta-bean is written manually, see the class Javadoc
   ///CLOVER:OFF
   /**
    * The meta-bean for {@code SparseLocalDateDoubleTimeSeries}.
@@ -398,11 +495,6 @@ final class SparseLocalDateDoubleTimeSeries
     JodaBeanUtils.registerMetaBean(SparseLocalDateDoubleTimeSeries.Meta.INSTANCE);
   }
 
-  /**
-   * The serialization version id.
-   */
-  private static final long serialVersionUID = 1L;
-
   @Override
   public SparseLocalDateDoubleTimeSeries.Meta metaBean() {
     return SparseLocalDateDoubleTimeSeries.Meta.INSTANCE;
@@ -606,5 +698,4 @@ final class SparseLocalDateDoubleTimeSeries
   }
 
   ///CLOVER:ON
-  //-------------------------- AUTOGENERATED END --------------------------
 }
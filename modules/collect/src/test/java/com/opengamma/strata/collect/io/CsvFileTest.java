@@ -261,6 +261,18 @@ public class CsvFileTest {
     assertEquals(csvFile.row(2).field(1), " r22 ");
   }
 
+  public void test_of_trimming() {
+    CsvFile csvFile = CsvFile.of(CharSource.wrap(" a ,\tb,, \" c \" ,d\t"), false);
+    assertEquals(csvFile.rowCount(), 1);
+    assertEquals(csvFile.row(0).fields(), ImmutableList.of("a", "b", "", " c ", "d"));
+  }
+
+  public void test_of_comment_blank_before_header() {
+    CsvFile csvFile = CsvFile.of(CharSource.wrap("# comment\n \t ,\n" + CSV1), true);
+    assertEquals(csvFile.headers(), ImmutableList.of("h1", "h2"));
+    assertEquals(csvFile.rowCount(), 2);
+  }
+
   public void test_of_quoting_mismatched() {
     assertThrowsIllegalArg(() -> CsvFile.of(CharSource.wrap("\"alpha"), false));
     assertThrowsIllegalArg(() -> CsvFile.of(CharSource.wrap("\"al\"pha"), false));
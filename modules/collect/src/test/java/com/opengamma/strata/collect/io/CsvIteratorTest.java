@@ -205,6 +205,16 @@ public class CsvIteratorTest {
     }
   }
 
+  public void test_of_comment_blank_before_header() {
+    try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap("# comment\n\n" + CSV1), true)) {
+      assertEquals(csvFile.headers(), ImmutableList.of("h1", "h2"));
+      CsvRow row0 = csvFile.next();
+      assertEquals(row0.field(0), "r11");
+      assertEquals(row0.field(1), "r12");
+    }
+    assertThrowsIllegalArg(() -> CsvIterator.of(CharSource.wrap("# comment\n,\n"), true));
+  }
+
   //-------------------------------------------------------------------------
   public void test_nextBatch1() {
     try (CsvIterator csvFile = CsvIterator.of(CharSource.wrap(CSV1), true)) {
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.collect.timeseries;
 
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
 import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
 import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
@@ -12,6 +13,7 @@ import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -25,6 +27,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
+import org.joda.beans.ser.JodaBeanSer;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -212,6 +215,22 @@ public class SparseLocalDateDoubleTimeSeriesTest {
     assertThrowsIllegalArg(() -> LocalDateDoubleTimeSeries.builder().putAll(points.stream()).build());
   }
 
+  //-------------------------------------------------------------------------
+  public void test_get_epochDay() {
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeries.builder().putAll(DATES_2010_12, VALUES_10_12).build();
+    assertEquals(test.get((int) DATE_2010_01_01.toEpochDay()), OptionalDouble.of(10d));
+    assertEquals(test.get((int) DATE_2011_01_01.toEpochDay()), OptionalDouble.of(11d));
+    assertEquals(test.get((int) DATE_2012_01_01.toEpochDay()), OptionalDouble.of(12d));
+    assertEquals(test.get((int) DATE_2013_01_01.toEpochDay()), OptionalDouble.empty());
+  }
+
+  public void test_get_dateOutsideEpochDayRange() {
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeries.builder().putAll(DATES_2010_12, VALUES_10_12).build();
+    assertEquals(test.containsDate(LocalDate.MIN), false);
+    assertEquals(test.get(LocalDate.MAX), OptionalDouble.empty());
+    assertEquals(test.subSeries(LocalDate.MIN, LocalDate.MAX), test);
+  }
+
   //-------------------------------------------------------------------------
   public void test_immutableViaBeanBuilder() {
     LocalDate[] dates = {DATE_2010_01_01, DATE_2011_01_01, DATE_2012_01_01};
@@ -639,6 +658,15 @@ public class SparseLocalDateDoubleTimeSeriesTest {
     coverBeanEquals(test, test2);
   }
 
+  public void test_serialization() {
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeries.builder().putAll(DATES_2010_12, VALUES_10_12).build();
+    assertSerialization(test);
+    // the dates are serialized as dates, not as the stored epoch-days
+    String xml = JodaBeanSer.PRETTY.xmlWriter().write((Bean) test);
+    assertTrue(xml.contains("<dates>"));
+    assertEquals(JodaBeanSer.PRETTY.xmlReader().read(xml), test);
+  }
+
   //-------------------------------------------------------------------------
   private static LocalDate date(int year, int month, int day) {
     return LocalDate.of(year, month, day);
@@ -0,0 +1,33 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import java.util.List;
+
+/**
+ * A scenario array that can be joined with arrays holding further scenarios.
+ * <p>
+ * This is used when the scenarios of a calculation are split into chunks that are calculated separately.
+ * An implementation combines the results of the chunks while retaining its compact representation,
+ * where a generic {@link ScenarioArray} would hold each value separately.
+ *
+ * @param <T>  the type of each individual value
+ */
+public interface ConcatenableScenarioArray<T> extends ScenarioArray<T> {
+
+  /**
+   * Returns an array containing the scenarios of this array followed by those of the specified arrays.
+   * <p>
+   * The specified arrays are normally of the same type as this array.
+   * If they are not, or the values cannot share the compact representation,
+   * the result holds each value separately.
+   *
+   * @param others  the arrays holding the subsequent scenarios
+   * @return an array containing the scenarios of this array followed by those of the specified arrays
+   */
+  public abstract ScenarioArray<T> concatWith(List<? extends ScenarioArray<T>> others);
+
+}
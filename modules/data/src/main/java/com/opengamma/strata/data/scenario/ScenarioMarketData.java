@@ -269,6 +269,27 @@ public interface ScenarioMarketData {
     return new CombinedScenarioMarketData(this, other);
   }
 
+  /**
+   * Returns a view of a contiguous range of the scenarios in this market data.
+   * <p>
+   * The result contains the scenarios from {@code startIndex} inclusive to {@code endIndex} exclusive.
+   * Scenario zero of the result is scenario {@code startIndex} of this market data.
+   * This allows the scenarios to be processed in separate chunks, for example in parallel.
+   * <p>
+   * This instance is immutable and unaffected by this method call.
+   *
+   * @param startIndex  the index of the first scenario, inclusive
+   * @param endIndex  the index of the last scenario, exclusive
+   * @return a view of the specified range of scenarios
+   * @throws IndexOutOfBoundsException if the range is invalid
+   */
+  public default ScenarioMarketData subset(int startIndex, int endIndex) {
+    if (startIndex == 0 && endIndex == getScenarioCount()) {
+      return this;
+    }
+    return SubsetScenarioMarketData.of(this, startIndex, endIndex);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Gets the time-series identifiers.
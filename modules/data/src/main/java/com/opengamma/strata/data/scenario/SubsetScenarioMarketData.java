@@ -0,0 +1,141 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.google.common.base.Preconditions;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.ObservableId;
+
+/**
+ * A view of a contiguous range of scenarios in an underlying set of market data.
+ * <p>
+ * Scenario zero of this market data is scenario {@code startIndex} of the underlying data.
+ * Single values are returned unchanged, whereas scenario values are restricted to the range.
+ */
+final class SubsetScenarioMarketData implements ScenarioMarketData {
+
+  /**
+   * The underlying market data.
+   */
+  private final ScenarioMarketData underlying;
+  /**
+   * The index of the first scenario in the underlying market data, inclusive.
+   */
+  private final int startIndex;
+  /**
+   * The number of scenarios in the view.
+   */
+  private final int scenarioCount;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance viewing a range of scenarios of the underlying market data.
+   *
+   * @param underlying  the underlying market data
+   * @param startIndex  the index of the first scenario, inclusive
+   * @param endIndex  the index of the last scenario, exclusive
+   * @return the view of the market data
+   * @throws IndexOutOfBoundsException if the range is invalid
+   */
+  static SubsetScenarioMarketData of(ScenarioMarketData underlying, int startIndex, int endIndex) {
+    ArgChecker.notNull(underlying, "underlying");
+    Preconditions.checkPositionIndexes(startIndex, endIndex, underlying.getScenarioCount());
+    ArgChecker.isTrue(endIndex > startIndex, "Scenario range must not be empty");
+    return new SubsetScenarioMarketData(underlying, startIndex, endIndex - startIndex);
+  }
+
+  // restricted constructor
+  private SubsetScenarioMarketData(ScenarioMarketData underlying, int startIndex, int scenarioCount) {
+    this.underlying = underlying;
+    this.startIndex = startIndex;
+    this.scenarioCount = scenarioCount;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public MarketDataBox<LocalDate> getValuationDate() {
+    return subset(underlying.getValuationDate());
+  }
+
+  @Override
+  public int getScenarioCount() {
+    return scenarioCount;
+  }
+
+  @Override
+  public Stream<MarketData> scenarios() {
+    return IntStream.range(0, scenarioCount)
+        .mapToObj(scenarioIndex -> underlying.scenario(startIndex + scenarioIndex));
+  }
+
+  @Override
+  public MarketData scenario(int scenarioIndex) {
+    Preconditions.checkElementIndex(scenarioIndex, scenarioCount, "scenarioIndex");
+    return underlying.scenario(startIndex + scenarioIndex);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean containsValue(MarketDataId<?> id) {
+    return underlying.containsValue(id);
+  }
+
+  @Override
+  public <T> MarketDataBox<T> getValue(MarketDataId<T> id) {
+    return subset(underlying.getValue(id));
+  }
+
+  @Override
+  public <T> Optional<MarketDataBox<T>> findValue(MarketDataId<T> id) {
+    return underlying.findValue(id).map(this::subset);
+  }
+
+  @Override
+  public Set<MarketDataId<?>> getIds() {
+    return underlying.getIds();
+  }
+
+  @Override
+  public <T> Set<MarketDataId<T>> findIds(MarketDataName<T> name) {
+    return underlying.findIds(name);
+  }
+
+  @Override
+  public Set<ObservableId> getTimeSeriesIds() {
+    return underlying.getTimeSeriesIds();
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
+    return underlying.getTimeSeries(id);
+  }
+
+  //-------------------------------------------------------------------------
+  // restricts a box to the range of scenarios, single values are unaffected
+  private <T> MarketDataBox<T> subset(MarketDataBox<T> box) {
+    if (box.isSingleValue()) {
+      return box;
+    }
+    return MarketDataBox.ofScenarioValue(ScenarioArray.of(scenarioCount, i -> box.getValue(startIndex + i)));
+  }
+
+  @Override
+  public String toString() {
+    return "SubsetScenarioMarketData[startIndex=" + startIndex + ", scenarioCount=" + scenarioCount +
+        ", underlying=" + underlying + "]";
+  }
+
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.TestingNamedId;
+import com.opengamma.strata.data.TestingObservableId;
+
+/**
+ * Test {@link SubsetScenarioMarketData}.
+ */
+@Test
+public class SubsetScenarioMarketDataTest {
+
+  private static final LocalDate VAL_DATE = date(2015, 6, 30);
+  private static final TestingNamedId ID1 = new TestingNamedId("1");
+  private static final TestingNamedId ID2 = new TestingNamedId("2");
+  private static final TestingNamedId ID3 = new TestingNamedId("3");
+  private static final TestingObservableId ID4 = new TestingObservableId("4");
+  private static final LocalDateDoubleTimeSeries TIME_SERIES = LocalDateDoubleTimeSeries.builder()
+      .put(date(2011, 3, 8), 1.1)
+      .put(date(2011, 3, 10), 1.2)
+      .build();
+  private static final ImmutableScenarioMarketData BASE_DATA = ImmutableScenarioMarketData.builder(VAL_DATE)
+      .addBox(ID1, MarketDataBox.ofScenarioValues("a", "b", "c", "d"))
+      .addValue(ID2, "single")
+      .addTimeSeries(ID4, TIME_SERIES)
+      .build();
+
+  //-------------------------------------------------------------------------
+  public void test_subset() {
+    ScenarioMarketData test = BASE_DATA.subset(1, 3);
+    assertEquals(test.getScenarioCount(), 2);
+    assertEquals(test.getValuationDate(), MarketDataBox.ofSingleValue(VAL_DATE));
+    assertEquals(test.containsValue(ID1), true);
+    assertEquals(test.containsValue(ID3), false);
+    assertEquals(test.getValue(ID1), MarketDataBox.ofScenarioValues("b", "c"));
+    assertEquals(test.getValue(ID2), MarketDataBox.ofSingleValue("single"));
+    assertEquals(test.findValue(ID1), Optional.of(MarketDataBox.ofScenarioValues("b", "c")));
+    assertEquals(test.findValue(ID3), Optional.empty());
+    assertEquals(test.getIds(), ImmutableSet.of(ID1, ID2));
+    assertEquals(test.getTimeSeriesIds(), ImmutableSet.of(ID4));
+    assertEquals(test.getTimeSeries(ID4), TIME_SERIES);
+  }
+
+  public void test_subset_all() {
+    assertSame(BASE_DATA.subset(0, 4), BASE_DATA);
+  }
+
+  public void test_subset_invalid() {
+    assertThrows(() -> BASE_DATA.subset(-1, 2), IndexOutOfBoundsException.class);
+    assertThrows(() -> BASE_DATA.subset(2, 5), IndexOutOfBoundsException.class);
+    assertThrows(() -> BASE_DATA.subset(3, 1), IndexOutOfBoundsException.class);
+    assertThrows(() -> BASE_DATA.subset(2, 2), IllegalArgumentException.class);
+  }
+
+  public void test_scenario_byIndex() {
+    ScenarioMarketData test = BASE_DATA.subset(2, 4);
+    assertEquals(test.scenario(0).getValue(ID1), "c");
+    assertEquals(test.scenario(1).getValue(ID1), "d");
+    assertEquals(test.scenario(1).getValue(ID2), "single");
+    assertEquals(test.scenarios().count(), 2);
+    assertThrows(() -> test.scenario(-1), IndexOutOfBoundsException.class);
+    assertThrows(() -> test.scenario(2), IndexOutOfBoundsException.class);
+  }
+
+}
@@ -18,7 +18,7 @@ import com.google.common.io.CharSource;
 import com.opengamma.strata.basics.index.Index;
 import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.Messages;
-import com.opengamma.strata.collect.io.CsvFile;
+import com.opengamma.strata.collect.io.CsvIterator;
 import com.opengamma.strata.collect.io.CsvRow;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
@@ -108,9 +108,9 @@ public final class FixingSeriesCsvLoader {
   // loads a single fixing series CSV file
   private static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> parseSingle(CharSource resource) {
     Map<ObservableId, LocalDateDoubleTimeSeriesBuilder> builders = new HashMap<>();
-    try {
-      CsvFile csv = CsvFile.of(resource, true);
-      for (CsvRow row : csv.rows()) {
+    try (CsvIterator csv = CsvIterator.of(resource, true)) {
+      while (csv.hasNext()) {
+        CsvRow row = csv.next();
         String referenceStr = row.getField(REFERENCE_FIELD);
         String dateStr = row.getField(DATE_FIELD);
         String valueStr = row.getField(VALUE_FIELD);
@@ -11,6 +11,7 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -20,8 +21,9 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
 import com.google.common.io.CharSource;
 import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
-import com.opengamma.strata.collect.io.CsvFile;
+import com.opengamma.strata.collect.io.CsvIterator;
 import com.opengamma.strata.collect.io.CsvRow;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.data.FieldName;
@@ -170,6 +172,49 @@ public final class QuotesCsvLoader {
     return parse(d -> true, charSources);
   }
 
+  /**
+   * Loads one or more CSV format quote files, parsing the files in parallel.
+   * <p>
+   * All dates that are found will be returned.
+   * This produces the same result as {@link #loadAllDates(Collection)}, but is faster when there are many files.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   * 
+   * @param resources  the CSV resources
+   * @return the loaded quotes, mapped by {@link LocalDate} and {@linkplain QuoteId quote ID}
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<LocalDate, ImmutableMap<QuoteId, Double>> loadAllDatesParallel(
+      Collection<ResourceLocator> resources) {
+
+    Collection<CharSource> charSources = resources.stream().map(r -> r.getCharSource()).collect(toList());
+    return parseParallel(d -> true, charSources);
+  }
+
+  /**
+   * Loads one or more CSV format quote files for a range of dates, parsing the files in parallel.
+   * <p>
+   * Only those quotes with a date between the start and end date, inclusive, will be loaded.
+   * Rows outside the range are skipped as soon as the date has been parsed.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   * 
+   * @param startInclusive  the first date to load
+   * @param endInclusive  the last date to load
+   * @param resources  the CSV resources
+   * @return the loaded quotes, mapped by {@link LocalDate} and {@linkplain QuoteId quote ID}
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<LocalDate, ImmutableMap<QuoteId, Double>> loadDateRange(
+      LocalDate startInclusive,
+      LocalDate endInclusive,
+      Collection<ResourceLocator> resources) {
+
+    ArgChecker.inOrderOrEqual(startInclusive, endInclusive, "startInclusive", "endInclusive");
+    Collection<CharSource> charSources = resources.stream().map(r -> r.getCharSource()).collect(toList());
+    return parseParallel(d -> !d.isBefore(startInclusive) && !d.isAfter(endInclusive), charSources);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Parses one or more CSV format quote files.
@@ -193,6 +238,51 @@ public final class QuotesCsvLoader {
     for (CharSource charSource : charSources) {
       parseSingle(datePredicate, charSource, mutableMap);
     }
+    return build(mutableMap);
+  }
+
+  /**
+   * Parses one or more CSV format quote files, parsing the files in parallel.
+   * <p>
+   * A predicate is specified that is used to filter the dates that are returned.
+   * This could match a single date, a set of dates or all dates.
+   * <p>
+   * Each file is parsed into a separate map on a different thread, without locking.
+   * The maps are then merged in the order of the character sources.
+   * This produces the same result as {@link #parse(Predicate, Collection)}.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   * 
+   * @param datePredicate  the predicate used to select the dates, which must be thread-safe
+   * @param charSources  the CSV character sources
+   * @return the loaded quotes, mapped by {@link LocalDate} and {@linkplain QuoteId quote ID}
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<LocalDate, ImmutableMap<QuoteId, Double>> parseParallel(
+      Predicate<LocalDate> datePredicate,
+      Collection<CharSource> charSources) {
+
+    List<Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>>> fileMaps = charSources.parallelStream()
+        .map(charSource -> {
+          Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> fileMap = new HashMap<>();
+          parseSingle(datePredicate, charSource, fileMap);
+          return fileMap;
+        })
+        .collect(toList());
+    // builder ensures keys can only be seen once
+    Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> mutableMap = new HashMap<>();
+    for (Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> fileMap : fileMaps) {
+      for (Entry<LocalDate, Builder<QuoteId, Double>> entry : fileMap.entrySet()) {
+        mutableMap.computeIfAbsent(entry.getKey(), k -> ImmutableMap.builder()).putAll(entry.getValue().build());
+      }
+    }
+    return build(mutableMap);
+  }
+
+  // builds the result
+  private static ImmutableMap<LocalDate, ImmutableMap<QuoteId, Double>> build(
+      Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> mutableMap) {
+
     ImmutableMap.Builder<LocalDate, ImmutableMap<QuoteId, Double>> builder = ImmutableMap.builder();
     for (Entry<LocalDate, Builder<QuoteId, Double>> entry : mutableMap.entrySet()) {
       builder.put(entry.getKey(), entry.getValue().build());
@@ -206,9 +296,9 @@ public final class QuotesCsvLoader {
       CharSource resource,
       Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> mutableMap) {
 
-    try {
-      CsvFile csv = CsvFile.of(resource, true);
-      for (CsvRow row : csv.rows()) {
+    try (CsvIterator csv = CsvIterator.of(resource, true)) {
+      while (csv.hasNext()) {
+        CsvRow row = csv.next();
         String dateText = row.getField(DATE_FIELD);
         LocalDate date = LocalDate.parse(dateText);
         if (datePredicate.test(date)) {
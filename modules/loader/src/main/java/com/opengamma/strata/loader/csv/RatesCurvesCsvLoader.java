@@ -27,6 +27,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.ImmutableBiMap;
@@ -44,6 +45,7 @@ import com.opengamma.strata.basics.index.Index;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.io.CsvFile;
+import com.opengamma.strata.collect.io.CsvIterator;
 import com.opengamma.strata.collect.io.CsvOutput;
 import com.opengamma.strata.collect.io.CsvRow;
 import com.opengamma.strata.collect.io.ResourceLocator;
@@ -182,6 +184,61 @@ public final class RatesCurvesCsvLoader {
     return parse(d -> true, groupsResource.getCharSource(), settingsResource.getCharSource(), curveCharSources);
   }
 
+  /**
+   * Loads one or more CSV format curve files for all available dates, parsing the curve files in parallel.
+   * <p>
+   * This produces the same result as {@link #loadAllDates(ResourceLocator, ResourceLocator, Collection)},
+   * but is faster when there are many curve files.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   *
+   * @param groupsResource  the curve groups CSV resource
+   * @param settingsResource  the curve settings CSV resource
+   * @param curveValueResources  the CSV resources for curves
+   * @return the loaded curves, mapped by date and identifier
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableListMultimap<LocalDate, CurveGroup> loadAllDatesParallel(
+      ResourceLocator groupsResource,
+      ResourceLocator settingsResource,
+      Collection<ResourceLocator> curveValueResources) {
+
+    Collection<CharSource> curveCharSources = curveValueResources.stream().map(r -> r.getCharSource()).collect(toList());
+    return parseParallel(d -> true, groupsResource.getCharSource(), settingsResource.getCharSource(), curveCharSources);
+  }
+
+  /**
+   * Loads one or more CSV format curve files for a range of dates, parsing the curve files in parallel.
+   * <p>
+   * Only those curves with a date between the start and end date, inclusive, will be loaded.
+   * Rows outside the range are skipped as soon as the date has been parsed.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   *
+   * @param startInclusive  the first curve date to load
+   * @param endInclusive  the last curve date to load
+   * @param groupsResource  the curve groups CSV resource
+   * @param settingsResource  the curve settings CSV resource
+   * @param curveValueResources  the CSV resources for curves
+   * @return the loaded curves, mapped by date and identifier
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableListMultimap<LocalDate, CurveGroup> loadDateRange(
+      LocalDate startInclusive,
+      LocalDate endInclusive,
+      ResourceLocator groupsResource,
+      ResourceLocator settingsResource,
+      Collection<ResourceLocator> curveValueResources) {
+
+    ArgChecker.inOrderOrEqual(startInclusive, endInclusive, "startInclusive", "endInclusive");
+    Collection<CharSource> curveCharSources = curveValueResources.stream().map(r -> r.getCharSource()).collect(toList());
+    return parseParallel(
+        d -> !d.isBefore(startInclusive) && !d.isAfter(endInclusive),
+        groupsResource.getCharSource(),
+        settingsResource.getCharSource(),
+        curveCharSources);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Parses one or more CSV format curve files for all available dates.
@@ -204,9 +261,48 @@ public final class RatesCurvesCsvLoader {
       CharSource settingsCharSource,
       Collection<CharSource> curveValueCharSources) {
 
+    return parse(datePredicate, groupsCharSource, settingsCharSource, curveValueCharSources, false);
+  }
+
+  /**
+   * Parses one or more CSV format curve files for all available dates, parsing the curve files in parallel.
+   * <p>
+   * A predicate is specified that is used to filter the dates that are returned.
+   * This could match a single date, a set of dates or all dates.
+   * <p>
+   * Each curve file is parsed, and its curves built, on a different thread without locking.
+   * The results are then merged in the order of the character sources.
+   * This produces the same result as {@link #parse(Predicate, CharSource, CharSource, Collection)}.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   *
+   * @param datePredicate  the predicate used to select the dates, which must be thread-safe
+   * @param groupsCharSource  the curve groups CSV character source
+   * @param settingsCharSource  the curve settings CSV character source
+   * @param curveValueCharSources  the CSV character sources for curves
+   * @return the loaded curves, mapped by date and identifier
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableListMultimap<LocalDate, CurveGroup> parseParallel(
+      Predicate<LocalDate> datePredicate,
+      CharSource groupsCharSource,
+      CharSource settingsCharSource,
+      Collection<CharSource> curveValueCharSources) {
+
+    return parse(datePredicate, groupsCharSource, settingsCharSource, curveValueCharSources, true);
+  }
+
+  // parses the files, optionally in parallel
+  private static ImmutableListMultimap<LocalDate, CurveGroup> parse(
+      Predicate<LocalDate> datePredicate,
+      CharSource groupsCharSource,
+      CharSource settingsCharSource,
+      Collection<CharSource> curveValueCharSources,
+      boolean parallel) {
+
     List<CurveGroupDefinition> curveGroups = CurveGroupDefinitionCsvLoader.parseCurveGroupDefinitions(groupsCharSource);
     Map<LocalDate, Map<CurveName, Curve>> curves =
-        parseCurves(datePredicate, settingsCharSource, curveValueCharSources);
+        parseCurves(datePredicate, settingsCharSource, curveValueCharSources, parallel);
     ImmutableListMultimap.Builder<LocalDate, CurveGroup> builder = ImmutableListMultimap.builder();
 
     for (CurveGroupDefinition groupDefinition : curveGroups) {
@@ -223,15 +319,21 @@ public final class RatesCurvesCsvLoader {
   private static Map<LocalDate, Map<CurveName, Curve>> parseCurves(
       Predicate<LocalDate> datePredicate,
       CharSource settingsResource,
-      Collection<CharSource> curvesResources) {
+      Collection<CharSource> curvesResources,
+      boolean parallel) {
 
     // load curve settings
     Map<CurveName, LoadedCurveSettings> settingsMap = parseCurveSettings(settingsResource);
 
-    // load curves, ensuring curves only be seen once within a date
+    // load curves, each file independently, retaining the order of the files
+    Stream<CharSource> curvesStream = parallel ? curvesResources.parallelStream() : curvesResources.stream();
+    List<Multimap<LocalDate, Curve>> curvesByFile = curvesStream
+        .map(curvesResource -> parseSingle(datePredicate, curvesResource, settingsMap))
+        .collect(toList());
+
+    // merge, ensuring curves only be seen once within a date
     Map<LocalDate, Map<CurveName, Curve>> resultMap = new TreeMap<>();
-    for (CharSource curvesResource : curvesResources) {
-      Multimap<LocalDate, Curve> fileCurvesByDate = parseSingle(datePredicate, curvesResource, settingsMap);
+    for (Multimap<LocalDate, Curve> fileCurvesByDate : curvesByFile) {
       // Ensure curve names are unique, with a good error message
       for (LocalDate date : fileCurvesByDate.keySet()) {
         Collection<Curve> fileCurves = fileCurvesByDate.get(date);
@@ -288,23 +390,25 @@ public final class RatesCurvesCsvLoader {
       CharSource curvesResource,
       Map<CurveName, LoadedCurveSettings> settingsMap) {
 
-    CsvFile csv = CsvFile.of(curvesResource, true);
     Map<LoadedCurveKey, List<LoadedCurveNode>> allNodes = new HashMap<>();
-    for (CsvRow row : csv.rows()) {
-      String dateStr = row.getField(CURVE_DATE);
-      String curveNameStr = row.getField(CURVE_NAME);
-      String pointDateStr = row.getField(CURVE_POINT_DATE);
-      String pointValueStr = row.getField(CURVE_POINT_VALUE);
-      String pointLabel = row.getField(CURVE_POINT_LABEL);
-
-      LocalDate date = LocalDate.parse(dateStr);
-      if (datePredicate.test(date)) {
-        LocalDate pointDate = LocalDate.parse(pointDateStr);
-        double pointValue = Double.valueOf(pointValueStr);
-
-        LoadedCurveKey key = LoadedCurveKey.of(date, CurveName.of(curveNameStr));
-        List<LoadedCurveNode> curveNodes = allNodes.computeIfAbsent(key, k -> new ArrayList<>());
-        curveNodes.add(LoadedCurveNode.of(pointDate, pointValue, pointLabel));
+    try (CsvIterator csv = CsvIterator.of(curvesResource, true)) {
+      while (csv.hasNext()) {
+        CsvRow row = csv.next();
+        String dateStr = row.getField(CURVE_DATE);
+        String curveNameStr = row.getField(CURVE_NAME);
+        String pointDateStr = row.getField(CURVE_POINT_DATE);
+        String pointValueStr = row.getField(CURVE_POINT_VALUE);
+        String pointLabel = row.getField(CURVE_POINT_LABEL);
+
+        LocalDate date = LocalDate.parse(dateStr);
+        if (datePredicate.test(date)) {
+          LocalDate pointDate = LocalDate.parse(pointDateStr);
+          double pointValue = Double.valueOf(pointValueStr);
+
+          LoadedCurveKey key = LoadedCurveKey.of(date, CurveName.of(curveNameStr));
+          List<LoadedCurveNode> curveNodes = allNodes.computeIfAbsent(key, k -> new ArrayList<>());
+          curveNodes.add(LoadedCurveNode.of(pointDate, pointValue, pointLabel));
+        }
       }
     }
     return buildCurves(settingsMap, allNodes);
@@ -102,6 +102,28 @@ public class QuotesCsvLoaderTest {
     assertFile1Date2(map.get(DATE2));
   }
 
+  public void test_loadAllDatesParallel_file1file2() {
+    Map<LocalDate, ImmutableMap<QuoteId, Double>> map =
+        QuotesCsvLoader.loadAllDatesParallel(ImmutableList.of(QUOTES_1, QUOTES_2));
+    assertEquals(map, QuotesCsvLoader.loadAllDates(QUOTES_1, QUOTES_2));
+    assertEquals(map.size(), 2);
+    assertFile1Date2(map.get(DATE2));
+    assertFile2Date1(map.get(DATE1));
+  }
+
+  public void test_loadDateRange_file1file2() {
+    Map<LocalDate, ImmutableMap<QuoteId, Double>> map =
+        QuotesCsvLoader.loadDateRange(DATE2, DATE2.plusDays(5), ImmutableList.of(QUOTES_1, QUOTES_2));
+    assertEquals(map.size(), 1);
+    assertFile1Date2(map.get(DATE2));
+    assertEquals(QuotesCsvLoader.loadDateRange(DATE1, DATE2, ImmutableList.of(QUOTES_1)).size(), 2);
+    assertThrowsIllegalArg(() -> QuotesCsvLoader.loadDateRange(DATE2, DATE1, ImmutableList.of(QUOTES_1)));
+  }
+
+  public void test_loadAllDatesParallel_invalidDuplicate() {
+    assertThrowsIllegalArg(() -> QuotesCsvLoader.loadAllDatesParallel(ImmutableList.of(QUOTES_INVALID_DUPLICATE)));
+  }
+
   //-------------------------------------------------------------------------
   private void assertFile1Date1(Map<QuoteId, Double> map) {
     assertTrue(map.containsKey(FGBL_MAR14));
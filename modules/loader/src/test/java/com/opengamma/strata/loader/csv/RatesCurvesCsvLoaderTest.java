@@ -20,6 +20,7 @@ import java.util.List;
 import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.ListMultimap;
 import com.opengamma.strata.basics.currency.Currency;
@@ -235,6 +236,32 @@ public class RatesCurvesCsvLoaderTest {
     assertTrue(usd3mlNodal.getYValues().equalZeroWithTolerance(0d));
   }
 
+  public void test_loadAllDatesParallel() {
+    ImmutableList<ResourceLocator> curveResources =
+        ImmutableList.of(ResourceLocator.of(CURVES_1), ResourceLocator.of(CURVES_2), ResourceLocator.of(CURVES_3));
+    ListMultimap<LocalDate, CurveGroup> allGroups = RatesCurvesCsvLoader.loadAllDatesParallel(
+        ResourceLocator.of(GROUPS_1),
+        ResourceLocator.of(SETTINGS_1),
+        curveResources);
+    ListMultimap<LocalDate, CurveGroup> expected = RatesCurvesCsvLoader.loadAllDates(
+        ResourceLocator.of(GROUPS_1),
+        ResourceLocator.of(SETTINGS_1),
+        curveResources);
+    assertEquals(allGroups, expected);
+    assertCurves(allGroups.get(CURVE_DATE));
+  }
+
+  public void test_loadDateRange() {
+    ListMultimap<LocalDate, CurveGroup> groups = RatesCurvesCsvLoader.loadDateRange(
+        CURVE_DATE,
+        CURVE_DATE.plusDays(10),
+        ResourceLocator.of(GROUPS_1),
+        ResourceLocator.of(SETTINGS_1),
+        ImmutableList.of(ResourceLocator.of(CURVES_1), ResourceLocator.of(CURVES_2), ResourceLocator.of(CURVES_3)));
+    assertEquals(groups.keySet(), ImmutableSet.of(CURVE_DATE));
+    assertCurves(groups.get(CURVE_DATE));
+  }
+
   public void test_load_curves_date_filtering() {
     List<CurveGroup> curves = RatesCurvesCsvLoader.load(
         CURVE_DATE,
@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.stream.IntStream;
 
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
@@ -90,6 +91,23 @@ public interface Curve extends ParameterizedData {
    */
   public abstract double yValue(double x);
 
+  /**
+   * Computes the y-values for the specified x-values.
+   * <p>
+   * The y-value for each element of {@code xValues} is stored at the same index in {@code result}.
+   * Implementations may be optimized for x-values sorted from low to high, as is typical when
+   * computing values for a schedule.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @param result  the array to store the y-values in, at least as long as the x-values
+   */
+  public default void yValues(double[] xValues, double[] result) {
+    ArgChecker.isTrue(result.length >= xValues.length, "Result array must be at least as long as x-value array");
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = yValue(xValues[i]);
+    }
+  }
+
   /**
    * Computes the sensitivity of the y-value with respect to the curve parameters.
    * <p>
@@ -244,6 +244,11 @@ public final class InterpolatedNodalCurve
     return boundInterpolator.interpolate(x);
   }
 
+  @Override
+  public void yValues(double[] xValues, double[] result) {
+    boundInterpolator.interpolate(xValues, result);
+  }
+
   @Override
   public UnitParameterSensitivity yValueParameterSensitivity(double x) {
     return createParameterSensitivity(boundInterpolator.parameterSensitivity(x));
@@ -135,6 +135,134 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract DoubleArray doParameterSensitivity(double xValue);
 
+  //-------------------------------------------------------------------------
+  @Override
+  public final void interpolate(double[] xValues, double[] result) {
+    ArgChecker.isTrue(result.length >= xValues.length, "Result array must be at least as long as x-value array");
+    int i = 0;
+    while (i < xValues.length) {
+      double xValue = xValues[i];
+      if (xValue < firstXValue) {
+        result[i++] = extrapolatorLeft.leftExtrapolate(xValue);
+      } else if (xValue > lastXValue) {
+        result[i++] = extrapolatorRight.rightExtrapolate(xValue);
+      } else if (xValue == lastXValue) {
+        result[i++] = lastYValue;
+      } else {
+        // find the run of x-values that are interpolated
+        int end = i + 1;
+        while (end < xValues.length && xValues[end] >= firstXValue && xValues[end] < lastXValue) {
+          end++;
+        }
+        doInterpolate(xValues, result, i, end);
+        i = end;
+      }
+    }
+  }
+
+  /**
+   * Method for subclasses to calculate the interpolated values for a range of x-values.
+   * <p>
+   * Each x-value in the range is greater than or equal to the x-value of the first node
+   * and less than the x-value of the last node.
+   * This implementation calls {@link #doInterpolate(double)} for each x-value.
+   * Subclasses may override this to take advantage of x-values sorted from low to high,
+   * typically using {@link #lowerBoundIndex(double, double[], int)}.
+   * 
+   * @param xValues  the x-values
+   * @param result  the array to store the interpolated y-values in
+   * @param startIndex  the index of the first x-value, inclusive
+   * @param endIndex  the index of the last x-value, exclusive
+   */
+  protected void doInterpolate(double[] xValues, double[] result, int startIndex, int endIndex) {
+    for (int i = startIndex; i < endIndex; i++) {
+      result[i] = doInterpolate(xValues[i]);
+    }
+  }
+
+  @Override
+  public final void firstDerivative(double[] xValues, double[] result) {
+    ArgChecker.isTrue(result.length >= xValues.length, "Result array must be at least as long as x-value array");
+    int i = 0;
+    while (i < xValues.length) {
+      double xValue = xValues[i];
+      if (xValue < firstXValue) {
+        result[i++] = extrapolatorLeft.leftExtrapolateFirstDerivative(xValue);
+      } else if (xValue > lastXValue) {
+        result[i++] = extrapolatorRight.rightExtrapolateFirstDerivative(xValue);
+      } else {
+        int end = endOfRange(xValues, i);
+        doFirstDerivative(xValues, result, i, end);
+        i = end;
+      }
+    }
+  }
+
+  /**
+   * Method for subclasses to calculate the first derivatives for a range of x-values.
+   * <p>
+   * Each x-value in the range is greater than or equal to the x-value of the first node
+   * and less than or equal to the x-value of the last node.
+   * This implementation calls {@link #doFirstDerivative(double)} for each x-value.
+   * Subclasses may override this to take advantage of x-values sorted from low to high.
+   * 
+   * @param xValues  the x-values
+   * @param result  the array to store the first derivatives in
+   * @param startIndex  the index of the first x-value, inclusive
+   * @param endIndex  the index of the last x-value, exclusive
+   */
+  protected void doFirstDerivative(double[] xValues, double[] result, int startIndex, int endIndex) {
+    for (int i = startIndex; i < endIndex; i++) {
+      result[i] = doFirstDerivative(xValues[i]);
+    }
+  }
+
+  @Override
+  public final void parameterSensitivity(double[] xValues, DoubleArray[] result) {
+    ArgChecker.isTrue(result.length >= xValues.length, "Result array must be at least as long as x-value array");
+    int i = 0;
+    while (i < xValues.length) {
+      double xValue = xValues[i];
+      if (xValue < firstXValue) {
+        result[i++] = extrapolatorLeft.leftExtrapolateParameterSensitivity(xValue);
+      } else if (xValue > lastXValue) {
+        result[i++] = extrapolatorRight.rightExtrapolateParameterSensitivity(xValue);
+      } else {
+        int end = endOfRange(xValues, i);
+        doParameterSensitivity(xValues, result, i, end);
+        i = end;
+      }
+    }
+  }
+
+  /**
+   * Method for subclasses to calculate the parameter sensitivities for a range of x-values.
+   * <p>
+   * Each x-value in the range is greater than or equal to the x-value of the first node
+   * and less than or equal to the x-value of the last node.
+   * This implementation calls {@link #doParameterSensitivity(double)} for each x-value.
+   * Subclasses may override this to take advantage of x-values sorted from low to high.
+   * 
+   * @param xValues  the x-values
+   * @param result  the array to store the parameter sensitivities in
+   * @param startIndex  the index of the first x-value, inclusive
+   * @param endIndex  the index of the last x-value, exclusive
+   */
+  protected void doParameterSensitivity(double[] xValues, DoubleArray[] result, int startIndex, int endIndex) {
+    for (int i = startIndex; i < endIndex; i++) {
+      result[i] = doParameterSensitivity(xValues[i]);
+    }
+  }
+
+  // finds the end of the run of x-values between the first and last node inclusive
+  private int endOfRange(double[] xValues, int startIndex) {
+    int end = startIndex + 1;
+    while (end < xValues.length && xValues[end] >= firstXValue && xValues[end] <= lastXValue) {
+      end++;
+    }
+    return end;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Returns the index of the last value in the input array which is lower than the specified value.
@@ -180,4 +308,30 @@ public abstract class AbstractBoundCurveInterpolator
     return lo - 1;
   }
 
+  /**
+   * Returns the index of the last value in the input array which is lower than the specified value,
+   * searching forward from a previously returned index.
+   * <p>
+   * This is intended for use when finding the index for a sequence of x-values sorted from low to high,
+   * where it avoids a binary search for each x-value.
+   * The conditions of {@link #lowerBoundIndex(double, double[])} apply.
+   * If the x-value is lower than the value at the previous index, a binary search is performed.
+   *
+   * @param xValue  a value which is less than the last element in {@code xValues}
+   * @param xValues  an array of values sorted in ascending order
+   * @param previousIndex  the index previously returned, zero if none
+   * @return the index of the last value in {@code xValues} which is lower than {@code xValue}
+   */
+  protected static int lowerBoundIndex(double xValue, double[] xValues, int previousIndex) {
+    if (xValue < xValues[previousIndex]) {
+      return lowerBoundIndex(xValue, xValues);
+    }
+    int index = previousIndex;
+    int lastIndex = xValues.length - 1;
+    while (index < lastIndex && xValues[index + 1] <= xValue) {
+      index++;
+    }
+    return index;
+  }
+
 }
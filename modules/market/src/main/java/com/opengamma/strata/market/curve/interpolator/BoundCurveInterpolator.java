@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.market.curve.interpolator;
 
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 
 /**
@@ -52,6 +53,59 @@ public interface BoundCurveInterpolator {
    */
   public abstract DoubleArray parameterSensitivity(double x);
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the y-values for the specified x-values by interpolation.
+   * <p>
+   * The y-value for each element of {@code xValues} is stored at the same index in {@code result}.
+   * Implementations are optimized for x-values sorted from low to high, as is typical when
+   * computing values for a schedule, but any order is accepted.
+   *
+   * @param xValues  the x-values to find the y-values for
+   * @param result  the array to store the y-values in, at least as long as the x-values
+   * @throws RuntimeException if a y-value cannot be calculated
+   */
+  public default void interpolate(double[] xValues, double[] result) {
+    ArgChecker.isTrue(result.length >= xValues.length, "Result array must be at least as long as x-value array");
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = interpolate(xValues[i]);
+    }
+  }
+
+  /**
+   * Computes the first derivatives of the y-value for the specified x-values.
+   * <p>
+   * The first derivative for each element of {@code xValues} is stored at the same index in {@code result}.
+   * Implementations are optimized for x-values sorted from low to high, but any order is accepted.
+   *
+   * @param xValues  the x-values at which the derivative is taken
+   * @param result  the array to store the derivatives in, at least as long as the x-values
+   * @throws RuntimeException if a derivative cannot be calculated
+   */
+  public default void firstDerivative(double[] xValues, double[] result) {
+    ArgChecker.isTrue(result.length >= xValues.length, "Result array must be at least as long as x-value array");
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = firstDerivative(xValues[i]);
+    }
+  }
+
+  /**
+   * Computes the sensitivities of the y-value with respect to the curve parameters for the specified x-values.
+   * <p>
+   * The sensitivity for each element of {@code xValues} is stored at the same index in {@code result}.
+   * Implementations are optimized for x-values sorted from low to high, but any order is accepted.
+   *
+   * @param xValues  the x-values at which the parameter sensitivity is computed
+   * @param result  the array to store the sensitivities in, at least as long as the x-values
+   * @throws RuntimeException if a sensitivity cannot be calculated
+   */
+  public default void parameterSensitivity(double[] xValues, DoubleArray[] result) {
+    ArgChecker.isTrue(result.length >= xValues.length, "Result array must be at least as long as x-value array");
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = parameterSensitivity(xValues[i]);
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Binds this interpolator to the specified extrapolators.
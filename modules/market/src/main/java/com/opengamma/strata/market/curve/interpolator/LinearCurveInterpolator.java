@@ -99,7 +99,19 @@ final class LinearCurveInterpolator
     @Override
     protected double doInterpolate(double xValue) {
       // x-value is less than the x-value of the last node (lowerIndex < intervalCount)
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
+      return interpolate(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected void doInterpolate(double[] xValuesToFind, double[] result, int startIndex, int endIndex) {
+      int lowerIndex = 0;
+      for (int i = startIndex; i < endIndex; i++) {
+        lowerIndex = lowerBoundIndex(xValuesToFind[i], xValues, lowerIndex);
+        result[i] = interpolate(xValuesToFind[i], lowerIndex);
+      }
+    }
+
+    private double interpolate(double xValue, int lowerIndex) {
       double x1 = xValues[lowerIndex];
       double y1 = yValues[lowerIndex];
       return y1 + (xValue - x1) * gradients[lowerIndex];
@@ -107,19 +119,48 @@ final class LinearCurveInterpolator
 
     @Override
     protected double doFirstDerivative(double xValue) {
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
+      return gradient(lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected void doFirstDerivative(double[] xValuesToFind, double[] result, int startIndex, int endIndex) {
+      int lowerIndex = 0;
+      for (int i = startIndex; i < endIndex; i++) {
+        lowerIndex = lowerBoundIndex(xValuesToFind[i], xValues, lowerIndex);
+        result[i] = gradient(lowerIndex);
+      }
+    }
+
+    private double gradient(int lowerIndex) {
       // check if x-value is at the last node
       if (lowerIndex == intervalCount) {
         // if value is at last node, calculate the gradient from the previous interval
-        lowerIndex--;
+        return gradients[lowerIndex - 1];
       }
       return gradients[lowerIndex];
     }
 
     @Override
     protected DoubleArray doParameterSensitivity(double xValue) {
+      return parameterSensitivity(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected void doParameterSensitivity(
+        double[] xValuesToFind,
+        DoubleArray[] result,
+        int startIndex,
+        int endIndex) {
+
+      int lowerIndex = 0;
+      for (int i = startIndex; i < endIndex; i++) {
+        lowerIndex = lowerBoundIndex(xValuesToFind[i], xValues, lowerIndex);
+        result[i] = parameterSensitivity(xValuesToFind[i], lowerIndex);
+      }
+    }
+
+    private DoubleArray parameterSensitivity(double xValue, int lowerIndex) {
       double[] result = new double[yValues.length];
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
       // check if x-value is at the last node
       if (lowerIndex == intervalCount) {
         // sensitivity is entirely to the last node
@@ -133,6 +133,18 @@ public final class CurrencyParameterSensitivities
     return new CurrencyParameterSensitivities(ImmutableList.copyOf(mutable));
   }
 
+  /**
+   * Returns a builder that can be used to create an instance of {@code CurrencyParameterSensitivities}.
+   * <p>
+   * The builder sums sensitivities in place, and is more efficient than repeatedly
+   * calling {@link #combinedWith(CurrencyParameterSensitivities)} when there are many sensitivities.
+   * 
+   * @return the builder
+   */
+  public static CurrencyParameterSensitivitiesBuilder builder() {
+    return new CurrencyParameterSensitivitiesBuilder();
+  }
+
   // used when not pre-sorted
   @ImmutableConstructor
   private CurrencyParameterSensitivities(List<? extends CurrencyParameterSensitivity> sensitivities) {
@@ -0,0 +1,134 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.MarketDataName;
+
+/**
+ * Builder for {@code CurrencyParameterSensitivities}.
+ * <p>
+ * This is a mutable builder that sums sensitivities in place, keyed by market data name and currency.
+ * It avoids the intermediate immutable instances that are created when repeatedly calling
+ * {@link CurrencyParameterSensitivities#combinedWith(CurrencyParameterSensitivities)}.
+ * <p>
+ * This is a mutable builder that is not intended for use in multiple threads.
+ */
+public final class CurrencyParameterSensitivitiesBuilder {
+
+  /**
+   * The accumulated sensitivities, keyed by market data name and currency.
+   */
+  private final Map<Pair<MarketDataName<?>, Currency>, Entry> sensitivities = new TreeMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Restricted constructor.
+   */
+  CurrencyParameterSensitivitiesBuilder() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds a single sensitivity to the builder.
+   * <p>
+   * If a sensitivity already exists for the same market data name and currency, the values are summed.
+   *
+   * @param sensitivity  the sensitivity to add
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count differs from an existing entry with the same key
+   */
+  public CurrencyParameterSensitivitiesBuilder add(CurrencyParameterSensitivity sensitivity) {
+    ArgChecker.notNull(sensitivity, "sensitivity");
+    Pair<MarketDataName<?>, Currency> key = Pair.of(sensitivity.getMarketDataName(), sensitivity.getCurrency());
+    Entry existing = sensitivities.get(key);
+    if (existing == null) {
+      sensitivities.put(key, new Entry(sensitivity));
+    } else {
+      existing.add(sensitivity);
+    }
+    return this;
+  }
+
+  /**
+   * Adds all the sensitivities of the specified instance to the builder.
+   * <p>
+   * If a sensitivity already exists for the same market data name and currency, the values are summed.
+   *
+   * @param sensitivities  the sensitivities to add
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count differs from an existing entry with the same key
+   */
+  public CurrencyParameterSensitivitiesBuilder add(CurrencyParameterSensitivities sensitivities) {
+    ArgChecker.notNull(sensitivities, "sensitivities");
+    for (CurrencyParameterSensitivity sensitivity : sensitivities.getSensitivities()) {
+      add(sensitivity);
+    }
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the sensitivity from the provided data.
+   * <p>
+   * The builder may continue to be used after this method is called.
+   *
+   * @return the sensitivities instance
+   */
+  public CurrencyParameterSensitivities build() {
+    if (sensitivities.isEmpty()) {
+      return CurrencyParameterSensitivities.empty();
+    }
+    CurrencyParameterSensitivity[] result = new CurrencyParameterSensitivity[sensitivities.size()];
+    int index = 0;
+    for (Entry entry : sensitivities.values()) {
+      result[index++] = entry.build();
+    }
+    return CurrencyParameterSensitivities.of(result);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A single accumulated sensitivity, holding the sensitivity values in a mutable array.
+   */
+  private static final class Entry {
+    private final CurrencyParameterSensitivity base;
+    private final double[] values;
+
+    Entry(CurrencyParameterSensitivity base) {
+      this.base = base;
+      this.values = base.getSensitivity().toArray();
+    }
+
+    // sums the values of the addition into this entry
+    void add(CurrencyParameterSensitivity addition) {
+      DoubleArray additionValues = addition.getSensitivity();
+      if (additionValues.size() != values.length) {
+        throw new IllegalArgumentException(Messages.format(
+            "Unable to combine sensitivities for {} with different parameter counts: {} and {}",
+            base.getMarketDataName(),
+            values.length,
+            additionValues.size()));
+      }
+      for (int i = 0; i < values.length; i++) {
+        values[i] += additionValues.get(i);
+      }
+    }
+
+    // creates the sensitivity, copying the values so that the builder can continue to be used
+    CurrencyParameterSensitivity build() {
+      return base.withSensitivity(DoubleArray.copyOf(values));
+    }
+  }
+
+}
@@ -0,0 +1,680 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.BeanDefinition;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.ImmutableValidator;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.Property;
+import org.joda.beans.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.data.scenario.ConcatenableScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioFxConvertible;
+import com.opengamma.strata.data.scenario.ScenarioFxRateProvider;
+
+/**
+ * A currency-convertible scenario array for parameter sensitivities, holding one sensitivity for each scenario.
+ * <p>
+ * This contains a list of {@link CurrencyParameterSensitivities}, one for each scenario.
+ * The calculation runner is able to convert the currency of the values if required.
+ * <p>
+ * This class uses less memory than an instance based on a list of {@code CurrencyParameterSensitivities} instances.
+ * Internally, it stores the market data name, parameter metadata and currency of each sensitivity once,
+ * together with a {@link DoubleMatrix} of sensitivity values with one row for each scenario.
+ * <p>
+ * A sensitivity that is present in some scenarios but not others is stored as zero
+ * in the scenarios where it is absent. The parameter metadata of a sensitivity must
+ * be the same in all scenarios. Where it is not, {@link #of(int, IntFunction)} returns
+ * a {@link ScenarioArray} holding the sensitivities of each scenario separately.
+ */
+@BeanDefinition(builderScope = "private")
+public final class CurrencyParameterSensitivitiesScenarioArray
+    implements ConcatenableScenarioArray<CurrencyParameterSensitivities>,
+    ScenarioFxConvertible<CurrencyParameterSensitivitiesScenarioArray>, ImmutableBean {
+
+  /**
+   * The number of scenarios.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegativeOrZero", overrideGet = true)
+  private final int scenarioCount;
+  /**
+   * The structure of the sensitivities, with all sensitivity values set to zero.
+   * <p>
+   * This defines the market data name, parameter metadata and currency of each sensitivity.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final CurrencyParameterSensitivities structure;
+  /**
+   * The sensitivity values, one matrix for each entry in the structure.
+   * <p>
+   * Each matrix has one row for each scenario and one column for each parameter.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableList<DoubleMatrix> values;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the specified list of sensitivities.
+   *
+   * @param sensitivities  the sensitivities, one for each scenario
+   * @return an instance with the specified sensitivities
+   * @throws IllegalArgumentException if the list is empty or the parameter metadata differs between scenarios
+   */
+  public static CurrencyParameterSensitivitiesScenarioArray of(List<CurrencyParameterSensitivities> sensitivities) {
+    ScenarioArray<CurrencyParameterSensitivities> array = of(sensitivities.size(), sensitivities::get);
+    if (!(array instanceof CurrencyParameterSensitivitiesScenarioArray)) {
+      throw new IllegalArgumentException("Parameter metadata must be the same in all scenarios");
+    }
+    return (CurrencyParameterSensitivitiesScenarioArray) array;
+  }
+
+  /**
+   * Obtains an array using a function to create the entries.
+   * <p>
+   * The function is passed the scenario index and returns the sensitivities for that index.
+   * Each result is copied into the compact form before the next scenario is requested.
+   * <p>
+   * The compact form requires the parameter metadata of each sensitivity to be the same in all scenarios.
+   * This is not the case where the metadata depends on the valuation date, such as the dates of curve nodes,
+   * and the scenarios have different valuation dates. If so, the result is a {@link ScenarioArray}
+   * holding the sensitivities of each scenario separately.
+   *
+   * @param size  the number of elements, at least size one
+   * @param sensitivitiesFunction  the function used to obtain each sensitivity
+   * @return an array initialized using the function, an instance of this class if the metadata matches
+   * @throws IllegalArgumentException if size is zero or less
+   */
+  public static ScenarioArray<CurrencyParameterSensitivities> of(
+      int size,
+      IntFunction<CurrencyParameterSensitivities> sensitivitiesFunction) {
+
+    ArgChecker.notNegativeOrZero(size, "size");
+    // the keys are sorted in the same way as CurrencyParameterSensitivities
+    List<CurrencyParameterSensitivity> keys = new ArrayList<>();
+    List<double[][]> columns = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      CurrencyParameterSensitivities sensitivities = sensitivitiesFunction.apply(i);
+      if (!matchesMetadata(keys, sensitivities)) {
+        return ofSeparate(size, sensitivitiesFunction, i, sensitivities, keys, columns);
+      }
+      for (CurrencyParameterSensitivity sens : sensitivities.getSensitivities()) {
+        int index = Collections.binarySearch(keys, sens, CurrencyParameterSensitivity::compareKey);
+        if (index < 0) {
+          index = -(index + 1);
+          keys.add(index, sens.withSensitivity(DoubleArray.filled(sens.getParameterCount())));
+          columns.add(index, new double[size][]);
+        }
+        double[][] column = columns.get(index);
+        if (column[i] == null) {
+          column[i] = sens.getSensitivity().toArray();
+        } else {
+          double[] row = column[i];
+          for (int j = 0; j < row.length; j++) {
+            row[j] += sens.getSensitivity().get(j);
+          }
+        }
+      }
+    }
+    ImmutableList.Builder<DoubleMatrix> matrices = ImmutableList.builder();
+    for (int k = 0; k < keys.size(); k++) {
+      double[][] column = columns.get(k);
+      for (int i = 0; i < size; i++) {
+        if (column[i] == null) {
+          column[i] = new double[keys.get(k).getParameterCount()];
+        }
+      }
+      matrices.add(DoubleMatrix.ofUnsafe(column));
+    }
+    return new CurrencyParameterSensitivitiesScenarioArray(
+        size, CurrencyParameterSensitivities.of(keys), matrices.build());
+  }
+
+  // checks that the metadata of each sensitivity matches that of the key with the same name and currency
+  private static boolean matchesMetadata(
+      List<CurrencyParameterSensitivity> keys,
+      CurrencyParameterSensitivities sensitivities) {
+
+    for (CurrencyParameterSensitivity sens : sensitivities.getSensitivities()) {
+      int index = Collections.binarySearch(keys, sens, CurrencyParameterSensitivity::compareKey);
+      if (index >= 0 && !keys.get(index).getParameterMetadata().equals(sens.getParameterMetadata())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // creates an array holding each scenario separately, used when the metadata differs between scenarios
+  // the scenarios before the specified index are restored from their compact form, where a null row is absent
+  private static ScenarioArray<CurrencyParameterSensitivities> ofSeparate(
+      int size,
+      IntFunction<CurrencyParameterSensitivities> sensitivitiesFunction,
+      int index,
+      CurrencyParameterSensitivities sensitivities,
+      List<CurrencyParameterSensitivity> keys,
+      List<double[][]> columns) {
+
+    List<CurrencyParameterSensitivities> separate = new ArrayList<>(size);
+    for (int i = 0; i < index; i++) {
+      List<CurrencyParameterSensitivity> entries = new ArrayList<>();
+      for (int k = 0; k < keys.size(); k++) {
+        double[] row = columns.get(k)[i];
+        if (row != null) {
+          entries.add(keys.get(k).withSensitivity(DoubleArray.ofUnsafe(row)));
+        }
+      }
+      separate.add(CurrencyParameterSensitivities.of(entries));
+    }
+    separate.add(sensitivities);
+    for (int i = index + 1; i < size; i++) {
+      separate.add(sensitivitiesFunction.apply(i));
+    }
+    return ScenarioArray.of(separate);
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    ImmutableList<CurrencyParameterSensitivity> sensitivities = structure.getSensitivities();
+    if (sensitivities.size() != values.size()) {
+      throw new IllegalArgumentException("Number of sensitivity matrices must match the structure");
+    }
+    for (int i = 0; i < values.size(); i++) {
+      // a sensitivity with no parameters is held as an empty matrix
+      DoubleMatrix matrix = values.get(i);
+      int parameterCount = sensitivities.get(i).getParameterCount();
+      if (matrix.columnCount() != parameterCount || (parameterCount > 0 && matrix.rowCount() != scenarioCount)) {
+        throw new IllegalArgumentException(Messages.format(
+            "Sensitivity matrix for '{}' must have {} rows and {} columns",
+            sensitivities.get(i).getMarketDataName(),
+            scenarioCount,
+            parameterCount));
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the sensitivities at the specified index.
+   * <p>
+   * This method is not very efficient for large sizes as a new object must be created at each index.
+   *
+   * @param index  the index that should be returned
+   * @return the sensitivities at the specified index
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  @Override
+  public CurrencyParameterSensitivities get(int index) {
+    if (index < 0 || index >= scenarioCount) {
+      throw new IndexOutOfBoundsException("Index out of bounds: " + index);
+    }
+    ImmutableList<CurrencyParameterSensitivity> sensitivities = structure.getSensitivities();
+    List<CurrencyParameterSensitivity> result = new ArrayList<>(sensitivities.size());
+    for (int i = 0; i < sensitivities.size(); i++) {
+      DoubleMatrix matrix = values.get(i);
+      result.add(sensitivities.get(i).withSensitivity(matrix.isEmpty() ? DoubleArray.EMPTY : matrix.row(index)));
+    }
+    return CurrencyParameterSensitivities.of(result);
+  }
+
+  /**
+   * Returns a stream of the sensitivities, one for each scenario.
+   * <p>
+   * This method is not very efficient for large sizes as a new object must be created for each value.
+   *
+   * @return a stream of the sensitivities
+   */
+  @Override
+  public Stream<CurrencyParameterSensitivities> stream() {
+    return IntStream.range(0, scenarioCount).mapToObj(this::get);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns an array containing the scenarios of this array followed by those of the specified arrays.
+   * <p>
+   * The sensitivity matrices are joined row-wise, with zero rows where an array has no such sensitivity.
+   * If any array is not an instance of this class, or the parameter metadata differs between the arrays,
+   * the result holds the sensitivities of each scenario separately.
+   *
+   * @param others  the arrays holding the subsequent scenarios
+   * @return an array containing the scenarios of this array followed by those of the specified arrays
+   */
+  @Override
+  public ScenarioArray<CurrencyParameterSensitivities> concatWith(
+      List<? extends ScenarioArray<CurrencyParameterSensitivities>> others) {
+
+    List<ScenarioArray<CurrencyParameterSensitivities>> arrays = new ArrayList<>(others.size() + 1);
+    arrays.add(this);
+    arrays.addAll(others);
+    int size = arrays.stream().mapToInt(array -> array.getScenarioCount()).sum();
+    // the keys are sorted in the same way as CurrencyParameterSensitivities
+    List<CurrencyParameterSensitivity> keys = new ArrayList<>();
+    for (ScenarioArray<CurrencyParameterSensitivities> array : arrays) {
+      if (!(array instanceof CurrencyParameterSensitivitiesScenarioArray) ||
+          !matchesMetadata(keys, ((CurrencyParameterSensitivitiesScenarioArray) array).structure)) {
+        List<CurrencyParameterSensitivities> separate = new ArrayList<>(size);
+        arrays.forEach(a -> a.stream().forEach(separate::add));
+        return ScenarioArray.of(separate);
+      }
+      CurrencyParameterSensitivities structure = ((CurrencyParameterSensitivitiesScenarioArray) array).structure;
+      for (CurrencyParameterSensitivity sens : structure.getSensitivities()) {
+        int index = Collections.binarySearch(keys, sens, CurrencyParameterSensitivity::compareKey);
+        if (index < 0) {
+          keys.add(-(index + 1), sens);
+        }
+      }
+    }
+    ImmutableList.Builder<DoubleMatrix> matrices = ImmutableList.builder();
+    for (CurrencyParameterSensitivity key : keys) {
+      double[][] rows = new double[size][];
+      int pos = 0;
+      for (ScenarioArray<CurrencyParameterSensitivities> array : arrays) {
+        CurrencyParameterSensitivitiesScenarioArray compact = (CurrencyParameterSensitivitiesScenarioArray) array;
+        int index = Collections.binarySearch(
+            compact.structure.getSensitivities(), key, CurrencyParameterSensitivity::compareKey);
+        for (int i = 0; i < compact.scenarioCount; i++) {
+          rows[pos++] = (index >= 0 && key.getParameterCount() > 0) ?
+              compact.values.get(index).rowArray(i) :
+              new double[key.getParameterCount()];
+        }
+      }
+      matrices.add(DoubleMatrix.ofUnsafe(rows));
+    }
+    return new CurrencyParameterSensitivitiesScenarioArray(
+        size, CurrencyParameterSensitivities.of(keys), matrices.build());
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public CurrencyParameterSensitivitiesScenarioArray convertedTo(
+      Currency reportingCurrency,
+      ScenarioFxRateProvider fxRateProvider) {
+
+    if (fxRateProvider.getScenarioCount() != scenarioCount) {
+      throw new IllegalArgumentException(Messages.format(
+          "Expected {} FX rates but received {}", scenarioCount, fxRateProvider.getScenarioCount()));
+    }
+    ImmutableList<CurrencyParameterSensitivity> sensitivities = structure.getSensitivities();
+    List<CurrencyParameterSensitivity> keys = new ArrayList<>();
+    List<DoubleMatrix> matrices = new ArrayList<>();
+    for (int i = 0; i < sensitivities.size(); i++) {
+      CurrencyParameterSensitivity key = sensitivities.get(i);
+      DoubleMatrix matrix = values.get(i);
+      Currency currency = key.getCurrency();
+      if (!currency.equals(reportingCurrency)) {
+        double[] rates = new double[scenarioCount];
+        for (int s = 0; s < scenarioCount; s++) {
+          rates[s] = fxRateProvider.fxRate(currency, reportingCurrency, s);
+        }
+        matrix = matrix.mapWithIndex((row, column, value) -> value * rates[row]);
+        key = CurrencyParameterSensitivity.of(
+            key.getMarketDataName(), key.getParameterMetadata(), reportingCurrency, key.getSensitivity());
+      }
+      // merges the entry with an existing entry if the key matches, as in CurrencyParameterSensitivities
+      int index = Collections.binarySearch(keys, key, CurrencyParameterSensitivity::compareKey);
+      if (index >= 0) {
+        matrices.set(index, matrices.get(index).plus(matrix));
+      } else {
+        int insertionPoint = -(index + 1);
+        keys.add(insertionPoint, key);
+        matrices.add(insertionPoint, matrix);
+      }
+    }
+    return new CurrencyParameterSensitivitiesScenarioArray(
+        scenarioCount, CurrencyParameterSensitivities.of(keys), matrices);
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  ///CLOVER:OFF
+  /**
+   * The meta-bean for {@code CurrencyParameterSensitivitiesScenarioArray}.
+   * @return the meta-bean, not null
+   */
+  public static CurrencyParameterSensitivitiesScenarioArray.Meta meta() {
+    return CurrencyParameterSensitivitiesScenarioArray.Meta.INSTANCE;
+  }
+
+  static {
+    JodaBeanUtils.registerMetaBean(CurrencyParameterSensitivitiesScenarioArray.Meta.INSTANCE);
+  }
+
+  private CurrencyParameterSensitivitiesScenarioArray(
+      int scenarioCount,
+      CurrencyParameterSensitivities structure,
+      List<DoubleMatrix> values) {
+    ArgChecker.notNegativeOrZero(scenarioCount, "scenarioCount");
+    JodaBeanUtils.notNull(structure, "structure");
+    JodaBeanUtils.notNull(values, "values");
+    this.scenarioCount = scenarioCount;
+    this.structure = structure;
+    this.values = ImmutableList.copyOf(values);
+    validate();
+  }
+
+  @Override
+  public CurrencyParameterSensitivitiesScenarioArray.Meta metaBean() {
+    return CurrencyParameterSensitivitiesScenarioArray.Meta.INSTANCE;
+  }
+
+  @Override
+  public <R> Property<R> property(String propertyName) {
+    return metaBean().<R>metaProperty(propertyName).createProperty(this);
+  }
+
+  @Override
+  public Set<String> propertyNames() {
+    return metaBean().metaPropertyMap().keySet();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the number of scenarios.
+   * @return the value of the property
+   */
+  @Override
+  public int getScenarioCount() {
+    return scenarioCount;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the structure of the sensitivities, with all sensitivity values set to zero.
+   * <p>
+   * This defines the market data name, parameter metadata and currency of each sensitivity.
+   * @return the value of the property, not null
+   */
+  public CurrencyParameterSensitivities getStructure() {
+    return structure;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the sensitivity values, one matrix for each entry in the structure.
+   * <p>
+   * Each matrix has one row for each scenario and one column for each parameter.
+   * @return the value of the property, not null
+   */
+  public ImmutableList<DoubleMatrix> getValues() {
+    return values;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      CurrencyParameterSensitivitiesScenarioArray other = (CurrencyParameterSensitivitiesScenarioArray) obj;
+      return (scenarioCount == other.scenarioCount) &&
+          JodaBeanUtils.equal(structure, other.structure) &&
+          JodaBeanUtils.equal(values, other.values);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(scenarioCount);
+    hash = hash * 31 + JodaBeanUtils.hashCode(structure);
+    hash = hash * 31 + JodaBeanUtils.hashCode(values);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(128);
+    buf.append("CurrencyParameterSensitivitiesScenarioArray{");
+    buf.append("scenarioCount").append('=').append(JodaBeanUtils.toString(scenarioCount)).append(',').append(' ');
+    buf.append("structure").append('=').append(JodaBeanUtils.toString(structure)).append(',').append(' ');
+    buf.append("values").append('=').append(JodaBeanUtils.toString(values));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code CurrencyParameterSensitivitiesScenarioArray}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code scenarioCount} property.
+     */
+    private final MetaProperty<Integer> scenarioCount = DirectMetaProperty.ofImmutable(
+        this, "scenarioCount", CurrencyParameterSensitivitiesScenarioArray.class, Integer.TYPE);
+    /**
+     * The meta-property for the {@code structure} property.
+     */
+    private final MetaProperty<CurrencyParameterSensitivities> structure = DirectMetaProperty.ofImmutable(
+        this, "structure", CurrencyParameterSensitivitiesScenarioArray.class, CurrencyParameterSensitivities.class);
+    /**
+     * The meta-property for the {@code values} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<ImmutableList<DoubleMatrix>> values = DirectMetaProperty.ofImmutable(
+        this, "values", CurrencyParameterSensitivitiesScenarioArray.class, (Class) ImmutableList.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "scenarioCount",
+        "structure",
+        "values");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1203198113:  // scenarioCount
+          return scenarioCount;
+        case 144518515:  // structure
+          return structure;
+        case -823812830:  // values
+          return values;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends CurrencyParameterSensitivitiesScenarioArray> builder() {
+      return new CurrencyParameterSensitivitiesScenarioArray.Builder();
+    }
+
+    @Override
+    public Class<? extends CurrencyParameterSensitivitiesScenarioArray> beanType() {
+      return CurrencyParameterSensitivitiesScenarioArray.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code scenarioCount} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Integer> scenarioCount() {
+      return scenarioCount;
+    }
+
+    /**
+     * The meta-property for the {@code structure} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<CurrencyParameterSensitivities> structure() {
+      return structure;
+    }
+
+    /**
+     * The meta-property for the {@code values} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ImmutableList<DoubleMatrix>> values() {
+      return values;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case -1203198113:  // scenarioCount
+          return ((CurrencyParameterSensitivitiesScenarioArray) bean).getScenarioCount();
+        case 144518515:  // structure
+          return ((CurrencyParameterSensitivitiesScenarioArray) bean).getStructure();
+        case -823812830:  // values
+          return ((CurrencyParameterSensitivitiesScenarioArray) bean).getValues();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code CurrencyParameterSensitivitiesScenarioArray}.
+   */
+  private static final class Builder extends DirectFieldsBeanBuilder<CurrencyParameterSensitivitiesScenarioArray> {
+
+    private int scenarioCount;
+    private CurrencyParameterSensitivities structure;
+    private List<DoubleMatrix> values = ImmutableList.of();
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1203198113:  // scenarioCount
+          return scenarioCount;
+        case 144518515:  // structure
+          return structure;
+        case -823812830:  // values
+          return values;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case -1203198113:  // scenarioCount
+          this.scenarioCount = (Integer) newValue;
+          break;
+        case 144518515:  // structure
+          this.structure = (CurrencyParameterSensitivities) newValue;
+          break;
+        case -823812830:  // values
+          this.values = (List<DoubleMatrix>) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public Builder set(MetaProperty<?> property, Object value) {
+      super.set(property, value);
+      return this;
+    }
+
+    @Override
+    public Builder setString(String propertyName, String value) {
+      setString(meta().metaProperty(propertyName), value);
+      return this;
+    }
+
+    @Override
+    public Builder setString(MetaProperty<?> property, String value) {
+      super.setString(property, value);
+      return this;
+    }
+
+    @Override
+    public Builder setAll(Map<String, ? extends Object> propertyValueMap) {
+      super.setAll(propertyValueMap);
+      return this;
+    }
+
+    @Override
+    public CurrencyParameterSensitivitiesScenarioArray build() {
+      return new CurrencyParameterSensitivitiesScenarioArray(
+          scenarioCount,
+          structure,
+          values);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(128);
+      buf.append("CurrencyParameterSensitivitiesScenarioArray.Builder{");
+      buf.append("scenarioCount").append('=').append(JodaBeanUtils.toString(scenarioCount)).append(',').append(' ');
+      buf.append("structure").append('=').append(JodaBeanUtils.toString(structure)).append(',').append(' ');
+      buf.append("values").append('=').append(JodaBeanUtils.toString(values));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  ///CLOVER:ON
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -189,18 +189,25 @@ public final class MutablePointSensitivities
    */
   @Override
   public MutablePointSensitivities normalize() {
+    normalize(sensitivities);
+    return this;
+  }
+
+  // sorts and merges the list in place, retaining the first entry of each key
+  // the merge is linear after sorting, avoiding repeated removal from the list
+  static void normalize(List<PointSensitivity> sensitivities) {
     sensitivities.sort(PointSensitivity::compareKey);
-    PointSensitivity previous = sensitivities.get(0);
-    for (int i = 1; i < sensitivities.size(); i++) {
+    int size = 0;
+    for (int i = 0; i < sensitivities.size(); i++) {
       PointSensitivity current = sensitivities.get(i);
-      if (current.compareKey(previous) == 0) {
-        sensitivities.set(i - 1, previous.withSensitivity(previous.getSensitivity() + current.getSensitivity()));
-        sensitivities.remove(i);
-        i--;
+      if (size > 0 && current.compareKey(sensitivities.get(size - 1)) == 0) {
+        PointSensitivity previous = sensitivities.get(size - 1);
+        sensitivities.set(size - 1, previous.withSensitivity(previous.getSensitivity() + current.getSensitivity()));
+      } else {
+        sensitivities.set(size++, current);
       }
-      previous = current;
     }
-    return this;
+    sensitivities.subList(size, sensitivities.size()).clear();
   }
 
   //-----------------------------------------------------------------------
@@ -7,7 +7,6 @@ package com.opengamma.strata.market.sensitivity;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -184,10 +183,8 @@ public final class PointSensitivities
     if (sensitivities.isEmpty()) {
       return this;
     }
-    List<PointSensitivity> mutable = new ArrayList<>();
-    for (PointSensitivity sensi : sensitivities) {
-      insert(mutable, sensi);
-    }
+    List<PointSensitivity> mutable = new ArrayList<>(sensitivities);
+    MutablePointSensitivities.normalize(mutable);
     return new PointSensitivities(mutable);
   }
 
@@ -239,27 +236,14 @@ public final class PointSensitivities
   //-------------------------------------------------------------------------
   @Override
   public PointSensitivities convertedTo(Currency resultCurrency, FxRateProvider rateProvider) {
-    List<PointSensitivity> mutable = new ArrayList<>();
+    List<PointSensitivity> mutable = new ArrayList<>(sensitivities.size());
     for (PointSensitivity sensi : sensitivities) {
-      insert(mutable, sensi.convertedTo(resultCurrency, rateProvider));
+      mutable.add(sensi.convertedTo(resultCurrency, rateProvider));
     }
+    MutablePointSensitivities.normalize(mutable);
     return new PointSensitivities(mutable);
   }
 
-  // inserts a sensitivity into the mutable list in the right location
-  // merges the entry with an existing entry if the key matches
-  private static void insert(List<PointSensitivity> mutable, PointSensitivity addition) {
-    int index = Collections.binarySearch(mutable, addition, PointSensitivity::compareKey);
-    if (index >= 0) {
-      PointSensitivity base = mutable.get(index);
-      double combined = base.getSensitivity() + addition.getSensitivity();
-      mutable.set(index, base.withSensitivity(combined));
-    } else {
-      int insertionPoint = -(index + 1);
-      mutable.add(insertionPoint, addition);
-    }
-  }
-
   //------------------------- AUTOGENERATED START -------------------------
   ///CLOVER:OFF
   /**
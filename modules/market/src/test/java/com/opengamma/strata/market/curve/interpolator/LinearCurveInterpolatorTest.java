@@ -52,6 +52,22 @@ public class LinearCurveInterpolatorTest {
     assertEquals(bci.firstDerivative(0.2), deriv, 1e-6);
   }
 
+  public void test_batch() {
+    BoundCurveInterpolator bci = LINEAR_INTERPOLATOR.bind(X_DATA, Y_DATA, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
+    double[] xValues = {-1.0, 0.0, 0.2, 0.4, 0.41, 1.1, 2.3, 2.3, 4.9, 5.0, 6.0, 0.3, 1.9};
+    double[] values = new double[xValues.length];
+    double[] derivatives = new double[xValues.length];
+    DoubleArray[] sensitivities = new DoubleArray[xValues.length];
+    bci.interpolate(xValues, values);
+    bci.firstDerivative(xValues, derivatives);
+    bci.parameterSensitivity(xValues, sensitivities);
+    for (int i = 0; i < xValues.length; i++) {
+      assertEquals(values[i], bci.interpolate(xValues[i]), TOL);
+      assertEquals(derivatives[i], bci.firstDerivative(xValues[i]), TOL);
+      assertEquals(sensitivities[i], bci.parameterSensitivity(xValues[i]));
+    }
+  }
+
   //-------------------------------------------------------------------------
   public void test_firstNode() {
     BoundCurveInterpolator bci = LINEAR_INTERPOLATOR.bind(X_DATA, Y_DATA, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
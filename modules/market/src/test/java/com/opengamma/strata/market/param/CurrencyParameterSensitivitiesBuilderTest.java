@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.market.curve.CurveName;
+
+/**
+ * Test {@link CurrencyParameterSensitivitiesBuilder}.
+ */
+@Test
+public class CurrencyParameterSensitivitiesBuilderTest {
+
+  private static final MarketDataName<?> NAME1 = CurveName.of("NAME-1");
+  private static final MarketDataName<?> NAME2 = CurveName.of("NAME-2");
+  private static final CurrencyParameterSensitivity ENTRY_USD =
+      CurrencyParameterSensitivity.of(NAME1, Currency.USD, DoubleArray.of(100, 200, 300, 123));
+  private static final CurrencyParameterSensitivity ENTRY_USD2 =
+      CurrencyParameterSensitivity.of(NAME1, Currency.USD, DoubleArray.of(1000, 250, 321, 123));
+  private static final CurrencyParameterSensitivity ENTRY_EUR =
+      CurrencyParameterSensitivity.of(NAME2, Currency.EUR, DoubleArray.of(1000, 250, 321, 123, 321));
+  private static final CurrencyParameterSensitivity ENTRY_NAME1_EUR =
+      CurrencyParameterSensitivity.of(NAME1, Currency.EUR, DoubleArray.of(1, 2, 3, 4));
+
+  //-------------------------------------------------------------------------
+  public void test_empty() {
+    assertEquals(CurrencyParameterSensitivities.builder().build(), CurrencyParameterSensitivities.empty());
+  }
+
+  public void test_add_matchesCombinedWith() {
+    CurrencyParameterSensitivitiesBuilder test = CurrencyParameterSensitivities.builder()
+        .add(ENTRY_EUR)
+        .add(ENTRY_USD)
+        .add(CurrencyParameterSensitivities.of(ENTRY_USD2, ENTRY_NAME1_EUR));
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(ENTRY_EUR)
+        .combinedWith(ENTRY_USD)
+        .combinedWith(CurrencyParameterSensitivities.of(ENTRY_USD2, ENTRY_NAME1_EUR));
+    assertEquals(test.build(), expected);
+    assertEquals(test.build().getSensitivity(NAME1, Currency.USD).getSensitivity(), DoubleArray.of(1100, 450, 621, 246));
+  }
+
+  public void test_build_reusable() {
+    CurrencyParameterSensitivitiesBuilder test = CurrencyParameterSensitivities.builder().add(ENTRY_USD);
+    CurrencyParameterSensitivities first = test.build();
+    test.add(ENTRY_USD2);
+    assertEquals(first, CurrencyParameterSensitivities.of(ENTRY_USD));
+    assertEquals(test.build(), CurrencyParameterSensitivities.of(ENTRY_USD).combinedWith(ENTRY_USD2));
+  }
+
+  public void test_add_differentSize() {
+    CurrencyParameterSensitivity small = CurrencyParameterSensitivity.of(NAME1, Currency.USD, DoubleArray.of(1d));
+    CurrencyParameterSensitivitiesBuilder test = CurrencyParameterSensitivities.builder().add(ENTRY_USD);
+    assertThrowsIllegalArg(() -> test.add(small));
+  }
+
+}
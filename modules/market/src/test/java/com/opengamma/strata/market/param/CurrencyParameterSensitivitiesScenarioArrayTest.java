@@ -0,0 +1,192 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static java.util.stream.Collectors.toList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.FxMatrix;
+import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioFxRateProvider;
+import com.opengamma.strata.market.curve.CurveName;
+
+/**
+ * Test {@link CurrencyParameterSensitivitiesScenarioArray}.
+ */
+@Test
+public class CurrencyParameterSensitivitiesScenarioArrayTest {
+
+  private static final MarketDataName<?> NAME1 = CurveName.of("NAME-1");
+  private static final MarketDataName<?> NAME2 = CurveName.of("NAME-2");
+  private static final List<ParameterMetadata> METADATA1 = ParameterMetadata.listOfEmpty(4);
+  private static final List<ParameterMetadata> METADATA2 = ParameterMetadata.listOfEmpty(3);
+  private static final CurrencyParameterSensitivity ENTRY_USD1 =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, USD, DoubleArray.of(100, 200, 300, 123));
+  private static final CurrencyParameterSensitivity ENTRY_USD2 =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, USD, DoubleArray.of(1000, 250, 321, 123));
+  private static final CurrencyParameterSensitivity ENTRY_EUR1 =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, EUR, DoubleArray.of(10, 20, 30, 40));
+  private static final CurrencyParameterSensitivity ENTRY_EUR2 =
+      CurrencyParameterSensitivity.of(NAME2, METADATA2, EUR, DoubleArray.of(5, 6, 7));
+  private static final CurrencyParameterSensitivities SENSI1 = CurrencyParameterSensitivities.of(ENTRY_USD1, ENTRY_EUR2);
+  private static final CurrencyParameterSensitivities SENSI2 = CurrencyParameterSensitivities.of(ENTRY_USD2, ENTRY_EUR1);
+  private static final double[] RATES = {1.6, 1.7};
+  private static final ScenarioFxRateProvider FX_PROVIDER = new ScenarioFxRateProvider() {
+    @Override
+    public int getScenarioCount() {
+      return RATES.length;
+    }
+
+    @Override
+    public FxRateProvider fxRateProvider(int scenarioIndex) {
+      return FxMatrix.of(EUR, USD, RATES[scenarioIndex]);
+    }
+  };
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    CurrencyParameterSensitivitiesScenarioArray test =
+        CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(SENSI1, SENSI2));
+    assertEquals(test.getScenarioCount(), 2);
+    assertEquals(test.getStructure().size(), 3);
+    assertEquals(test.getValues().size(), 3);
+    assertEquals(test.getValues().get(0), DoubleMatrix.of(2, 4, 0d, 0d, 0d, 0d, 10d, 20d, 30d, 40d));
+    // absent sensitivities are zero
+    assertEquals(test.get(0), SENSI1.combinedWith(ENTRY_EUR1.withSensitivity(DoubleArray.filled(4))));
+    assertEquals(test.get(1), SENSI2.combinedWith(ENTRY_EUR2.withSensitivity(DoubleArray.filled(3))));
+    assertEquals(test.stream().collect(toList()), ImmutableList.of(test.get(0), test.get(1)));
+    assertEquals(CurrencyParameterSensitivitiesScenarioArray.of(2, i -> i == 0 ? SENSI1 : SENSI2), test);
+  }
+
+  public void test_of_empty() {
+    CurrencyParameterSensitivitiesScenarioArray test = CurrencyParameterSensitivitiesScenarioArray.of(
+        ImmutableList.of(CurrencyParameterSensitivities.empty(), CurrencyParameterSensitivities.empty()));
+    assertEquals(test.getScenarioCount(), 2);
+    assertEquals(test.get(1), CurrencyParameterSensitivities.empty());
+  }
+
+  public void test_of_invalid() {
+    CurrencyParameterSensitivity small =
+        CurrencyParameterSensitivity.of(NAME1, ParameterMetadata.listOfEmpty(1), USD, DoubleArray.of(100d));
+    assertThrowsIllegalArg(() -> CurrencyParameterSensitivitiesScenarioArray.of(
+        ImmutableList.of(SENSI1, CurrencyParameterSensitivities.of(small))));
+    assertThrowsIllegalArg(() -> CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of()));
+  }
+
+  public void test_of_differentValuationDates() {
+    // the dates of the curve nodes depend on the valuation date of the scenario
+    CurrencyParameterSensitivities sensi1 = nodeSensitivities(date(2016, 6, 30), 1d);
+    CurrencyParameterSensitivities sensi2 = nodeSensitivities(date(2016, 7, 1), 2d);
+    ScenarioArray<CurrencyParameterSensitivities> test =
+        CurrencyParameterSensitivitiesScenarioArray.of(2, i -> i == 0 ? sensi1 : sensi2);
+    assertFalse(test instanceof CurrencyParameterSensitivitiesScenarioArray);
+    assertEquals(test, ScenarioArray.of(sensi1, sensi2));
+    assertThrowsIllegalArg(() -> CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(sensi1, sensi2)));
+  }
+
+  public void test_of_differentValuationDatesAfterCompact() {
+    // the scenarios before the different valuation date are restored exactly, without absent sensitivities
+    CurrencyParameterSensitivities sensi3 = nodeSensitivities(date(2016, 7, 1), 3d);
+    ImmutableList<CurrencyParameterSensitivities> sensitivities = ImmutableList.of(SENSI1, SENSI2, sensi3);
+    ScenarioArray<CurrencyParameterSensitivities> test =
+        CurrencyParameterSensitivitiesScenarioArray.of(3, sensitivities::get);
+    assertEquals(test, ScenarioArray.of(sensitivities));
+  }
+
+  public void test_get_invalid() {
+    CurrencyParameterSensitivitiesScenarioArray test =
+        CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(SENSI1, SENSI2));
+    try {
+      test.get(2);
+      assertTrue(false);
+    } catch (IndexOutOfBoundsException ex) {
+      // expected
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_concatWith() {
+    CurrencyParameterSensitivitiesScenarioArray expected =
+        CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(SENSI1, SENSI2, SENSI1));
+    CurrencyParameterSensitivitiesScenarioArray first =
+        CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(SENSI1));
+    ScenarioArray<CurrencyParameterSensitivities> test = first.concatWith(ImmutableList.of(
+        CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(SENSI2, SENSI1))));
+    assertEquals(test, expected);
+  }
+
+  public void test_concatWith_differentValuationDates() {
+    CurrencyParameterSensitivities sensi1 = nodeSensitivities(date(2016, 6, 30), 1d);
+    CurrencyParameterSensitivities sensi2 = nodeSensitivities(date(2016, 7, 1), 2d);
+    CurrencyParameterSensitivitiesScenarioArray first =
+        CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(sensi1));
+    ScenarioArray<CurrencyParameterSensitivities> test = first.concatWith(ImmutableList.of(
+        CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(sensi2)),
+        ScenarioArray.of(sensi1)));
+    assertEquals(test, ScenarioArray.of(sensi1, sensi2, sensi1));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_convertedTo() {
+    CurrencyParameterSensitivitiesScenarioArray test =
+        CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(SENSI1, SENSI2));
+    CurrencyParameterSensitivitiesScenarioArray converted = test.convertedTo(USD, FX_PROVIDER);
+    assertEquals(converted.getScenarioCount(), 2);
+    // the EUR and USD sensitivities to NAME1 are merged
+    assertEquals(converted.getStructure().size(), 2);
+    for (int i = 0; i < RATES.length; i++) {
+      CurrencyParameterSensitivities expected = test.get(i).convertedTo(USD, FxMatrix.of(EUR, USD, RATES[i]));
+      assertTrue(converted.get(i).equalWithTolerance(expected, 1e-10));
+    }
+    assertEquals(test.convertedTo(EUR, FX_PROVIDER).get(1),
+        test.get(1).convertedTo(EUR, FxMatrix.of(EUR, USD, RATES[1])));
+  }
+
+  public void test_convertedTo_wrongScenarioCount() {
+    CurrencyParameterSensitivitiesScenarioArray test =
+        CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(SENSI1));
+    assertThrowsIllegalArg(() -> test.convertedTo(USD, FX_PROVIDER));
+  }
+
+  //-------------------------------------------------------------------------
+  public void coverage() {
+    CurrencyParameterSensitivitiesScenarioArray test =
+        CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(SENSI1, SENSI2));
+    coverImmutableBean(test);
+    CurrencyParameterSensitivitiesScenarioArray test2 =
+        CurrencyParameterSensitivitiesScenarioArray.of(ImmutableList.of(SENSI2));
+    coverBeanEquals(test, test2);
+  }
+
+  //-------------------------------------------------------------------------
+  // sensitivities to a curve with nodes at three and six months after the valuation date
+  private static CurrencyParameterSensitivities nodeSensitivities(LocalDate valuationDate, double value) {
+    List<ParameterMetadata> metadata = ImmutableList.of(
+        LabelDateParameterMetadata.of(valuationDate.plusMonths(3), "3M"),
+        LabelDateParameterMetadata.of(valuationDate.plusMonths(6), "6M"));
+    return CurrencyParameterSensitivities.of(
+        CurrencyParameterSensitivity.of(NAME1, metadata, USD, DoubleArray.of(value, 2 * value)));
+  }
+
+}
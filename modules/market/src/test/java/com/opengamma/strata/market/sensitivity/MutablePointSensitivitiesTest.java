@@ -159,6 +159,22 @@ public class MutablePointSensitivitiesTest {
     assertEquals(test.getSensitivities(), ImmutableList.of(CS1, CS2, CS3.withSensitivity(35d)));
   }
 
+  public void test_normalize_manyDuplicates() {
+    MutablePointSensitivities test = new MutablePointSensitivities();
+    test.addAll(Lists.newArrayList(CS3, CS2, CS3B, CS1, CS2, CS3, CS1));
+    test.normalize();
+    assertEquals(test.getSensitivities(), ImmutableList.of(
+        CS1.withSensitivity(CS1.getSensitivity() * 2),
+        CS2.withSensitivity(CS2.getSensitivity() * 2),
+        CS3.withSensitivity(CS3.getSensitivity() * 2 + CS3B.getSensitivity())));
+  }
+
+  public void test_normalize_empty() {
+    MutablePointSensitivities test = new MutablePointSensitivities();
+    test.normalize();
+    assertEquals(test.size(), 0);
+  }
+
   //-------------------------------------------------------------------------
   public void test_toImmutable() {
     MutablePointSensitivities test = new MutablePointSensitivities();
@@ -9,6 +9,7 @@ import java.util.List;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.calc.CalculationRunner;
+import com.opengamma.strata.calc.marketdata.MarketDataCache;
 import com.opengamma.strata.calc.marketdata.MarketDataFactory;
 import com.opengamma.strata.calc.marketdata.MarketDataFunction;
 import com.opengamma.strata.calc.marketdata.ObservableDataProvider;
@@ -125,6 +126,25 @@ public class StandardComponents {
     return MarketDataFactory.of(observableDataProvider, TimeSeriesProvider.none(), marketDataFunctions());
   }
 
+  /**
+   * Returns a market data factory containing the standard set of market data functions,
+   * retaining the market data built by the functions in a cache.
+   * <p>
+   * This factory can create market data values from other market data. For example it
+   * can create calibrated curves given a set of market quotes for the points on the curve.
+   * The cache allows market data, such as calibrated curves, to be reused between calls to the factory
+   * when its inputs have not changed. The same cache instance must be used across calls for it to be effective.
+   * <p>
+   * The set of functions are the ones provided by {@link #marketDataFunctions()}.
+   *
+   * @param observableDataProvider  the provider of observable data
+   * @param cache  the cache of built market data
+   * @return a market data factory containing the standard set of market data functions
+   */
+  public static MarketDataFactory marketDataFactory(ObservableDataProvider observableDataProvider, MarketDataCache cache) {
+    return MarketDataFactory.of(observableDataProvider, TimeSeriesProvider.none(), cache, marketDataFunctions());
+  }
+
   /**
    * Returns the standard market data functions used to build market data values from other market data.
    * <p>
@@ -0,0 +1,171 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.calc;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.runner.CalculationParameter;
+import com.opengamma.strata.calc.runner.CalculationParameters;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.product.ResolvableTrade;
+import com.opengamma.strata.product.ResolvedTrade;
+
+/**
+ * A calculation parameter providing a cache of resolved trades.
+ * <p>
+ * Resolving a trade, such as a swap, can involve significant work, including schedule generation
+ * and holiday calendar adjustments. When the same trades are calculated repeatedly, for example
+ * during intraday re-valuation of an unchanged portfolio, this work is repeated on every run.
+ * <p>
+ * Adding an instance of this class to the {@link CalculationParameters} of the calculation rules
+ * allows calculation functions to reuse the resolved form of a trade from a previous run.
+ * The same instance must be used across runs for the cache to be effective.
+ * <p>
+ * Trades are keyed by value, using {@code equals} and {@code hashCode}, thus a trade that is
+ * modified will be resolved again. The reference data is keyed by identity, as reference data
+ * is typically a long-lived instance that is expensive to compare. A new reference data instance,
+ * for example following a holiday calendar update, causes trades to be resolved again.
+ * <p>
+ * The cache is bounded, with the least recently used entries evicted when the maximum size is reached.
+ * This class is thread-safe.
+ */
+public final class ResolvedTradeCache implements CalculationParameter {
+
+  /**
+   * The cache of resolved trades.
+   */
+  private final Cache<Key, ResolvedTrade> cache;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance holding at most the specified number of resolved trades.
+   *
+   * @param maximumSize  the maximum number of resolved trades to hold
+   * @return the cache
+   */
+  public static ResolvedTradeCache of(int maximumSize) {
+    ArgChecker.notNegativeOrZero(maximumSize, "maximumSize");
+    return new ResolvedTradeCache(maximumSize);
+  }
+
+  /**
+   * Resolves the trade, using the cache in the parameters if available.
+   * <p>
+   * This is intended to be called by calculation functions.
+   * If the parameters contain a {@code ResolvedTradeCache}, it is used to resolve the trade.
+   * Otherwise the trade is resolved directly.
+   *
+   * @param <T>  the type of the resolved trade
+   * @param trade  the trade to resolve
+   * @param parameters  the calculation parameters
+   * @param refData  the reference data to use when resolving
+   * @return the resolved trade
+   */
+  public static <T extends ResolvedTrade> T resolve(
+      ResolvableTrade<T> trade,
+      CalculationParameters parameters,
+      ReferenceData refData) {
+
+    return parameters.findParameter(ResolvedTradeCache.class)
+        .map(cache -> cache.resolve(trade, refData))
+        .orElseGet(() -> trade.resolve(refData));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an instance.
+   *
+   * @param maximumSize  the maximum number of resolved trades to hold
+   */
+  private ResolvedTradeCache(int maximumSize) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .build();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Resolves the trade, returning the cached resolved trade if available.
+   *
+   * @param <T>  the type of the resolved trade
+   * @param trade  the trade to resolve
+   * @param refData  the reference data to use when resolving
+   * @return the resolved trade
+   * @throws RuntimeException if unable to resolve due to an invalid definition
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends ResolvedTrade> T resolve(ResolvableTrade<T> trade, ReferenceData refData) {
+    ArgChecker.notNull(trade, "trade");
+    ArgChecker.notNull(refData, "refData");
+    try {
+      // the resolved type is determined by the type of the trade, which is part of the key
+      return (T) cache.get(new Key(trade, refData), () -> trade.resolve(refData));
+    } catch (UncheckedExecutionException | ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+  /**
+   * Returns the number of resolved trades held in the cache.
+   *
+   * @return the number of resolved trades
+   */
+  public long size() {
+    return cache.size();
+  }
+
+  /**
+   * Removes all resolved trades from the cache.
+   */
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "ResolvedTradeCache[size=" + cache.size() + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The cache key, matching the trade by value and the reference data by identity.
+   */
+  private static final class Key {
+    private final ResolvableTrade<?> trade;
+    private final ReferenceData refData;
+    private final int hashCode;
+
+    Key(ResolvableTrade<?> trade, ReferenceData refData) {
+      this.trade = trade;
+      this.refData = refData;
+      this.hashCode = 31 * trade.hashCode() + System.identityHashCode(refData);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj instanceof Key) {
+        Key other = (Key) obj;
+        return refData == other.refData && Objects.equals(trade, other.trade);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+}
@@ -11,6 +11,7 @@ import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.measure.swaption.SwaptionScenarioMarketData;
@@ -127,7 +128,7 @@ final class CmsMeasureCalculations {
       SwaptionScenarioMarketData swaptionMarketData) {
 
     IborIndex index = cmsLegIborIndex(trade);
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.of(
         ratesMarketData.getScenarioCount(),
         i -> pv01RatesCalibratedBucketed(
             trade,
@@ -180,7 +181,7 @@ final class CmsMeasureCalculations {
       SwaptionScenarioMarketData swaptionMarketData) {
 
     IborIndex index = cmsLegIborIndex(trade);
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.of(
         ratesMarketData.getScenarioCount(),
         i -> pv01RatesMarketQuoteBucketed(
             trade,
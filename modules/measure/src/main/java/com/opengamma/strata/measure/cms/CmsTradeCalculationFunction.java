@@ -24,6 +24,7 @@ import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.calc.ResolvedTradeCache;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.measure.swaption.SwaptionMarketDataLookup;
@@ -71,6 +72,10 @@ public class CmsTradeCalculationFunction
           .build();
 
   private static final ImmutableSet<Measure> MEASURES = CALCULATORS.keySet();
+  /**
+   * The relative cost of pricing a CMS leg compared to a standard swap leg.
+   */
+  private static final double COST_FACTOR = 20d;
 
   /**
    * Creates an instance.
@@ -94,6 +99,12 @@ public class CmsTradeCalculationFunction
     return target.getInfo().getId().map(id -> id.toString());
   }
 
+  @Override
+  public double costEstimate(CmsTrade target) {
+    // each CMS period requires a numerical integration
+    return COST_FACTOR * (target.getProduct().getPayLeg().isPresent() ? 2 : 1);
+  }
+
   @Override
   public Currency naturalCurrency(CmsTrade trade, ReferenceData refData) {
     return trade.getProduct().getCmsLeg().getCurrency();
@@ -132,7 +143,7 @@ public class CmsTradeCalculationFunction
       ReferenceData refData) {
 
     // expand the trade once for all measures and all scenarios
-    ResolvedCmsTrade resolved = trade.resolve(refData);
+    ResolvedCmsTrade resolved = ResolvedTradeCache.resolve(trade, parameters, refData);
     RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
     RatesScenarioMarketData ratesMarketData = ratesLookup.marketDataView(scenarioMarketData);
     SwaptionMarketDataLookup swaptionLookup = parameters.getParameter(SwaptionMarketDataLookup.class);
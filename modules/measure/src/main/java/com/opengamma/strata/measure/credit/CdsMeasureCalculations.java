@@ -12,6 +12,7 @@ import com.opengamma.strata.data.scenario.DoubleScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.pricer.credit.CdsRecoveryRate;
 import com.opengamma.strata.pricer.credit.IsdaCdsPricer;
 import com.opengamma.strata.pricer.credit.IsdaCreditCurveInputs;
@@ -107,7 +108,7 @@ final class CdsMeasureCalculations {
       ResolvedCdsTrade trade,
       ScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.of(
         marketData.getScenarioCount(),
         i -> calculateIr01BucketedZero(trade, marketData.scenario(i)));
   }
@@ -165,7 +166,7 @@ final class CdsMeasureCalculations {
       ResolvedCdsTrade trade,
       ScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.of(
         marketData.getScenarioCount(),
         i -> calculateIr01BucketedPar(trade, marketData.scenario(i)));
   }
@@ -223,7 +224,7 @@ final class CdsMeasureCalculations {
       ResolvedCdsTrade trade,
       ScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.of(
         marketData.getScenarioCount(),
         i -> calculateCs01BucketedPar(trade, marketData.scenario(i)));
   }
@@ -281,7 +282,7 @@ final class CdsMeasureCalculations {
       ResolvedCdsTrade trade,
       ScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.of(
         marketData.getScenarioCount(),
         i -> calculateCs01BucketedHazard(trade, marketData.scenario(i)));
   }
@@ -24,6 +24,7 @@ import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.calc.ResolvedTradeCache;
 import com.opengamma.strata.pricer.credit.IsdaIndexCreditCurveInputsId;
 import com.opengamma.strata.pricer.credit.IsdaIndexRecoveryRateId;
 import com.opengamma.strata.pricer.credit.IsdaSingleNameCreditCurveInputsId;
@@ -164,7 +165,7 @@ public class CdsTradeCalculationFunction
       ReferenceData refData) {
 
     // resolve the trade once for all measures and all scenarios
-    ResolvedCdsTrade resolved = trade.resolve(refData);
+    ResolvedCdsTrade resolved = ResolvedTradeCache.resolve(trade, parameters, refData);
 
     // loop around measures, calculating all scenarios for one measure
     Map<Measure, Result<?>> results = new HashMap<>();
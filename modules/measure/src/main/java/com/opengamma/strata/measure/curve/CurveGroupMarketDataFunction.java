@@ -11,6 +11,7 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
@@ -42,6 +43,10 @@ import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
  * Market data function that builds a curve group.
  * <p>
  * This function calibrates curves, turning a {@link CurveGroupDefinition} into a {@link CurveGroup}.
+ * <p>
+ * When there are multiple scenarios, the first scenario is calibrated in full.
+ * The remaining scenarios are calibrated in parallel, using the curves of the first scenario
+ * as the starting point, see {@link CurveCalibrator#recalibrate}.
  */
 public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGroup, CurveGroupId> {
 
@@ -159,6 +164,8 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
   }
 
   // calibrates when there are multiple groups
+  // the first scenario is calibrated from the node guesses, the other scenarios are calibrated in parallel,
+  // warm starting from the first scenario where the valuation date is the same
   private MarketDataBox<CurveGroup> buildMultipleCurveGroups(
       CurveGroupDefinition configuredGroup,
       CurveCalibrator calibrator,
@@ -168,16 +175,26 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
       ReferenceData refData) {
 
     int scenarioCount = scenarioCount(valuationDateBox, inputBoxes);
-    ImmutableList.Builder<CurveGroup> builder = ImmutableList.builder();
-
-    for (int i = 0; i < scenarioCount; i++) {
-      LocalDate valuationDate = valuationDateBox.getValue(scenarioCount);
-      CurveGroupDefinition filteredGroup = configuredGroup.filtered(valuationDate, refData);
-      List<CurveInputs> curveInputsList = inputsForScenario(inputBoxes, i);
-      MarketData inputs = inputsByKey(valuationDate, curveInputsList, fixings);
-      builder.add(buildGroup(filteredGroup, calibrator, inputs, refData));
-    }
-    ImmutableList<CurveGroup> curveGroups = builder.build();
+    LocalDate baseValuationDate = valuationDateBox.getValue(0);
+    CurveGroupDefinition baseGroup = configuredGroup.filtered(baseValuationDate, refData);
+    MarketData baseInputs = inputsByKey(baseValuationDate, inputsForScenario(inputBoxes, 0), fixings);
+    ImmutableRatesProvider baseProvider = calibrator.calibrate(baseGroup, baseInputs, refData);
+
+    List<CurveGroup> otherCurveGroups = IntStream.range(1, scenarioCount)
+        .parallel()
+        .mapToObj(i -> {
+          LocalDate valuationDate = valuationDateBox.getValue(i);
+          MarketData inputs = inputsByKey(valuationDate, inputsForScenario(inputBoxes, i), fixings);
+          if (valuationDate.equals(baseValuationDate)) {
+            return curveGroup(baseGroup, calibrator.recalibrate(baseGroup, baseProvider, inputs, refData));
+          }
+          return buildGroup(configuredGroup.filtered(valuationDate, refData), calibrator, inputs, refData);
+        })
+        .collect(toImmutableList());
+    ImmutableList<CurveGroup> curveGroups = ImmutableList.<CurveGroup>builder()
+        .add(curveGroup(baseGroup, baseProvider))
+        .addAll(otherCurveGroups)
+        .build();
     return MarketDataBox.ofScenarioValues(curveGroups);
   }
 
@@ -252,6 +269,11 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
         marketData,
         refData);
 
+    return curveGroup(groupDefn, calibratedProvider);
+  }
+
+  // creates the curve group from the calibrated provider
+  private static CurveGroup curveGroup(CurveGroupDefinition groupDefn, ImmutableRatesProvider calibratedProvider) {
     return CurveGroup.of(
         groupDefn.getName(),
         calibratedProvider.getDiscountCurves(),
@@ -18,6 +18,7 @@ import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesScenarioArray;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.pricer.index.IborFutureOptionVolatilities;
@@ -126,7 +127,7 @@ final class IborFutureOptionMeasureCalculations {
       IborFutureOptionScenarioMarketData optionMarketData) {
 
     IborIndex index = trade.getProduct().getUnderlyingFuture().getIndex();
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.of(
         ratesMarketData.getScenarioCount(),
         i -> pv01CalibratedBucketed(
             trade,
@@ -181,7 +182,7 @@ final class IborFutureOptionMeasureCalculations {
       IborFutureOptionScenarioMarketData optionMarketData) {
 
     IborIndex index = trade.getProduct().getUnderlyingFuture().getIndex();
-    return ScenarioArray.of(
+    return CurrencyParameterSensitivitiesScenarioArray.of(
         ratesMarketData.getScenarioCount(),
         i -> pv01MarketQuoteBucketed(
             trade,
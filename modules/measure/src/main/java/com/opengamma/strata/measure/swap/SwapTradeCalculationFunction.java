@@ -23,6 +23,7 @@ import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.measure.AdvancedMeasures;
 import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.calc.ResolvedTradeCache;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.product.swap.ResolvedSwapTrade;
@@ -106,6 +107,12 @@ public class SwapTradeCalculationFunction
     return target.getInfo().getId().map(id -> id.toString());
   }
 
+  @Override
+  public double costEstimate(SwapTrade target) {
+    // each leg is priced separately
+    return target.getProduct().getLegs().size();
+  }
+
   @Override
   public Currency naturalCurrency(SwapTrade trade, ReferenceData refData) {
     return trade.getProduct().getLegs().get(0).getCurrency();
@@ -138,7 +145,7 @@ public class SwapTradeCalculationFunction
       ReferenceData refData) {
 
     // resolve the trade once for all measures and all scenarios
-    ResolvedSwapTrade resolved = trade.resolve(refData);
+    ResolvedSwapTrade resolved = ResolvedTradeCache.resolve(trade, parameters, refData);
 
     // use lookup to query market data
     RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
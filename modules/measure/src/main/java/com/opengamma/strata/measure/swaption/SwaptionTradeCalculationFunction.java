@@ -23,6 +23,7 @@ import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.calc.ResolvedTradeCache;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.product.swaption.ResolvedSwaptionTrade;
@@ -69,6 +70,10 @@ public class SwaptionTradeCalculationFunction
           .build();
 
   private static final ImmutableSet<Measure> MEASURES = CALCULATORS.keySet();
+  /**
+   * The relative cost of pricing a swaption compared to its underlying swap.
+   */
+  private static final double COST_FACTOR = 4d;
 
   /**
    * Creates an instance.
@@ -92,6 +97,12 @@ public class SwaptionTradeCalculationFunction
     return target.getInfo().getId().map(id -> id.toString());
   }
 
+  @Override
+  public double costEstimate(SwaptionTrade target) {
+    // the underlying swap is priced and the volatility queried
+    return COST_FACTOR * target.getProduct().getUnderlying().getLegs().size();
+  }
+
   @Override
   public Currency naturalCurrency(SwaptionTrade trade, ReferenceData refData) {
     return trade.getProduct().getCurrency();
@@ -128,7 +139,7 @@ public class SwaptionTradeCalculationFunction
       ReferenceData refData) {
 
     // expand the trade once for all measures and all scenarios
-    ResolvedSwaptionTrade resolved = trade.resolve(refData);
+    ResolvedSwaptionTrade resolved = ResolvedTradeCache.resolve(trade, parameters, refData);
     RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
     RatesScenarioMarketData ratesMarketData = ratesLookup.marketDataView(scenarioMarketData);
     SwaptionMarketDataLookup swaptionLookup = parameters.getParameter(SwaptionMarketDataLookup.class);
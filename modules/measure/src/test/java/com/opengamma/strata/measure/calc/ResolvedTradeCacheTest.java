@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.calc;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.ImmutableReferenceData;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.date.AdjustableDate;
+import com.opengamma.strata.calc.runner.CalculationParameters;
+import com.opengamma.strata.product.TradeInfo;
+import com.opengamma.strata.product.common.PayReceive;
+import com.opengamma.strata.product.payment.BulletPayment;
+import com.opengamma.strata.product.payment.BulletPaymentTrade;
+import com.opengamma.strata.product.payment.ResolvedBulletPaymentTrade;
+
+/**
+ * Test {@link ResolvedTradeCache}.
+ */
+@Test
+public class ResolvedTradeCacheTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final BulletPaymentTrade TRADE1 = trade(1000);
+  private static final BulletPaymentTrade TRADE2 = trade(2000);
+
+  private static BulletPaymentTrade trade(double amount) {
+    return BulletPaymentTrade.builder()
+        .info(TradeInfo.builder().tradeDate(date(2015, 6, 1)).build())
+        .product(BulletPayment.builder()
+            .payReceive(PayReceive.PAY)
+            .value(CurrencyAmount.of("GBP", amount))
+            .date(AdjustableDate.of(date(2015, 6, 30)))
+            .build())
+        .build();
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_resolve() {
+    ResolvedTradeCache test = ResolvedTradeCache.of(10);
+    ResolvedBulletPaymentTrade resolved = test.resolve(TRADE1, REF_DATA);
+    assertEquals(resolved, TRADE1.resolve(REF_DATA));
+    assertSame(test.resolve(TRADE1, REF_DATA), resolved);
+    assertSame(test.resolve(trade(1000), REF_DATA), resolved);
+    assertEquals(test.size(), 1);
+    assertEquals(test.resolve(TRADE2, REF_DATA), TRADE2.resolve(REF_DATA));
+    assertEquals(test.size(), 2);
+    test.clear();
+    assertEquals(test.size(), 0);
+    assertNotSame(test.resolve(TRADE1, REF_DATA), resolved);
+  }
+
+  public void test_resolve_differentReferenceData() {
+    ResolvedTradeCache test = ResolvedTradeCache.of(10);
+    ReferenceData otherRefData = ImmutableReferenceData.empty().combinedWith(REF_DATA);
+    ResolvedBulletPaymentTrade resolved = test.resolve(TRADE1, REF_DATA);
+    assertNotSame(test.resolve(TRADE1, otherRefData), resolved);
+    assertEquals(test.size(), 2);
+  }
+
+  public void test_resolve_evicted() {
+    ResolvedTradeCache test = ResolvedTradeCache.of(1);
+    test.resolve(TRADE1, REF_DATA);
+    test.resolve(TRADE2, REF_DATA);
+    assertEquals(test.size(), 1);
+  }
+
+  public void test_resolve_parameters() {
+    ResolvedTradeCache cache = ResolvedTradeCache.of(10);
+    CalculationParameters parameters = CalculationParameters.of(cache);
+    ResolvedBulletPaymentTrade resolved = ResolvedTradeCache.resolve(TRADE1, parameters, REF_DATA);
+    assertSame(cache.resolve(TRADE1, REF_DATA), resolved);
+    assertEquals(ResolvedTradeCache.resolve(TRADE1, CalculationParameters.empty(), REF_DATA), resolved);
+  }
+
+  public void test_of_invalid() {
+    assertThrowsIllegalArg(() -> ResolvedTradeCache.of(0));
+  }
+
+}
@@ -136,6 +136,59 @@ public class CurveGroupMarketDataFunctionTest {
     nodes.stream().forEach(node -> checkFraPvIsZero(node, ratesProvider, marketData));
   }
 
+  /**
+   * Tests that calibrating multiple scenarios gives the same curves as calibrating each scenario separately.
+   */
+  public void multipleScenarios() {
+    InterpolatedNodalCurveDefinition curveDefn = CurveTestUtils.fraCurveDefinition();
+    List<MarketDataId<?>> keys = curveDefn.getNodes().stream()
+        .map(FraCurveNode.class::cast)
+        .map(CurveTestUtils::key)
+        .collect(toImmutableList());
+    double[] quotes = {0.003, 0.0033, 0.0037, 0.0054, 0.007, 0.0091, 0.0134};
+    double[] shifts = {0d, 0.0001, -0.0005, 0.002};
+
+    CurveGroupName groupName = CurveGroupName.of("Curve Group");
+    CurveName curveName = CurveName.of("FRA Curve");
+    CurveGroupDefinition groupDefn = CurveGroupDefinition.builder()
+        .name(groupName)
+        .addCurve(curveDefn, Currency.USD, IborIndices.USD_LIBOR_3M)
+        .build();
+    ImmutableList.Builder<CurveInputs> scenarioInputs = ImmutableList.builder();
+    for (double shift : shifts) {
+      ImmutableMap.Builder<MarketDataId<?>, Double> inputData = ImmutableMap.builder();
+      for (int i = 0; i < keys.size(); i++) {
+        inputData.put(keys.get(i), quotes[i] + shift);
+      }
+      scenarioInputs.add(CurveInputs.of(inputData.build(), DefaultCurveMetadata.of(curveName)));
+    }
+    List<CurveInputs> inputs = scenarioInputs.build();
+
+    CurveGroupMarketDataFunction function = new CurveGroupMarketDataFunction();
+    LocalDate valuationDate = date(2011, 3, 8);
+    CurveInputsId inputsId = CurveInputsId.of(groupName, curveName, ObservableSource.NONE);
+    ScenarioMarketData inputMarketData = ImmutableScenarioMarketData.builder(valuationDate)
+        .addBox(inputsId, MarketDataBox.ofScenarioValues(inputs))
+        .build();
+    MarketDataBox<CurveGroup> curveGroups =
+        function.buildCurveGroup(groupDefn, CALIBRATOR, inputMarketData, REF_DATA, ObservableSource.NONE);
+    assertThat(curveGroups.getScenarioCount()).isEqualTo(shifts.length);
+
+    for (int i = 0; i < shifts.length; i++) {
+      ScenarioMarketData singleMarketData = ImmutableScenarioMarketData.builder(valuationDate)
+          .addValue(inputsId, inputs.get(i))
+          .build();
+      Curve expected = function.buildCurveGroup(groupDefn, CALIBRATOR, singleMarketData, REF_DATA, ObservableSource.NONE)
+          .getSingleValue()
+          .findDiscountCurve(Currency.USD)
+          .get();
+      Curve actual = curveGroups.getValue(i).findDiscountCurve(Currency.USD).get();
+      for (int j = 0; j < expected.getParameterCount(); j++) {
+        assertThat(actual.getParameter(j)).isCloseTo(expected.getParameter(j), offset(1e-8));
+      }
+    }
+  }
+
   public void roundTripFraAndFixedFloatSwap() {
     CurveGroupName groupName = CurveGroupName.of("Curve Group");
     InterpolatedNodalCurveDefinition curveDefn = CurveTestUtils.fraSwapCurveDefinition();
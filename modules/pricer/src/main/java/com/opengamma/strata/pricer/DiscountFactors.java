@@ -10,6 +10,7 @@ import java.util.Optional;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.MarketDataView;
@@ -118,6 +119,26 @@ public interface DiscountFactors
    */
   public abstract double discountFactor(double yearFraction);
 
+  /**
+   * Gets the discount factors for the specified year fractions.
+   * <p>
+   * The discount factor for each element of {@code yearFractions} is stored at the same index in {@code result}.
+   * The year fractions must be based on {@code #relativeYearFraction(LocalDate)}.
+   * Implementations may be optimized for year fractions sorted from low to high,
+   * as is typical when discounting the payments of a schedule.
+   * 
+   * @param yearFractions  the year fractions
+   * @param result  the array to store the discount factors in, at least as long as the year fractions
+   * @throws RuntimeException if the value cannot be obtained
+   */
+  public default void discountFactors(double[] yearFractions, double[] result) {
+    ArgChecker.isTrue(
+        result.length >= yearFractions.length, "Result array must be at least as long as year fraction array");
+    for (int i = 0; i < yearFractions.length; i++) {
+      result[i] = discountFactor(yearFractions[i]);
+    }
+  }
+
   /**
    * Gets the discount factor for the specified date with z-spread.
    * <p>
@@ -164,6 +164,15 @@ public final class ZeroRateDiscountFactors
     return Math.exp(-yearFraction * curve.yValue(yearFraction));
   }
 
+  @Override
+  public void discountFactors(double[] yearFractions, double[] result) {
+    // convert zero rates to discount factors
+    curve.yValues(yearFractions, result);
+    for (int i = 0; i < yearFractions.length; i++) {
+      result[i] = Math.exp(-yearFractions[i] * result[i]);
+    }
+  }
+
   @Override
   public double discountFactorWithSpread(
       double yearFraction,
@@ -8,26 +8,41 @@ package com.opengamma.strata.pricer.curve;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.IborIndex;
 import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.basics.index.OvernightIndex;
+import com.opengamma.strata.basics.index.PriceIndex;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataFxRateProvider;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.market.curve.CurveGroupEntry;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
 import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.curve.JacobianCalibrationMatrix;
+import com.opengamma.strata.market.curve.NodalCurveDefinition;
 import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.math.impl.linearalgebra.DecompositionFactory;
 import com.opengamma.strata.math.impl.matrix.CommonsMatrixAlgebra;
@@ -68,6 +83,10 @@ public final class CurveCalibrator {
    * The root finder used for curve calibration.
    */
   private final BroydenVectorRootFinder rootFinder;
+  /**
+   * The absolute tolerance, used to determine whether the previous curves still fit the market data.
+   */
+  private final double toleranceAbs;
   /**
    * The calibration measures.
    * This is used to compute the function for which the root is found.
@@ -163,6 +182,7 @@ public final class CurveCalibrator {
         toleranceRel,
         stepMaximum,
         DecompositionFactory.getDecomposition(DecompositionFactory.SV_COMMONS_NAME));
+    this.toleranceAbs = toleranceAbs;
     this.measures = measures;
     this.pvMeasures = pvMeasures;
   }
@@ -197,15 +217,54 @@ public final class CurveCalibrator {
       MarketData marketData,
       ReferenceData refData) {
 
+    return calibrate(ImmutableList.of(curveGroupDefn), knownData(marketData), marketData, refData);
+  }
+
+  /**
+   * Recalibrates a single curve group, using the result of a previous calibration as a starting point.
+   * <p>
+   * This is intended for use when the market data has changed only slightly since the previous calibration,
+   * such as when one or two quotes have ticked. The result is the same as that of
+   * {@link #calibrate(CurveGroupDefinition, MarketData, ReferenceData)} to within the tolerance.
+   * <p>
+   * The previous provider must have been produced by calibrating the same curve group definition.
+   * For each block of curves, the calibration proceeds as follows:
+   * <ul>
+   * <li>if the previous curves still fit the market data, and no earlier block has changed,
+   *  the previous curves are reused, including the Jacobian matrices
+   * <li>if the previous curves have Jacobian matrices, a single Newton step is taken from the previous parameters,
+   *  with the root finder only used if the step does not fit the market data
+   * <li>otherwise, the root finder is started from the previous parameters rather than the node guesses
+   * </ul>
+   * Any curve that cannot be found in the previous provider, or has a different number of parameters,
+   * is calibrated from the node guesses as normal.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param previous  the rates provider resulting from the previous calibration of the group
+   * @param marketData  the market data required to build a trade for the instrument, including time-series
+   * @param refData  the reference data, used to resolve the trades
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider recalibrate(
+      CurveGroupDefinition curveGroupDefn,
+      ImmutableRatesProvider previous,
+      MarketData marketData,
+      ReferenceData refData) {
+
+    ArgChecker.notNull(previous, "previous");
+    return calibrate(ImmutableList.of(curveGroupDefn), knownData(marketData), previous, marketData, refData);
+  }
+
+  // creates the known data, containing the FX rates and time-series
+  private static ImmutableRatesProvider knownData(MarketData marketData) {
     Map<Index, LocalDateDoubleTimeSeries> timeSeries = marketData.getTimeSeriesIds().stream()
         .filter(IndexQuoteId.class::isInstance)
         .map(IndexQuoteId.class::cast)
         .collect(toImmutableMap(id -> id.getIndex(), id -> marketData.getTimeSeries(id)));
-    ImmutableRatesProvider knownData = ImmutableRatesProvider.builder(marketData.getValuationDate())
+    return ImmutableRatesProvider.builder(marketData.getValuationDate())
         .fxRateProvider(MarketDataFxRateProvider.of(marketData))
         .timeSeries(timeSeries)
         .build();
-    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData);
   }
 
   /**
@@ -227,6 +286,42 @@ public final class CurveCalibrator {
       ImmutableRatesProvider knownData,
       MarketData marketData,
       ReferenceData refData) {
+
+    return calibrate(allGroupsDefn, knownData, null, marketData, refData);
+  }
+
+  /**
+   * Recalibrates a list of curve groups, using the result of a previous calibration as a starting point.
+   * <p>
+   * The previous provider must have been produced by calibrating the same curve group definitions.
+   * Each group is a block, which is reused if the previous curves still fit the market data
+   * and no earlier block has changed.
+   *
+   * @param allGroupsDefn  the curve group definitions
+   * @param knownData  the starting data for the calibration
+   * @param previous  the rates provider resulting from the previous calibration of the groups
+   * @param marketData  the market data required to build a trade for the instrument
+   * @param refData  the reference data, used to resolve the trades
+   * @return the rates provider resulting from the calibration
+   */
+  ImmutableRatesProvider recalibrate(
+      List<CurveGroupDefinition> allGroupsDefn,
+      ImmutableRatesProvider knownData,
+      ImmutableRatesProvider previous,
+      MarketData marketData,
+      ReferenceData refData) {
+
+    ArgChecker.notNull(previous, "previous");
+    return calibrate(allGroupsDefn, knownData, previous, marketData, refData);
+  }
+
+  // calibrates the groups, warm starting from the previous provider if not null
+  private ImmutableRatesProvider calibrate(
+      List<CurveGroupDefinition> allGroupsDefn,
+      ImmutableRatesProvider knownData,
+      ImmutableRatesProvider previous,
+      MarketData marketData,
+      ReferenceData refData) {
     // this method effectively takes one CurveGroupDefinition
     // the list is a split of the definition, not multiple independent definitions
 
@@ -238,28 +333,65 @@ public final class CurveCalibrator {
     ImmutableRatesProvider providerCombined = knownData;
     ImmutableList<CurveParameterSize> orderPrev = ImmutableList.of();
     ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians = ImmutableMap.of();
+    boolean unchangedSoFar = previous != null;
     for (CurveGroupDefinition groupDefn : allGroupsDefn) {
       // combine all data in the group into flat lists
       ImmutableList<ResolvedTrade> trades = groupDefn.resolvedTrades(marketData, refData);
-      ImmutableList<Double> initialGuesses = groupDefn.initialGuesses(marketData);
       ImmutableList<CurveParameterSize> orderGroup = toOrder(groupDefn);
       ImmutableList<CurveParameterSize> orderPrevAndGroup = ImmutableList.<CurveParameterSize>builder()
           .addAll(orderPrev)
           .addAll(orderGroup)
           .build();
 
-      // calibrate
+      // calibrate, starting from the previous calibration if possible
       RatesProviderGenerator providerGenerator = ImmutableRatesProviderGenerator.of(providerCombined, groupDefn, refData);
-      DoubleArray calibratedGroupParams = calibrateGroup(providerGenerator, trades, initialGuesses, orderGroup);
-      ImmutableRatesProvider calibratedProvider = providerGenerator.generate(calibratedGroupParams);
+      Function<DoubleArray, DoubleArray> valueCalculator = new CalibrationValue(trades, measures, providerGenerator);
+      DoubleArray previousParams = previousParameters(previous, orderGroup);
+      DoubleArray calibratedGroupParams;
+      boolean unchanged = false;
+      if (previousParams == null) {
+        DoubleArray initialGuesses = DoubleArray.copyOf(groupDefn.initialGuesses(marketData));
+        calibratedGroupParams = calibrateGroup(
+            groupDefn, providerCombined, providerGenerator, valueCalculator, trades, initialGuesses, orderGroup, refData);
+      } else {
+        DoubleArray previousValues = valueCalculator.apply(previousParams);
+        if (isWithinTolerance(previousValues)) {
+          calibratedGroupParams = previousParams;
+          unchanged = unchangedSoFar;
+        } else {
+          DoubleArray startParams = newtonStep(previous, orderGroup, orderPrevAndGroup, previousParams, previousValues);
+          DoubleArray startValues = (startParams == previousParams ? previousValues : valueCalculator.apply(startParams));
+          calibratedGroupParams = isWithinTolerance(startValues) ?
+              startParams :
+              calibrateGroup(groupDefn, providerCombined, providerGenerator, valueCalculator, trades, startParams,
+                  orderGroup, refData);
+        }
+      }
+      unchangedSoFar = unchanged;
+
+      // reuse the Jacobian matrices of unchanged curves
+      Map<CurveName, JacobianCalibrationMatrix> previousJacobians = unchanged && groupDefn.isComputeJacobian() ?
+          previousInfo(previous, orderGroup, CurveInfoType.JACOBIAN) :
+          null;
+      Map<CurveName, DoubleArray> previousSensitivities = unchanged && groupDefn.isComputePvSensitivityToMarketQuote() ?
+          previousInfo(previous, orderGroup, CurveInfoType.PV_SENSITIVITY_TO_MARKET_QUOTE) :
+          null;
 
       // use calibration to build Jacobian matrices
-      if (groupDefn.isComputeJacobian()) {
+      if (previousJacobians != null) {
+        jacobians = ImmutableMap.<CurveName, JacobianCalibrationMatrix>builder()
+            .putAll(jacobians)
+            .putAll(previousJacobians)
+            .build();
+      } else if (groupDefn.isComputeJacobian()) {
+        ImmutableRatesProvider calibratedProvider = providerGenerator.generate(calibratedGroupParams);
         jacobians = updateJacobiansForGroup(
             calibratedProvider, trades, orderGroup, orderPrev, orderPrevAndGroup, jacobians);
       }
       ImmutableMap<CurveName, DoubleArray> sensitivityToMarketQuote = ImmutableMap.of();
-      if (groupDefn.isComputePvSensitivityToMarketQuote()) {
+      if (previousSensitivities != null) {
+        sensitivityToMarketQuote = ImmutableMap.copyOf(previousSensitivities);
+      } else if (groupDefn.isComputePvSensitivityToMarketQuote()) {
         ImmutableRatesProvider providerWithJacobian = providerGenerator.generate(calibratedGroupParams, jacobians);
         sensitivityToMarketQuote = sensitivityToMarketQuoteForGroup(providerWithJacobian, trades, orderGroup);
       }
@@ -278,21 +410,259 @@ public final class CurveCalibrator {
   }
 
   //-------------------------------------------------------------------------
-  // calibrates a single group
+  // calibrates a single group, solving independent blocks of curves in parallel
   private DoubleArray calibrateGroup(
+      CurveGroupDefinition groupDefn,
+      ImmutableRatesProvider knownProvider,
+      RatesProviderGenerator providerGenerator,
+      Function<DoubleArray, DoubleArray> valueCalculator,
+      ImmutableList<ResolvedTrade> trades,
+      DoubleArray startParams,
+      ImmutableList<CurveParameterSize> orderGroup,
+      ReferenceData refData) {
+
+    List<List<Integer>> blocks = independentBlocks(groupDefn, providerGenerator, trades, startParams, orderGroup);
+    if (blocks.size() == 1) {
+      return calibrateBlock(providerGenerator, valueCalculator, trades, startParams, orderGroup);
+    }
+    int[] startIndices = startIndices(orderGroup);
+    List<DoubleArray> blockParams = blocks.parallelStream()
+        .map(block -> calibrateBlock(groupDefn, knownProvider, trades, startParams, orderGroup, startIndices, block, refData))
+        .collect(toImmutableList());
+    // merge the parameters of each block back into the group order
+    double[] params = new double[startParams.size()];
+    for (int b = 0; b < blocks.size(); b++) {
+      int blockIndex = 0;
+      for (int curveIndex : blocks.get(b)) {
+        int paramCount = orderGroup.get(curveIndex).getParameterCount();
+        System.arraycopy(blockParams.get(b).toArrayUnsafe(), blockIndex, params, startIndices[curveIndex], paramCount);
+        blockIndex += paramCount;
+      }
+    }
+    return DoubleArray.ofUnsafe(params);
+  }
+
+  // calibrates a block formed from a subset of the curves of a group
+  private DoubleArray calibrateBlock(
+      CurveGroupDefinition groupDefn,
+      ImmutableRatesProvider knownProvider,
+      ImmutableList<ResolvedTrade> trades,
+      DoubleArray startParams,
+      ImmutableList<CurveParameterSize> orderGroup,
+      int[] startIndices,
+      List<Integer> block,
+      ReferenceData refData) {
+
+    List<NodalCurveDefinition> blockDefns = new ArrayList<>();
+    ImmutableList.Builder<ResolvedTrade> blockTrades = ImmutableList.builder();
+    ImmutableList.Builder<CurveParameterSize> blockOrder = ImmutableList.builder();
+    List<DoubleArray> blockStart = new ArrayList<>();
+    for (int curveIndex : block) {
+      // there is one trade for each parameter
+      int startIndex = startIndices[curveIndex];
+      int endIndex = startIndex + orderGroup.get(curveIndex).getParameterCount();
+      blockDefns.add(groupDefn.getCurveDefinitions().get(curveIndex));
+      blockTrades.addAll(trades.subList(startIndex, endIndex));
+      blockOrder.add(orderGroup.get(curveIndex));
+      blockStart.add(startParams.subArray(startIndex, endIndex));
+    }
+    ImmutableList<ResolvedTrade> blockTradeList = blockTrades.build();
+    RatesProviderGenerator blockGenerator =
+        ImmutableRatesProviderGenerator.of(knownProvider, groupDefn.withCurveDefinitions(blockDefns), refData);
+    Function<DoubleArray, DoubleArray> blockValueCalculator = new CalibrationValue(blockTradeList, measures, blockGenerator);
+    DoubleArray blockStartParams = blockStart.stream().reduce(DoubleArray.EMPTY, DoubleArray::concat);
+    return calibrateBlock(blockGenerator, blockValueCalculator, blockTradeList, blockStartParams, blockOrder.build());
+  }
+
+  // calibrates a block of curves using the root finder
+  private DoubleArray calibrateBlock(
       RatesProviderGenerator providerGenerator,
+      Function<DoubleArray, DoubleArray> valueCalculator,
       ImmutableList<ResolvedTrade> trades,
-      ImmutableList<Double> initialGuesses,
+      DoubleArray startParams,
       ImmutableList<CurveParameterSize> curveOrder) {
 
     // setup for calibration
-    Function<DoubleArray, DoubleArray> valueCalculator = new CalibrationValue(trades, measures, providerGenerator);
     Function<DoubleArray, DoubleMatrix> derivativeCalculator =
         new CalibrationDerivative(trades, measures, providerGenerator, curveOrder);
 
     // calibrate
-    DoubleArray initGuessMatrix = DoubleArray.copyOf(initialGuesses);
-    return rootFinder.getRoot(valueCalculator, derivativeCalculator, initGuessMatrix);
+    return rootFinder.getRoot(valueCalculator, derivativeCalculator, startParams);
+  }
+
+  //-------------------------------------------------------------------------
+  // finds the blocks of curves in the group that can be calibrated independently of one another
+  // each block is a list of curve indices, in group order
+  // curves can only be independent if the group relates to more than one currency
+  private List<List<Integer>> independentBlocks(
+      CurveGroupDefinition groupDefn,
+      RatesProviderGenerator providerGenerator,
+      ImmutableList<ResolvedTrade> trades,
+      DoubleArray startParams,
+      ImmutableList<CurveParameterSize> orderGroup) {
+
+    int curveCount = orderGroup.size();
+    if (curveCount == 1 || !isMultiCurrency(groupDefn)) {
+      return ImmutableList.of(IntStream.range(0, curveCount).boxed().collect(toImmutableList()));
+    }
+    // the curve that owns each parameter
+    int[] curveOfParam = new int[startParams.size()];
+    int paramIndex = 0;
+    for (int c = 0; c < curveCount; c++) {
+      for (int p = 0; p < orderGroup.get(c).getParameterCount(); p++) {
+        curveOfParam[paramIndex++] = c;
+      }
+    }
+    // join the curve of each trade to the curves that the trade is sensitive to
+    ImmutableRatesProvider provider = providerGenerator.generate(startParams);
+    int[] root = IntStream.range(0, curveCount).toArray();
+    for (int i = 0; i < trades.size(); i++) {
+      DoubleArray derivative = measures.derivative(trades.get(i), provider, orderGroup);
+      for (int j = 0; j < derivative.size(); j++) {
+        if (derivative.get(j) != 0d) {
+          join(root, curveOfParam[i], curveOfParam[j]);
+        }
+      }
+    }
+    // group the curves by their root
+    Map<Integer, List<Integer>> blocks = new LinkedHashMap<>();
+    for (int c = 0; c < curveCount; c++) {
+      blocks.computeIfAbsent(find(root, c), k -> new ArrayList<>()).add(c);
+    }
+    return ImmutableList.copyOf(blocks.values());
+  }
+
+  // checks if the curves of the group relate to more than one currency, true if unable to tell
+  private static boolean isMultiCurrency(CurveGroupDefinition groupDefn) {
+    Set<Currency> currencies = new HashSet<>();
+    for (CurveGroupEntry entry : groupDefn.getEntries()) {
+      currencies.addAll(entry.getDiscountCurrencies());
+      for (Index index : entry.getIndices()) {
+        if (index instanceof IborIndex) {
+          currencies.add(((IborIndex) index).getCurrency());
+        } else if (index instanceof OvernightIndex) {
+          currencies.add(((OvernightIndex) index).getCurrency());
+        } else if (index instanceof PriceIndex) {
+          currencies.add(((PriceIndex) index).getCurrency());
+        } else {
+          return true;
+        }
+      }
+    }
+    return currencies.size() > 1;
+  }
+
+  // joins the sets containing the two curves
+  private static void join(int[] root, int curve1, int curve2) {
+    root[find(root, curve1)] = find(root, curve2);
+  }
+
+  // finds the root of the set containing the curve
+  private static int find(int[] root, int curve) {
+    int current = curve;
+    while (root[current] != current) {
+      current = root[current];
+    }
+    return current;
+  }
+
+  // finds the start index of the parameters of each curve
+  private static int[] startIndices(ImmutableList<CurveParameterSize> orderGroup) {
+    int[] startIndices = new int[orderGroup.size()];
+    for (int i = 1; i < orderGroup.size(); i++) {
+      startIndices[i] = startIndices[i - 1] + orderGroup.get(i - 1).getParameterCount();
+    }
+    return startIndices;
+  }
+
+  // checks whether the calibration values are zero to within the tolerance
+  private boolean isWithinTolerance(DoubleArray values) {
+    for (int i = 0; i < values.size(); i++) {
+      if (Math.abs(values.get(i)) > toleranceAbs) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  //-------------------------------------------------------------------------
+  // obtains the parameters of the curves in the group from the previous provider, null if not available
+  private static DoubleArray previousParameters(
+      ImmutableRatesProvider previous,
+      ImmutableList<CurveParameterSize> orderGroup) {
+
+    if (previous == null) {
+      return null;
+    }
+    int totalParamsGroup = orderGroup.stream().mapToInt(e -> e.getParameterCount()).sum();
+    double[] params = new double[totalParamsGroup];
+    int startIndex = 0;
+    for (CurveParameterSize order : orderGroup) {
+      Optional<Curve> curve = previous.findData(order.getName());
+      if (!curve.isPresent() || curve.get().getParameterCount() != order.getParameterCount()) {
+        return null;
+      }
+      for (int i = 0; i < order.getParameterCount(); i++) {
+        params[startIndex + i] = curve.get().getParameter(i);
+      }
+      startIndex += order.getParameterCount();
+    }
+    return DoubleArray.ofUnsafe(params);
+  }
+
+  // obtains the curve information of the curves in the group from the previous provider, null if not available
+  private static <T> Map<CurveName, T> previousInfo(
+      ImmutableRatesProvider previous,
+      ImmutableList<CurveParameterSize> orderGroup,
+      CurveInfoType<T> type) {
+
+    ImmutableMap.Builder<CurveName, T> builder = ImmutableMap.builder();
+    for (CurveParameterSize order : orderGroup) {
+      Optional<T> info = previous.findData(order.getName()).flatMap(curve -> curve.getMetadata().findInfo(type));
+      if (!info.isPresent()) {
+        return null;
+      }
+      builder.put(order.getName(), info.get());
+    }
+    return builder.build();
+  }
+
+  // applies a Newton step to the previous parameters using the previous Jacobian matrices
+  // the previous parameters are returned if the Jacobian matrices are not available
+  private static DoubleArray newtonStep(
+      ImmutableRatesProvider previous,
+      ImmutableList<CurveParameterSize> orderGroup,
+      ImmutableList<CurveParameterSize> orderPrevAndGroup,
+      DoubleArray previousParams,
+      DoubleArray previousValues) {
+
+    Map<CurveName, JacobianCalibrationMatrix> previousJacobians =
+        previousInfo(previous, orderGroup, CurveInfoType.JACOBIAN);
+    if (previousJacobians == null) {
+      return previousParams;
+    }
+    // the Jacobian is the inverse of the derivative of the values with respect to the parameters
+    // the columns relating to this group are the last columns of the matrix
+    int totalParamsGroup = previousParams.size();
+    int totalParamsPrevious = orderPrevAndGroup.stream().mapToInt(e -> e.getParameterCount()).sum() - totalParamsGroup;
+    double[] params = previousParams.toArray();
+    int startIndex = 0;
+    for (CurveParameterSize order : orderGroup) {
+      JacobianCalibrationMatrix jacobian = previousJacobians.get(order.getName());
+      if (!jacobian.getOrder().equals(orderPrevAndGroup)) {
+        return previousParams;
+      }
+      DoubleMatrix matrix = jacobian.getJacobianMatrix();
+      for (int p = 0; p < order.getParameterCount(); p++) {
+        double step = 0d;
+        for (int j = 0; j < totalParamsGroup; j++) {
+          step += matrix.get(p, totalParamsPrevious + j) * previousValues.get(j);
+        }
+        params[startIndex + p] -= step;
+      }
+      startIndex += order.getParameterCount();
+    }
+    return DoubleArray.ofUnsafe(params);
   }
 
   //-------------------------------------------------------------------------
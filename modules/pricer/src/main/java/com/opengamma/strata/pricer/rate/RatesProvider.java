@@ -20,6 +20,7 @@ import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivity;
 import com.opengamma.strata.pricer.BaseProvider;
@@ -147,40 +148,40 @@ public interface RatesProvider
    * @return the sensitivity to the curve parameters
    */
   public default CurrencyParameterSensitivities parameterSensitivity(PointSensitivities pointSensitivities) {
-    CurrencyParameterSensitivities sens = CurrencyParameterSensitivities.empty();
+    CurrencyParameterSensitivitiesBuilder sens = CurrencyParameterSensitivities.builder();
     for (PointSensitivity point : pointSensitivities.getSensitivities()) {
       if (point instanceof ZeroRateSensitivity) {
         ZeroRateSensitivity pt = (ZeroRateSensitivity) point;
         DiscountFactors factors = discountFactors(pt.getCurveCurrency());
-        sens = sens.combinedWith(factors.parameterSensitivity(pt));
+        sens.add(factors.parameterSensitivity(pt));
 
       } else if (point instanceof IborRateSensitivity) {
         IborRateSensitivity pt = (IborRateSensitivity) point;
         IborIndexRates rates = iborIndexRates(pt.getIndex());
-        sens = sens.combinedWith(rates.parameterSensitivity(pt));
+        sens.add(rates.parameterSensitivity(pt));
 
       } else if (point instanceof OvernightRateSensitivity) {
         OvernightRateSensitivity pt = (OvernightRateSensitivity) point;
         OvernightIndexRates rates = overnightIndexRates(pt.getIndex());
-        sens = sens.combinedWith(rates.parameterSensitivity(pt));
+        sens.add(rates.parameterSensitivity(pt));
 
       } else if (point instanceof FxIndexSensitivity) {
         FxIndexSensitivity pt = (FxIndexSensitivity) point;
         FxIndexRates rates = fxIndexRates(pt.getIndex());
-        sens = sens.combinedWith(rates.parameterSensitivity(pt));
+        sens.add(rates.parameterSensitivity(pt));
 
       } else if (point instanceof InflationRateSensitivity) {
         InflationRateSensitivity pt = (InflationRateSensitivity) point;
         PriceIndexValues rates = priceIndexValues(pt.getIndex());
-        sens = sens.combinedWith(rates.parameterSensitivity(pt));
+        sens.add(rates.parameterSensitivity(pt));
 
       } else if (point instanceof FxForwardSensitivity) {
         FxForwardSensitivity pt = (FxForwardSensitivity) point;
         FxForwardRates rates = fxForwardRates(pt.getCurrencyPair());
-        sens = sens.combinedWith(rates.parameterSensitivity(pt));
+        sens.add(rates.parameterSensitivity(pt));
       }
     }
-    return sens;
+    return sens.build();
   }
 
   /**
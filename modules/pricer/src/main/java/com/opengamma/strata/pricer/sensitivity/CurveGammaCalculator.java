@@ -152,6 +152,10 @@ public class CurveGammaCalculator {
    * This computes the cross-curve gamma, i.e., the second order sensitivities to full curves. 
    * Thus the sensitivities of curve delta to other curves are produced.
    * <p>
+   * Each curve parameter is bumped once, with the delta to all curves computed for each bump.
+   * The sensitivity function is therefore called once for each curve parameter, rather than
+   * once for each curve parameter and each curve in the base delta.
+   * <p>
    * The sensitivities are computed for discount curves, and forward curves for {@code RateIndex} and {@code PriceIndex}. 
    * This implementation works only for single currency trades. 
    * 
@@ -164,39 +168,54 @@ public class CurveGammaCalculator {
       Function<ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn) {
 
     CurrencyParameterSensitivities baseDelta = sensitivitiesFn.apply(ratesProvider); // used to check target sensitivity exits.
-    CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
-    for (CurrencyParameterSensitivity baseDeltaSingle : baseDelta.getSensitivities()) {
-      CrossGammaParameterSensitivities resultInner = CrossGammaParameterSensitivities.empty();
-      // discount curve
-      for (Entry<Currency, Curve> entry : ratesProvider.getDiscountCurves().entrySet()) {
-        Currency currency = entry.getKey();
+    // each curve is bumped once, with the bumped delta to all curves used for each block of the result
+    List<CurrencyParameterSensitivity> baseDeltas = baseDelta.getSensitivities();
+    List<CrossGammaParameterSensitivities> resultInner = new ArrayList<>();
+    for (int i = 0; i < baseDeltas.size(); i++) {
+      resultInner.add(CrossGammaParameterSensitivities.empty());
+    }
+    // discount curve
+    for (Entry<Currency, Curve> entry : ratesProvider.getDiscountCurves().entrySet()) {
+      Currency currency = entry.getKey();
+      Curve curve = entry.getValue();
+      if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
+        NodalCurve nodalCurve = getNodalCurve(curve);
+        List<CrossGammaParameterSensitivity> gammas = computeGammaForCurve(
+            baseDeltas, nodalCurve, c -> ratesProvider.toBuilder().discountCurve(currency, c).build(), sensitivitiesFn);
+        combineInner(resultInner, gammas);
+      }
+    }
+    // forward curve
+    for (Entry<Index, Curve> entry : ratesProvider.getIndexCurves().entrySet()) {
+      Index index = entry.getKey();
+      if (index instanceof RateIndex || index instanceof PriceIndex) {
+        Currency currency = getCurrency(index);
         Curve curve = entry.getValue();
         if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
           NodalCurve nodalCurve = getNodalCurve(curve);
-          CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-              baseDeltaSingle, nodalCurve, c -> ratesProvider.toBuilder().discountCurve(currency, c).build(), sensitivitiesFn);
-          resultInner = resultInner.combinedWith(gammaSingle);
+          List<CrossGammaParameterSensitivity> gammas = computeGammaForCurve(
+              baseDeltas, nodalCurve, c -> ratesProvider.toBuilder().indexCurve(index, c).build(), sensitivitiesFn);
+          combineInner(resultInner, gammas);
         }
       }
-      // forward curve
-      for (Entry<Index, Curve> entry : ratesProvider.getIndexCurves().entrySet()) {
-        Index index = entry.getKey();
-        if (index instanceof RateIndex || index instanceof PriceIndex) {
-          Currency currency = getCurrency(index);
-          Curve curve = entry.getValue();
-          if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-            NodalCurve nodalCurve = getNodalCurve(curve);
-            CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                baseDeltaSingle, nodalCurve, c -> ratesProvider.toBuilder().indexCurve(index, c).build(), sensitivitiesFn);
-            resultInner = resultInner.combinedWith(gammaSingle);
-          }
-        }
-      }
-      result = result.combinedWith(combineSensitivities(baseDeltaSingle, resultInner));
+    }
+    CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
+    for (int i = 0; i < baseDeltas.size(); i++) {
+      result = result.combinedWith(combineSensitivities(baseDeltas.get(i), resultInner.get(i)));
     }
     return result;
   }
 
+  // adds the sensitivities of each base delta to the matching inner result
+  private static void combineInner(
+      List<CrossGammaParameterSensitivities> resultInner,
+      List<CrossGammaParameterSensitivity> gammas) {
+
+    for (int i = 0; i < resultInner.size(); i++) {
+      resultInner.set(i, resultInner.get(i).combinedWith(gammas.get(i)));
+    }
+  }
+
   //-------------------------------------------------------------------------
   private NodalCurve getNodalCurve(Curve curve) {
     ArgChecker.isTrue(curve instanceof NodalCurve, "underlying curve must be NodalCurve");
@@ -235,9 +254,10 @@ public class CurveGammaCalculator {
     return CrossGammaParameterSensitivity.of(nodalCurve.getName(), metadata, sensitivityCurrency, sensi);
   }
 
-  // computes the sensitivity of baseDeltaSingle to nodalCurve
-  CrossGammaParameterSensitivity computeGammaForCurve(
-      CurrencyParameterSensitivity baseDeltaSingle,
+  // computes the sensitivity of each of the base deltas to nodalCurve
+  // the delta to all curves is computed once for each bump, rather than once for each base delta
+  List<CrossGammaParameterSensitivity> computeGammaForCurve(
+      List<CurrencyParameterSensitivity> baseDeltas,
       NodalCurve nodalCurve,
       Function<Curve, ImmutableRatesProvider> ratesProviderFn,
       Function<ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn) {
@@ -248,20 +268,34 @@ public class CurveGammaCalculator {
         NodalCurve newCurve = nodalCurve.withYValues(t);
         ImmutableRatesProvider newRates = ratesProviderFn.apply(newCurve);
         CurrencyParameterSensitivities sensiMulti = sensitivitiesFn.apply(newRates);
-        return sensiMulti.getSensitivity(baseDeltaSingle.getMarketDataName(), baseDeltaSingle.getCurrency()).getSensitivity();
+        DoubleArray combined = DoubleArray.EMPTY;
+        for (CurrencyParameterSensitivity baseDeltaSingle : baseDeltas) {
+          combined = combined.concat(
+              sensiMulti.getSensitivity(baseDeltaSingle.getMarketDataName(), baseDeltaSingle.getCurrency()).getSensitivity());
+        }
+        return combined;
       }
     };
     DoubleMatrix sensi = fd.differentiate(function).apply(nodalCurve.getYValues());
     List<ParameterMetadata> metadata = IntStream.range(0, nodalCurve.getParameterCount())
         .mapToObj(i -> nodalCurve.getParameterMetadata(i))
         .collect(toImmutableList());
-    return CrossGammaParameterSensitivity.of(
-        baseDeltaSingle.getMarketDataName(),
-        baseDeltaSingle.getParameterMetadata(),
-        nodalCurve.getName(),
-        metadata,
-        baseDeltaSingle.getCurrency(),
-        sensi);
+    List<CrossGammaParameterSensitivity> result = new ArrayList<>(baseDeltas.size());
+    int startRow = 0;
+    for (CurrencyParameterSensitivity baseDeltaSingle : baseDeltas) {
+      int firstRow = startRow;
+      DoubleMatrix sensiSingle = DoubleMatrix.ofArrays(
+          baseDeltaSingle.getParameterCount(), sensi.columnCount(), i -> sensi.rowArray(firstRow + i));
+      result.add(CrossGammaParameterSensitivity.of(
+          baseDeltaSingle.getMarketDataName(),
+          baseDeltaSingle.getParameterMetadata(),
+          nodalCurve.getName(),
+          metadata,
+          baseDeltaSingle.getCurrency(),
+          sensiSingle));
+      startRow += baseDeltaSingle.getParameterCount();
+    }
+    return result;
   }
 
   private CrossGammaParameterSensitivity combineSensitivities(
@@ -7,7 +7,10 @@ package com.opengamma.strata.pricer.swap;
 
 import static com.opengamma.strata.basics.currency.MultiCurrencyAmount.toMultiCurrencyAmount;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.ToDoubleBiFunction;
 
@@ -15,7 +18,9 @@ import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmountArray;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.tuple.Triple;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
@@ -122,6 +127,59 @@ public class DiscountingSwapProductPricer {
     return swapValue(provider, swap, legPricer::forecastValueInternal);
   }
 
+  /**
+   * Calculates the present value of the swap product for each of a number of rates providers.
+   * <p>
+   * This is typically used to price a swap in many scenarios.
+   * The result is equivalent to calling {@link #presentValue(ResolvedSwap, RatesProvider)} for each provider.
+   * When this pricer uses the standard period and event pricers and the swap consists of
+   * fixed and Ibor periods without compounding or FX reset, the payment structure of the swap is
+   * precomputed once and evaluated against each provider, avoiding repeated processing of the periods.
+   * The result is expressed using the payment currency of each leg.
+   * 
+   * @param swap  the product
+   * @param providers  the rates providers, typically one for each scenario
+   * @return the present value of the swap product, one entry for each provider
+   */
+  public MultiCurrencyAmountArray presentValue(ResolvedSwap swap, List<? extends RatesProvider> providers) {
+    ArgChecker.notEmpty(providers, "providers");
+    int size = providers.size();
+    List<PrecomputedSwapLeg> legs = precompute(swap);
+    if (legs.isEmpty()) {
+      return MultiCurrencyAmountArray.of(size, i -> presentValue(swap, providers.get(i)));
+    }
+    Map<Currency, double[]> values = new HashMap<>();
+    for (PrecomputedSwapLeg leg : legs) {
+      values.computeIfAbsent(leg.getCurrency(), ccy -> new double[size]);
+    }
+    for (int i = 0; i < size; i++) {
+      RatesProvider provider = providers.get(i);
+      for (PrecomputedSwapLeg leg : legs) {
+        values.get(leg.getCurrency())[i] += leg.presentValue(provider);
+      }
+    }
+    Map<Currency, DoubleArray> result = new HashMap<>();
+    values.forEach((currency, array) -> result.put(currency, DoubleArray.ofUnsafe(array)));
+    return MultiCurrencyAmountArray.of(result);
+  }
+
+  // precomputes the legs of the swap, returning an empty list if not possible
+  private List<PrecomputedSwapLeg> precompute(ResolvedSwap swap) {
+    if (legPricer.getPeriodPricer() != SwapPaymentPeriodPricer.standard() ||
+        legPricer.getEventPricer() != SwapPaymentEventPricer.standard()) {
+      return ImmutableList.of();
+    }
+    ImmutableList.Builder<PrecomputedSwapLeg> builder = ImmutableList.builder();
+    for (ResolvedSwapLeg leg : swap.getLegs()) {
+      Optional<PrecomputedSwapLeg> precomputed = PrecomputedSwapLeg.of(leg);
+      if (!precomputed.isPresent()) {
+        return ImmutableList.of();
+      }
+      builder.add(precomputed.get());
+    }
+    return builder.build();
+  }
+
   //-------------------------------------------------------------------------
   // calculate present or forecast value for the swap
   private static MultiCurrencyAmount swapValue(
@@ -0,0 +1,254 @@
+/**
+ * Copyright (C) 2016 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.rate.IborIndexRates;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.rate.FixedRateComputation;
+import com.opengamma.strata.product.rate.IborRateComputation;
+import com.opengamma.strata.product.rate.RateComputation;
+import com.opengamma.strata.product.swap.NegativeRateMethod;
+import com.opengamma.strata.product.swap.NotionalExchange;
+import com.opengamma.strata.product.swap.RateAccrualPeriod;
+import com.opengamma.strata.product.swap.RatePaymentPeriod;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swap.SwapPaymentEvent;
+import com.opengamma.strata.product.swap.SwapPaymentPeriod;
+
+/**
+ * The payment structure of a swap leg, precomputed for pricing against many rates providers.
+ * <p>
+ * The periods and events of the leg are flattened into arrays, sorted by payment date.
+ * This allows the present value to be calculated for each scenario in a tight loop,
+ * discounting all the payments of the leg with a single batch call to {@link DiscountFactors}.
+ * <p>
+ * Only the common structures are supported, being payment periods with a single accrual period,
+ * no FX reset and a fixed or Ibor rate, together with notional exchange events.
+ * The calculations match those of the standard payment period and payment event pricers.
+ */
+final class PrecomputedSwapLeg {
+
+  /**
+   * The currency of the leg.
+   */
+  private final Currency currency;
+  /**
+   * The payment dates, sorted from earliest to latest.
+   */
+  private final LocalDate[] paymentDates;
+  /**
+   * The notional of each payment period, or the amount of each notional exchange.
+   */
+  private final double[] notionals;
+  /**
+   * The accrual year fraction, zero for notional exchanges.
+   */
+  private final double[] yearFractions;
+  /**
+   * The gearing applied to the rate.
+   */
+  private final double[] gearings;
+  /**
+   * The spread added to the rate.
+   */
+  private final double[] spreads;
+  /**
+   * The fixed rate, used when there is no Ibor observation.
+   */
+  private final double[] fixedRates;
+  /**
+   * The Ibor observation, null for fixed rates and notional exchanges.
+   */
+  private final IborIndexObservation[] observations;
+  /**
+   * The negative rate method, null for notional exchanges.
+   */
+  private final NegativeRateMethod[] negativeRateMethods;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Precomputes the structure of the leg, if supported.
+   *
+   * @param leg  the leg
+   * @return the precomputed leg, empty if the leg contains an unsupported period or event
+   */
+  static Optional<PrecomputedSwapLeg> of(ResolvedSwapLeg leg) {
+    Currency currency = leg.getCurrency();
+    List<Payment> payments = new ArrayList<>();
+    for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+      if (!(period instanceof RatePaymentPeriod)) {
+        return Optional.empty();
+      }
+      RatePaymentPeriod ratePeriod = (RatePaymentPeriod) period;
+      if (ratePeriod.getAccrualPeriods().size() != 1 ||
+          ratePeriod.getFxReset().isPresent() ||
+          !ratePeriod.getCurrency().equals(currency)) {
+        return Optional.empty();
+      }
+      RateAccrualPeriod accrualPeriod = ratePeriod.getAccrualPeriods().get(0);
+      RateComputation computation = accrualPeriod.getRateComputation();
+      if (computation instanceof FixedRateComputation) {
+        payments.add(new Payment(ratePeriod, accrualPeriod, ((FixedRateComputation) computation).getRate(), null));
+      } else if (computation instanceof IborRateComputation) {
+        payments.add(new Payment(ratePeriod, accrualPeriod, 0d, ((IborRateComputation) computation).getObservation()));
+      } else {
+        return Optional.empty();
+      }
+    }
+    for (SwapPaymentEvent event : leg.getPaymentEvents()) {
+      if (!(event instanceof NotionalExchange) || !event.getCurrency().equals(currency)) {
+        return Optional.empty();
+      }
+      payments.add(new Payment((NotionalExchange) event));
+    }
+    payments.sort(Comparator.comparing(payment -> payment.paymentDate));
+    return Optional.of(new PrecomputedSwapLeg(currency, payments));
+  }
+
+  // creates an instance
+  private PrecomputedSwapLeg(Currency currency, List<Payment> payments) {
+    int size = payments.size();
+    this.currency = currency;
+    this.paymentDates = new LocalDate[size];
+    this.notionals = new double[size];
+    this.yearFractions = new double[size];
+    this.gearings = new double[size];
+    this.spreads = new double[size];
+    this.fixedRates = new double[size];
+    this.observations = new IborIndexObservation[size];
+    this.negativeRateMethods = new NegativeRateMethod[size];
+    for (int i = 0; i < size; i++) {
+      Payment payment = payments.get(i);
+      paymentDates[i] = payment.paymentDate;
+      notionals[i] = payment.notional;
+      yearFractions[i] = payment.yearFraction;
+      gearings[i] = payment.gearing;
+      spreads[i] = payment.spread;
+      fixedRates[i] = payment.fixedRate;
+      observations[i] = payment.observation;
+      negativeRateMethods[i] = payment.negativeRateMethod;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the currency of the leg.
+   *
+   * @return the currency
+   */
+  Currency getCurrency() {
+    return currency;
+  }
+
+  /**
+   * Calculates the present value of the leg.
+   * <p>
+   * Payments before the valuation date of the provider are excluded.
+   *
+   * @param provider  the rates provider
+   * @return the present value, in the currency of the leg
+   */
+  double presentValue(RatesProvider provider) {
+    // payments are sorted, so find the first payment on or after the valuation date
+    LocalDate valuationDate = provider.getValuationDate();
+    int first = 0;
+    while (first < paymentDates.length && paymentDates[first].isBefore(valuationDate)) {
+      first++;
+    }
+    int count = paymentDates.length - first;
+    if (count == 0) {
+      return 0d;
+    }
+    // discount all payments with one batch call
+    DiscountFactors discountFactors = provider.discountFactors(currency);
+    double[] times = new double[count];
+    for (int i = 0; i < count; i++) {
+      times[i] = discountFactors.relativeYearFraction(paymentDates[first + i]);
+    }
+    double[] dfs = new double[count];
+    discountFactors.discountFactors(times, dfs);
+    // sum the discounted payments
+    IborIndex lastIndex = null;
+    IborIndexRates lastRates = null;
+    double total = 0d;
+    for (int i = 0; i < count; i++) {
+      int index = first + i;
+      NegativeRateMethod negativeRateMethod = negativeRateMethods[index];
+      if (negativeRateMethod == null) {
+        // notional exchange
+        total += notionals[index] * dfs[i];
+        continue;
+      }
+      double rate = fixedRates[index];
+      IborIndexObservation observation = observations[index];
+      if (observation != null) {
+        if (observation.getIndex() != lastIndex) {
+          lastIndex = observation.getIndex();
+          lastRates = provider.iborIndexRates(lastIndex);
+        }
+        rate = lastRates.rate(observation);
+      }
+      double accrual = negativeRateMethod.adjust((rate * gearings[index] + spreads[index]) * yearFractions[index]);
+      total += accrual * notionals[index] * dfs[i];
+    }
+    return total;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A single payment, used while precomputing.
+   */
+  private static final class Payment {
+    private final LocalDate paymentDate;
+    private final double notional;
+    private final double yearFraction;
+    private final double gearing;
+    private final double spread;
+    private final double fixedRate;
+    private final IborIndexObservation observation;
+    private final NegativeRateMethod negativeRateMethod;
+
+    // a payment period
+    Payment(
+        RatePaymentPeriod period,
+        RateAccrualPeriod accrualPeriod,
+        double fixedRate,
+        IborIndexObservation observation) {
+
+      this.paymentDate = period.getPaymentDate();
+      this.notional = period.getNotional();
+      this.yearFraction = accrualPeriod.getYearFraction();
+      this.gearing = accrualPeriod.getGearing();
+      this.spread = accrualPeriod.getSpread();
+      this.fixedRate = fixedRate;
+      this.observation = observation;
+      this.negativeRateMethod = accrualPeriod.getNegativeRateMethod();
+    }
+
+    // a notional exchange
+    Payment(NotionalExchange event) {
+      this.paymentDate = event.getPaymentDate();
+      this.notional = event.getPayment().getAmount();
+      this.yearFraction = 0d;
+      this.gearing = 0d;
+      this.spread = 0d;
+      this.fixedRate = 0d;
+      this.observation = null;
+      this.negativeRateMethod = null;
+    }
+  }
+
+}
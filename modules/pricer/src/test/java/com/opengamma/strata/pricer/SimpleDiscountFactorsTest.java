@@ -94,6 +94,16 @@ public class SimpleDiscountFactorsTest {
     assertEquals(test.discountFactor(DATE_AFTER), expected);
   }
 
+  public void test_discountFactors() {
+    SimpleDiscountFactors test = SimpleDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    double[] yearFractions = {0d, 0.5d, 1d, 2.5d, 7d, 40d, 1.5d};
+    double[] result = new double[yearFractions.length];
+    test.discountFactors(yearFractions, result);
+    for (int i = 0; i < yearFractions.length; i++) {
+      assertEquals(result[i], test.discountFactor(yearFractions[i]), 1e-14);
+    }
+  }
+
   //-------------------------------------------------------------------------
   public void test_zeroRate() {
     SimpleDiscountFactors test = SimpleDiscountFactors.of(GBP, DATE_VAL, CURVE);
@@ -6,6 +6,10 @@
 package com.opengamma.strata.pricer.curve;
 
 import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
+import static com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions.USD_FIXED_1Y_FED_FUND_OIS;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
@@ -17,19 +21,36 @@ import java.util.List;
 import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.date.Tenor;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.ImmutableMarketDataBuilder;
 import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.market.curve.CurveGroupEntry;
+import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveInfoType;
+import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurveDefinition;
 import com.opengamma.strata.market.curve.NodalCurveDefinition;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.curve.node.FixedOvernightSwapCurveNode;
+import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.deposit.DiscountingIborFixingDepositProductPricer;
 import com.opengamma.strata.pricer.fra.DiscountingFraProductPricer;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.sensitivity.MarketQuoteSensitivityCalculator;
 import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
@@ -37,6 +58,7 @@ import com.opengamma.strata.product.ResolvedTrade;
 import com.opengamma.strata.product.deposit.ResolvedIborFixingDepositTrade;
 import com.opengamma.strata.product.fra.ResolvedFraTrade;
 import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+import com.opengamma.strata.product.swap.type.FixedOvernightSwapTemplate;
 
 /**
  * Test curve calibration
@@ -57,6 +79,13 @@ public class CalibrationDiscountingSimpleEur3Test {
   private static final Period[] DSC_OIS_TENORS = new Period[] {
       Period.ofYears(2), Period.ofYears(5), Period.ofYears(10), Period.ofYears(30)};
 
+  /** Data for USD-DSCON curve, used with the EUR curves in a single group */
+  private static final CurveName USD_DSC_CURVE_NAME = CurveName.of("USD-DSCON-OIS");
+  private static final double[] USD_DSC_MARKET_QUOTES = new double[] {
+      0.0020, 0.0030, 0.0045, 0.0060};
+  private static final Period[] USD_DSC_OIS_TENORS = new Period[] {
+      Period.ofYears(1), Period.ofYears(2), Period.ofYears(5), Period.ofYears(10)};
+
   /** Data for EUR-EURIBOR3M curve */
   /* Market values */
   private static final double FWD3_FIXING_QUOTE = 0.0050;
@@ -302,4 +331,66 @@ public class CalibrationDiscountingSimpleEur3Test {
 
   }
 
+  //-------------------------------------------------------------------------
+  public void calibration_independent_blocks() {
+    String[] dscIdValues = CalibrationEurStandard.dscIdValues(DSC_OIS_TENORS);
+    double[] fwd3MarketQuotes = CalibrationEurStandard.fwdMarketQuotes(FWD3_FIXING_QUOTE, FWD3_FRA_QUOTES, FWD3_IRS_QUOTES);
+    String[] fwd3IdValue =
+        CalibrationEurStandard.fwdIdValue(3, FWD3_FIXING_QUOTE, FWD3_FRA_QUOTES, FWD3_IRS_QUOTES, FWD3_FRA_TENORS,
+            FWD3_IRS_TENORS);
+    double[] fwd6MarketQuotes = CalibrationEurStandard.fwdMarketQuotes(FWD6_FIXING_QUOTE, FWD6_FRA_QUOTES, FWD6_IRS_QUOTES);
+    String[] fwd6IdValue =
+        CalibrationEurStandard.fwdIdValue(6, FWD6_FIXING_QUOTE, FWD6_FRA_QUOTES, FWD6_IRS_QUOTES, FWD6_FRA_TENORS,
+            FWD6_IRS_TENORS);
+    MarketData eurQuotes = CalibrationEurStandard.allQuotes(
+        VAL_DATE, DSC_MARKET_QUOTES, dscIdValues, fwd3MarketQuotes, fwd3IdValue, fwd6MarketQuotes, fwd6IdValue);
+    CurveGroupDefinition eurConfig = CalibrationEurStandard.config(DSC_OIS_TENORS, dscIdValues,
+        FWD3_FRA_TENORS, FWD3_IRS_TENORS, fwd3IdValue, FWD6_FRA_TENORS, FWD6_IRS_TENORS, fwd6IdValue);
+    // USD discounting curve, independent of the EUR curves
+    CurveNode[] usdNodes = new CurveNode[USD_DSC_OIS_TENORS.length];
+    ImmutableMarketDataBuilder usdQuotes = ImmutableMarketData.builder(VAL_DATE);
+    for (int i = 0; i < USD_DSC_OIS_TENORS.length; i++) {
+      QuoteId quoteId = QuoteId.of(StandardId.of("CALIBRATION", "USD-OIS" + USD_DSC_OIS_TENORS[i]));
+      usdNodes[i] = FixedOvernightSwapCurveNode.of(
+          FixedOvernightSwapTemplate.of(Period.ZERO, Tenor.of(USD_DSC_OIS_TENORS[i]), USD_FIXED_1Y_FED_FUND_OIS), quoteId);
+      usdQuotes.addValue(quoteId, USD_DSC_MARKET_QUOTES[i]);
+    }
+    MarketData allQuotes = eurQuotes.combinedWith(usdQuotes.build());
+    InterpolatedNodalCurveDefinition usdDefn = InterpolatedNodalCurveDefinition.builder()
+        .name(USD_DSC_CURVE_NAME)
+        .xValueType(ValueType.YEAR_FRACTION)
+        .yValueType(ValueType.ZERO_RATE)
+        .dayCount(ACT_365F)
+        .interpolator(CurveInterpolators.LINEAR)
+        .extrapolatorLeft(CurveExtrapolators.FLAT)
+        .extrapolatorRight(CurveExtrapolators.FLAT)
+        .nodes(usdNodes).build();
+    CurveGroupEntry usdEntry = CurveGroupEntry.builder()
+        .curveName(USD_DSC_CURVE_NAME)
+        .discountCurrencies(ImmutableSet.of(USD))
+        .indices(ImmutableSet.of(USD_FED_FUND))
+        .build();
+    CurveGroupDefinition combinedConfig = CurveGroupDefinition.of(
+        CurveGroupName.of("EUR-USD"),
+        ImmutableList.<CurveGroupEntry>builder().addAll(eurConfig.getEntries()).add(usdEntry).build(),
+        ImmutableList.<NodalCurveDefinition>builder().addAll(eurConfig.getCurveDefinitions()).add(usdDefn).build());
+    CurveCalibrator calibrator = CurveCalibrator.of(1e-9, 1e-9, 100);
+    ImmutableRatesProvider combined = calibrator.calibrate(combinedConfig, allQuotes, REF_DATA);
+    ImmutableRatesProvider eurOnly = calibrator.calibrate(eurConfig, eurQuotes, REF_DATA);
+    // the EUR curves are unaffected by the USD curve
+    for (NodalCurveDefinition eurDefn : eurConfig.getCurveDefinitions()) {
+      Curve expected = eurOnly.findData(eurDefn.getName()).get();
+      Curve actual = combined.findData(eurDefn.getName()).get();
+      for (int i = 0; i < expected.getParameterCount(); i++) {
+        assertEquals(actual.getParameter(i), expected.getParameter(i), TOLERANCE_DELTA);
+      }
+      assertTrue(actual.getMetadata().findInfo(CurveInfoType.JACOBIAN).isPresent());
+    }
+    // the USD curve reprices its nodes
+    for (CurveNode usdNode : usdNodes) {
+      ResolvedSwapTrade trade = (ResolvedSwapTrade) usdNode.resolvedTrade(1d, allQuotes, REF_DATA);
+      assertEquals(SWAP_PRICER.presentValue(trade.getProduct(), combined).getAmount(USD).getAmount(), 0.0, TOLERANCE_PV);
+    }
+  }
+
 }
@@ -41,13 +41,16 @@ import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.basics.date.DaysAdjustment;
 import com.opengamma.strata.basics.date.Tenor;
 import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.data.ImmutableMarketData;
 import com.opengamma.strata.data.ImmutableMarketDataBuilder;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupDefinition;
 import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveMetadata;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
@@ -389,6 +392,60 @@ public class CalibrationZeroRateUsd3OisIrsBsTest {
     calibration_market_quote_sensitivity_check(calibrator, shift);
   }
 
+  //-------------------------------------------------------------------------
+  public void recalibration_unchanged() {
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA);
+    ImmutableRatesProvider result = CALIBRATOR.recalibrate(CURVE_GROUP_CONFIG, previous, ALL_QUOTES, REF_DATA);
+    assertEquals(result.findData(DSCON_CURVE_NAME), previous.findData(DSCON_CURVE_NAME));
+    assertEquals(result.findData(FWD3_CURVE_NAME), previous.findData(FWD3_CURVE_NAME));
+    assertEquals(result.findData(FWD6_CURVE_NAME), previous.findData(FWD6_CURVE_NAME));
+  }
+
+  public void recalibration_shifted_oneGroup() {
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA);
+    ImmutableMarketData shifted = shiftedQuotes(FWD3_ID_VALUE[4], FWD3_MARKET_QUOTES[4] + 1.0E-4);
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, shifted, REF_DATA);
+    ImmutableRatesProvider result = CALIBRATOR.recalibrate(CURVE_GROUP_CONFIG, previous, shifted, REF_DATA);
+    assertCurveParameters(result, expected, DSCON_CURVE_NAME);
+    assertCurveParameters(result, expected, FWD3_CURVE_NAME);
+    assertCurveParameters(result, expected, FWD6_CURVE_NAME);
+  }
+
+  public void recalibration_shifted_threeGroups() {
+    List<CurveGroupDefinition> groups = ImmutableList.of(GROUP_1, GROUP_2, GROUP_3);
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(groups, KNOWN_DATA, ALL_QUOTES, REF_DATA);
+    ImmutableMarketData shifted = shiftedQuotes(FWD6_ID_VALUE[2], FWD6_MARKET_QUOTES[2] + 1.0E-4);
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(groups, KNOWN_DATA, shifted, REF_DATA);
+    ImmutableRatesProvider result = CALIBRATOR.recalibrate(groups, KNOWN_DATA, previous, shifted, REF_DATA);
+    // the blocks before the shifted quote are reused
+    assertEquals(result.findData(DSCON_CURVE_NAME), previous.findData(DSCON_CURVE_NAME));
+    assertEquals(result.findData(FWD3_CURVE_NAME), previous.findData(FWD3_CURVE_NAME));
+    assertCurveParameters(result, expected, FWD6_CURVE_NAME);
+    assertPresentValue(CALIBRATOR.recalibrate(groups, KNOWN_DATA, previous, ALL_QUOTES, REF_DATA));
+  }
+
+  private static ImmutableMarketData shiftedQuotes(String id, double quote) {
+    Map<MarketDataId<?>, Object> map = new HashMap<>(ALL_QUOTES.getValues());
+    map.put(QuoteId.of(StandardId.of(SCHEME, id)), quote);
+    return ImmutableMarketData.of(VAL_DATE, map);
+  }
+
+  private static void assertCurveParameters(RatesProvider result, RatesProvider expected, CurveName name) {
+    Curve resultCurve = result.findData(name).get();
+    Curve expectedCurve = expected.findData(name).get();
+    assertEquals(resultCurve.getParameterCount(), expectedCurve.getParameterCount());
+    for (int i = 0; i < resultCurve.getParameterCount(); i++) {
+      assertEquals(resultCurve.getParameter(i), expectedCurve.getParameter(i), 1.0E-8, name + " - node " + i);
+    }
+    DoubleMatrix resultJacobian = resultCurve.getMetadata().getInfo(CurveInfoType.JACOBIAN).getJacobianMatrix();
+    DoubleMatrix expectedJacobian = expectedCurve.getMetadata().getInfo(CurveInfoType.JACOBIAN).getJacobianMatrix();
+    for (int i = 0; i < resultJacobian.rowCount(); i++) {
+      for (int j = 0; j < resultJacobian.columnCount(); j++) {
+        assertEquals(resultJacobian.get(i, j), expectedJacobian.get(i, j), 1.0E-6, name + " - Jacobian");
+      }
+    }
+  }
+
   private void calibration_market_quote_sensitivity_check(
       Function<MarketData, RatesProvider> calibrator,
       double shift) {
@@ -15,6 +15,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -216,6 +217,19 @@ public class CurveGammaCalculatorCrossGammaTest {
     }
   }
 
+  public void sensitivity_cross_multi_curve_bumpOnce() {
+    AtomicInteger calls = new AtomicInteger();
+    CENTRAL.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD, provider -> {
+      calls.incrementAndGet();
+      return sensiFn(provider);
+    });
+    // the discounting curve is bumped twice, as the discount curve and as the overnight index curve
+    int paramsBumped = 2 * RatesProviderDataSets.TIMES_1.size() + RatesProviderDataSets.TIMES_2.size() +
+        RatesProviderDataSets.TIMES_3.size() + RatesProviderDataSets.TIMES_4.size();
+    // base delta, then one base evaluation for each of the 5 bumped curves and two bumps per parameter
+    assertEquals(calls.get(), 1 + 5 + 2 * paramsBumped);
+  }
+
   public void sensitivity_cross_multi_curve_empty() {
     CrossGammaParameterSensitivities sensiComputed =
         CENTRAL.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiModFn);
@@ -50,14 +50,17 @@ import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.List;
 
 import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmountArray;
 import com.opengamma.strata.basics.date.BusinessDayAdjustment;
 import com.opengamma.strata.basics.date.DayCounts;
 import com.opengamma.strata.basics.date.DaysAdjustment;
@@ -412,6 +415,41 @@ public class DiscountingSwapProductPricerTest {
     assertEquals(pvComputed.getAmount(GBP).getAmount(), pvExpected, NOTIONAL * TOLERANCE_RATE);
   }
 
+  public void test_presentValue_providers() {
+    List<RatesProvider> providers = ImmutableList.of(MULTI_USD, RatesProviderDataSets.SINGLE_USD);
+    for (SwapTrade trade : ImmutableList.of(SWAP_USD_FIXED_6M_LIBOR_3M_5Y, SWAP_USD_LIBOR_3M_LIBOR_6M_5Y)) {
+      ResolvedSwap swap = trade.resolve(REF_DATA).getProduct();
+      MultiCurrencyAmountArray pvComputed = SWAP_PRODUCT_PRICER.presentValue(swap, providers);
+      assertEquals(pvComputed.size(), 2);
+      assertEquals(pvComputed.getCurrencies(), ImmutableSet.of(USD));
+      for (int i = 0; i < providers.size(); i++) {
+        double pvExpected = SWAP_PRODUCT_PRICER.presentValue(swap, providers.get(i)).getAmount(USD).getAmount();
+        assertEquals(pvComputed.getValues(USD).get(i), pvExpected, TOLERANCE_PV);
+      }
+    }
+  }
+
+  public void test_presentValue_providers_notionalExchange() {
+    List<RatesProvider> providers = ImmutableList.of(RATES_GBP_USD);
+    MultiCurrencyAmountArray pvComputed = SWAP_PRODUCT_PRICER.presentValue(SWAP_CROSS_CURRENCY, providers);
+    MultiCurrencyAmount pvExpected = SWAP_PRODUCT_PRICER.presentValue(SWAP_CROSS_CURRENCY, RATES_GBP_USD);
+    assertEquals(pvComputed.getCurrencies(), pvExpected.getCurrencies());
+    for (Currency currency : pvExpected.getCurrencies()) {
+      assertEquals(pvComputed.getValues(currency).get(0), pvExpected.getAmount(currency).getAmount(), TOLERANCE_PV);
+    }
+  }
+
+  public void test_presentValue_providers_unsupported() {
+    List<RatesProvider> providers = ImmutableList.of(RATES_GBP_INFLATION, RATES_GBP_INFLATION);
+    MultiCurrencyAmountArray pvComputed = SWAP_PRODUCT_PRICER.presentValue(SWAP_INFLATION, providers);
+    MultiCurrencyAmount pvExpected = SWAP_PRODUCT_PRICER.presentValue(SWAP_INFLATION, RATES_GBP_INFLATION);
+    assertEquals(pvComputed, MultiCurrencyAmountArray.of(pvExpected, pvExpected));
+  }
+
+  public void test_presentValue_providers_empty() {
+    assertThrowsIllegalArg(() -> SWAP_PRODUCT_PRICER.presentValue(SWAP, ImmutableList.<RatesProvider>of()));
+  }
+
   //-------------------------------------------------------------------------
   public void test_forecastValue_singleCurrency() {
     SwapPaymentPeriodPricer<SwapPaymentPeriod> mockPeriod = mock(SwapPaymentPeriodPricer.class);
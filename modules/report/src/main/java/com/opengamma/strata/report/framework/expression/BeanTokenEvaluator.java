@@ -5,11 +5,17 @@
  */
 package com.opengamma.strata.report.framework.expression;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.joda.beans.Bean;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.MetaProperty;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -41,6 +47,10 @@ import com.opengamma.strata.market.amount.LegAmounts;
  */
 public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
 
+  /** The properties of each type of immutable bean, keyed by lower case property name. */
+  private static final ConcurrentHashMap<Class<?>, Map<String, MetaProperty<?>>> PROPERTIES =
+      new ConcurrentHashMap<>();
+
   @Override
   public Class<Bean> getTargetType() {
     return Bean.class;
@@ -69,12 +79,10 @@ public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
       String firstToken,
       List<String> remainingTokens) {
 
-    Optional<String> propertyName = bean.propertyNames().stream()
-        .filter(p -> p.equalsIgnoreCase(firstToken))
-        .findFirst();
+    Optional<MetaProperty<?>> property = findProperty(bean, firstToken);
 
-    if (propertyName.isPresent()) {
-      Object propertyValue = bean.property(propertyName.get()).get();
+    if (property.isPresent()) {
+      Object propertyValue = property.get().get(bean);
 
       return propertyValue != null ?
           EvaluationResult.success(propertyValue, remainingTokens) :
@@ -95,4 +103,28 @@ public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
     return invalidTokenFailure(bean, firstToken);
   }
 
+  //-------------------------------------------------------------------------
+  // finds the property matching the token, ignoring case
+  // the properties of immutable beans are fixed by type, and are thus cached
+  private static Optional<MetaProperty<?>> findProperty(Bean bean, String token) {
+    if (bean instanceof ImmutableBean) {
+      Map<String, MetaProperty<?>> properties =
+          PROPERTIES.computeIfAbsent(bean.getClass(), type -> propertiesByName(bean));
+      return Optional.ofNullable(properties.get(token.toLowerCase(Locale.ENGLISH)));
+    }
+    return bean.propertyNames().stream()
+        .filter(p -> p.equalsIgnoreCase(token))
+        .findFirst()
+        .<MetaProperty<?>>map(p -> bean.metaBean().metaProperty(p));
+  }
+
+  // indexes the properties of the bean by lower case name, the first matching property takes priority
+  private static Map<String, MetaProperty<?>> propertiesByName(Bean bean) {
+    Map<String, MetaProperty<?>> properties = new HashMap<>();
+    for (String propertyName : bean.propertyNames()) {
+      properties.putIfAbsent(propertyName.toLowerCase(Locale.ENGLISH), bean.metaBean().metaProperty(propertyName));
+    }
+    return properties;
+  }
+
 }
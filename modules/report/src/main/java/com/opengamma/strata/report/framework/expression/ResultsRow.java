@@ -140,13 +140,15 @@ class ResultsRow {
    * @return the result of calculating the named measure for the trade in the row
    */
   Result<?> getResult(String measureName) {
-    List<String> validMeasureNames = measureNames(results.getTargets().get(rowIndex), results.getCalculationFunctions());
-    if (!validMeasureNames.contains(measureName)) {
+    // the sorted list of valid measure names is only needed for failures
+    CalculationTarget target = results.getTargets().get(rowIndex);
+    CalculationFunctions functions = results.getCalculationFunctions();
+    if (!isValidMeasure(target, functions, measureName)) {
       return Result.failure(
           FailureReason.INVALID,
           "Invalid measure name: {}. Valid measure names: {}",
           measureName,
-          validMeasureNames);
+          measureNames(target, functions));
     }
     try {
       Column column = Column.of(Measure.of(measureName));
@@ -156,7 +158,7 @@ class ResultsRow {
             FailureReason.INVALID,
             "Measure not found in results: '{}'. Valid measure names: {}",
             measureName,
-            validMeasureNames);
+            measureNames(target, functions));
       }
       Result<?> result = results.getCalculationResults().get(rowIndex, columnIndex);
       if (result.isFailure() && result.getFailure().getReason() == FailureReason.ERROR) {
@@ -164,7 +166,7 @@ class ResultsRow {
             FailureReason.INVALID,
             "Unable to calculate measure '{}'. Reason: {}",
             measureName,
-            validMeasureNames,
+            measureNames(target, functions),
             result.getFailure().getMessage());
       }
       return result;
@@ -175,10 +177,21 @@ class ResultsRow {
           "Unable to calculate measure '{}'. Reason: {}. Valid measure names: {}",
           measureName,
           ex.getMessage(),
-          validMeasureNames);
+          measureNames(target, functions));
     }
   }
 
+  // checks if the measure is supported for the target
+  private static boolean isValidMeasure(
+      CalculationTarget target,
+      CalculationFunctions calculationFunctions,
+      String measureName) {
+
+    return calculationFunctions.findFunction(target)
+        .map(fn -> fn.supportedMeasures().stream().anyMatch(measure -> measure.getName().equals(measureName)))
+        .orElse(false);
+  }
+
   // determine the available measures
   static List<String> measureNames(CalculationTarget target, CalculationFunctions calculationFunctions) {
     Set<Measure> validMeasures = calculationFunctions.findFunction(target)
@@ -11,6 +11,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
 
 import com.google.common.base.Joiner;
@@ -19,6 +20,7 @@ import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.index.IborIndex;
 import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationFunctions;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.product.fra.Fra;
@@ -36,6 +38,9 @@ import com.opengamma.strata.report.ReportCalculationResults;
  *   <li>{@code IborIndex.getName()} returning the index name</li>
  * </ul>
  * The result of evaluating the expression is the index name.
+ * <p>
+ * The value path is split into tokens once for all the rows, and the evaluator used for each
+ * type of value is cached. The rows are evaluated in parallel.
  */
 public class ValuePathEvaluator {
 
@@ -53,6 +58,10 @@ public class ValuePathEvaluator {
       new BeanTokenEvaluator(),
       new IterableTokenEvaluator());
 
+  /** The evaluator for each type of value, empty if there is no evaluator for the type. */
+  private static final ConcurrentHashMap<Class<?>, Optional<TokenEvaluator<Object>>> EVALUATOR_CACHE =
+      new ConcurrentHashMap<>();
+
   //-------------------------------------------------------------------------
   /**
    * Gets the measure encoded in a value path, if present.
@@ -83,16 +92,41 @@ public class ValuePathEvaluator {
    * @return the list of resolved results for each trade
    */
   public static List<Result<?>> evaluate(String valuePath, ReportCalculationResults results) {
+    return evaluate(valuePath, results, 0, results.getCalculationResults().getRowCount());
+  }
+
+  /**
+   * Evaluates a value path against a range of rows in a set of results, returning the resolved result for each trade.
+   * <p>
+   * This allows the rows of a large set of results to be evaluated in blocks.
+   * The first element of the returned list is the result for the row at {@code fromRowIndex}.
+   *
+   * @param valuePath  the value path
+   * @param results  the calculation results
+   * @param fromRowIndex  the index of the first row to evaluate, inclusive
+   * @param toRowIndex  the index of the last row to evaluate, exclusive
+   * @return the list of resolved results for each trade in the range
+   * @throws IllegalArgumentException if the range is invalid
+   */
+  public static List<Result<?>> evaluate(
+      String valuePath,
+      ReportCalculationResults results,
+      int fromRowIndex,
+      int toRowIndex) {
+
+    int rowCount = results.getCalculationResults().getRowCount();
+    ArgChecker.inRangeInclusive(toRowIndex, 0, rowCount, "toRowIndex");
+    ArgChecker.inRangeInclusive(fromRowIndex, 0, toRowIndex, "fromRowIndex");
     List<String> tokens = tokenize(valuePath);
 
     if (tokens.size() < 1) {
       return Collections.nCopies(
-          results.getTargets().size(),
+          toRowIndex - fromRowIndex,
           Result.failure(FailureReason.INVALID, "Column expressions must not be empty"));
     }
     CalculationFunctions functions = results.getCalculationFunctions();
-    int rowCount = results.getCalculationResults().getRowCount();
-    return IntStream.range(0, rowCount)
+    return IntStream.range(fromRowIndex, toRowIndex)
+        .parallel()
         .mapToObj(rowIndex -> evaluate(functions, tokens, RootEvaluator.INSTANCE, new ResultsRow(results, rowIndex)))
         .collect(toImmutableList());
   }
@@ -143,8 +177,13 @@ public class ValuePathEvaluator {
     return ImmutableList.copyOf(tokens);
   }
 
-  @SuppressWarnings("unchecked")
+  // finds the evaluator for the type, using the cache
   private static Optional<TokenEvaluator<Object>> getEvaluator(Class<?> targetClass) {
+    return EVALUATOR_CACHE.computeIfAbsent(targetClass, ValuePathEvaluator::findEvaluator);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Optional<TokenEvaluator<Object>> findEvaluator(Class<?> targetClass) {
     return EVALUATORS.stream()
         .filter(e -> e.getTargetType().isAssignableFrom(targetClass))
         .map(e -> (TokenEvaluator<Object>) e)
@@ -50,18 +50,9 @@ final class AsciiTable {
         "Number of headers {} must match number of alignments {}", headers.size(), colCount);
 
     // find max length of each column
-    int[] colLengths = new int[colCount];
-    for (int colIdx = 0; colIdx < colCount; colIdx++) {
-      colLengths[colIdx] = headers.get(colIdx).length();
-    }
+    int[] colLengths = columnLengths(headers);
     for (int rowIdx = 0; rowIdx < rowCount; rowIdx++) {
-      List<String> row = cells.get(rowIdx);
-      ArgChecker.isTrue(
-          row.size() == colCount,
-          "Table of cells has incorrect number of columns {} in row {}", row.size(), rowIdx);
-      for (int colIdx = 0; colIdx < colCount; colIdx++) {
-        colLengths[colIdx] = Math.max(colLengths[colIdx], row.get(colIdx).length());
-      }
+      updateColumnLengths(colLengths, cells.get(rowIdx), rowIdx);
     }
     int colTotalLength = 3;  // allow for last vertical separator and windows line separator
     for (int colIdx = 0; colIdx < colCount; colIdx++) {
@@ -80,6 +71,94 @@ final class AsciiTable {
     return buf.toString();
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the initial column lengths from the headers.
+   * <p>
+   * This is used when generating the table in parts, see {@link #generateHeader}.
+   * 
+   * @param headers  the table headers
+   * @return the column lengths
+   */
+  static int[] columnLengths(List<String> headers) {
+    int[] colLengths = new int[headers.size()];
+    for (int colIdx = 0; colIdx < colLengths.length; colIdx++) {
+      colLengths[colIdx] = headers.get(colIdx).length();
+    }
+    return colLengths;
+  }
+
+  /**
+   * Updates the column lengths to allow for a row of cells.
+   * 
+   * @param colLengths  the column lengths, updated by this method
+   * @param row  the row of cells
+   * @param rowIdx  the index of the row, used in the error message
+   * @throws IllegalArgumentException if the number of columns is inconsistent
+   */
+  static void updateColumnLengths(int[] colLengths, List<String> row, int rowIdx) {
+    ArgChecker.isTrue(
+        row.size() == colLengths.length,
+        "Table of cells has incorrect number of columns {} in row {}", row.size(), rowIdx);
+    for (int colIdx = 0; colIdx < colLengths.length; colIdx++) {
+      colLengths[colIdx] = Math.max(colLengths[colIdx], Strings.nullToEmpty(row.get(colIdx)).length());
+    }
+  }
+
+  /**
+   * Generates the top of the ASCII table, including the headers.
+   * <p>
+   * This, {@link #generateRow} and {@link #generateFooter} allow a table to be written in parts,
+   * such that the rows do not have to be held in memory.
+   * A cell longer than the column length is output in full, misaligning the rest of the row.
+   * 
+   * @param colLengths  the column lengths
+   * @param alignments  the table alignments
+   * @param headers  the table headers
+   * @return the top of the table
+   * @throws IllegalArgumentException if the number of columns specified is inconsistent
+   */
+  static String generateHeader(int[] colLengths, List<AsciiTableAlignment> alignments, List<String> headers) {
+    ArgChecker.isTrue(
+        alignments.size() == colLengths.length,
+        "Number of alignments {} must match number of columns {}", alignments.size(), colLengths.length);
+    ArgChecker.isTrue(
+        headers.size() == colLengths.length,
+        "Number of headers {} must match number of columns {}", headers.size(), colLengths.length);
+    StringBuilder buf = new StringBuilder();
+    writeSeparatorLine(buf, colLengths);
+    writeDataLine(buf, colLengths, alignments, headers);
+    writeSeparatorLine(buf, colLengths);
+    return buf.toString();
+  }
+
+  /**
+   * Generates a single row of the ASCII table.
+   * 
+   * @param colLengths  the column lengths
+   * @param alignments  the table alignments
+   * @param row  the row of cells
+   * @return the row
+   */
+  static String generateRow(int[] colLengths, List<AsciiTableAlignment> alignments, List<String> row) {
+    StringBuilder buf = new StringBuilder();
+    writeDataLine(buf, colLengths, alignments, row);
+    return buf.toString();
+  }
+
+  /**
+   * Generates the bottom of the ASCII table.
+   * 
+   * @param colLengths  the column lengths
+   * @return the bottom of the table
+   */
+  static String generateFooter(int[] colLengths) {
+    StringBuilder buf = new StringBuilder();
+    writeSeparatorLine(buf, colLengths);
+    return buf.toString();
+  }
+
+  //-------------------------------------------------------------------------
   // write a separator line
   private static void writeSeparatorLine(StringBuilder buf, int[] colLengths) {
     for (int colIdx = 0; colIdx < colLengths.length; colIdx++) {
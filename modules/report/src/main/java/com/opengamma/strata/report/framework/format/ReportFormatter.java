@@ -11,11 +11,16 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Unchecked;
 import com.opengamma.strata.collect.io.CsvOutput;
 import com.opengamma.strata.report.Report;
@@ -82,6 +87,152 @@ public abstract class ReportFormatter<R extends Report> {
     pw.flush();
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Outputs a sequence of reports in CSV format, as a single table.
+   * <p>
+   * This is used to write a report that is too large to hold in memory.
+   * Each report is a block of rows from the large report, with the same columns.
+   * Each block is formatted and written before the next is obtained from the iterator,
+   * thus only one block is held in memory at a time.
+   * 
+   * @param headers  the column headers
+   * @param reports  the blocks of rows, in order
+   * @param out  the output stream to write to
+   */
+  @SuppressWarnings("resource")
+  public void writeCsv(List<String> headers, Iterator<? extends R> reports, OutputStream out) {
+    OutputStreamWriter outputWriter = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    CsvOutput csvOut = new CsvOutput(outputWriter);
+    csvOut.writeLine(headers);
+    while (reports.hasNext()) {
+      R report = reports.next();
+      IntStream.range(0, report.getRowCount())
+          .mapToObj(rowIdx -> formatRow(report, rowIdx, ReportOutputFormat.CSV))
+          .forEach(csvOut::writeLine);
+    }
+    Unchecked.wrap(outputWriter::flush);
+  }
+
+  /**
+   * Outputs a sequence of reports as a single ASCII table, using two passes over the reports.
+   * <p>
+   * This is used to write a report that is too large to hold in memory.
+   * Each report is a block of rows from the large report, with the same columns.
+   * The supplier is invoked twice. The first pass finds the width and type of each column,
+   * and the second pass formats and writes the rows. Only one block is held in memory at a time.
+   * The output is the same as if the blocks were written as a single report.
+   * 
+   * @param headers  the column headers
+   * @param reports  the supplier of the blocks of rows, returning the same blocks in order on each call
+   * @param out  the output stream to write to
+   */
+  public void writeAsciiTable(
+      List<String> headers,
+      Supplier<? extends Iterator<? extends R>> reports,
+      OutputStream out) {
+
+    int[] colLengths = AsciiTable.columnLengths(headers);
+    Class<?>[] columnTypes = initialColumnTypes(headers);
+    int rowIdx = 0;
+    for (Iterator<? extends R> it = reports.get(); it.hasNext();) {
+      R report = it.next();
+      updateColumnTypes(columnTypes, report);
+      for (int i = 0; i < report.getRowCount(); i++) {
+        AsciiTable.updateColumnLengths(colLengths, formatRow(report, i, ReportOutputFormat.ASCII_TABLE), rowIdx++);
+      }
+    }
+    PrintWriter pw = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    List<AsciiTableAlignment> alignments = calculateAlignments(columnTypes);
+    pw.print(AsciiTable.generateHeader(colLengths, alignments, headers));
+    for (Iterator<? extends R> it = reports.get(); it.hasNext();) {
+      writeAsciiRows(pw, colLengths, alignments, it.next());
+    }
+    pw.println(AsciiTable.generateFooter(colLengths));
+    pw.flush();
+  }
+
+  /**
+   * Outputs a sequence of reports as a single ASCII table, using a sample of the rows to size the columns.
+   * <p>
+   * This is used to write a report that is too large to hold in memory.
+   * Each report is a block of rows from the large report, with the same columns.
+   * Blocks are read until at least {@code sampleRowCount} rows have been obtained, and the width and type
+   * of each column is determined from those rows. Each remaining block is then formatted and written
+   * before the next is obtained from the iterator.
+   * <p>
+   * A cell in a later row that is wider than its column is written in full, misaligning the rest of the row.
+   * 
+   * @param headers  the column headers
+   * @param reports  the blocks of rows, in order
+   * @param sampleRowCount  the minimum number of rows used to size the columns
+   * @param out  the output stream to write to
+   */
+  public void writeAsciiTable(
+      List<String> headers,
+      Iterator<? extends R> reports,
+      int sampleRowCount,
+      OutputStream out) {
+
+    ArgChecker.notNegative(sampleRowCount, "sampleRowCount");
+    int[] colLengths = AsciiTable.columnLengths(headers);
+    Class<?>[] columnTypes = initialColumnTypes(headers);
+    List<R> sample = new ArrayList<>();
+    int rowIdx = 0;
+    while (rowIdx < sampleRowCount && reports.hasNext()) {
+      R report = reports.next();
+      sample.add(report);
+      updateColumnTypes(columnTypes, report);
+      for (int i = 0; i < report.getRowCount(); i++) {
+        AsciiTable.updateColumnLengths(colLengths, formatRow(report, i, ReportOutputFormat.ASCII_TABLE), rowIdx++);
+      }
+    }
+    PrintWriter pw = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    List<AsciiTableAlignment> alignments = calculateAlignments(columnTypes);
+    pw.print(AsciiTable.generateHeader(colLengths, alignments, headers));
+    for (R report : sample) {
+      writeAsciiRows(pw, colLengths, alignments, report);
+    }
+    sample.clear();
+    while (reports.hasNext()) {
+      writeAsciiRows(pw, colLengths, alignments, reports.next());
+    }
+    pw.println(AsciiTable.generateFooter(colLengths));
+    pw.flush();
+  }
+
+  // the column types before any rows are examined
+  private static Class<?>[] initialColumnTypes(List<String> headers) {
+    Class<?>[] columnTypes = new Class<?>[headers.size()];
+    Arrays.fill(columnTypes, Object.class);
+    return columnTypes;
+  }
+
+  // updates the column types that are not yet known from a block of rows
+  private void updateColumnTypes(Class<?>[] columnTypes, R report) {
+    List<Class<?>> reportTypes = getColumnTypes(report);
+    for (int colIdx = 0; colIdx < columnTypes.length; colIdx++) {
+      if (columnTypes[colIdx] == Object.class) {
+        columnTypes[colIdx] = reportTypes.get(colIdx);
+      }
+    }
+  }
+
+  // calculates the alignments to use
+  private List<AsciiTableAlignment> calculateAlignments(Class<?>[] columnTypes) {
+    return Arrays.stream(columnTypes)
+        .map(this::calculateAlignment)
+        .collect(toImmutableList());
+  }
+
+  // formats and writes a block of rows
+  private void writeAsciiRows(PrintWriter pw, int[] colLengths, List<AsciiTableAlignment> alignments, R report) {
+    for (int rowIdx = 0; rowIdx < report.getRowCount(); rowIdx++) {
+      List<String> row = formatRow(report, rowIdx, ReportOutputFormat.ASCII_TABLE);
+      pw.print(AsciiTable.generateRow(colLengths, alignments, row));
+    }
+  }
+
   // calculates the alignment to use
   private AsciiTableAlignment calculateAlignment(Class<?> columnType) {
     FormatSettings<Object> formatSettings = formatSettingsProvider.settings(columnType, defaultSettings);
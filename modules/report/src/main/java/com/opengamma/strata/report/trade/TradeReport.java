@@ -36,6 +36,10 @@ import com.opengamma.strata.report.ReportCalculationResults;
 
 /**
  * Represents a trade report.
+ * <p>
+ * The report holds the results for every trade in memory.
+ * A report for a large number of trades can instead be written directly from the calculation results
+ * using {@link TradeReportFormatter#writeCsv(ReportCalculationResults, TradeReportTemplate, OutputStream)}.
  */
 @BeanDefinition
 public final class TradeReport
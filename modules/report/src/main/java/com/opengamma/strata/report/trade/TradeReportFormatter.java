@@ -7,11 +7,14 @@ package com.opengamma.strata.report.trade;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.IntStream;
 
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.report.ReportCalculationResults;
 import com.opengamma.strata.report.framework.format.FormatCategory;
 import com.opengamma.strata.report.framework.format.FormatSettings;
 import com.opengamma.strata.report.framework.format.ReportFormatter;
@@ -28,12 +31,85 @@ public class TradeReportFormatter
    * The single shared instance of this report formatter.
    */
   public static final TradeReportFormatter INSTANCE = new TradeReportFormatter();
+  /**
+   * The number of rows evaluated and written at a time when writing directly from calculation results.
+   */
+  private static final int BLOCK_SIZE = 10_000;
 
   // restricted constructor
   private TradeReportFormatter() {
     super(FormatSettings.of(FormatCategory.TEXT, ValueFormatters.UNSUPPORTED));
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Runs a trade report and outputs it in CSV format, without holding the whole report in memory.
+   * <p>
+   * The rows are evaluated, formatted and written in blocks, such that memory use is bounded by the block size
+   * rather than by the number of trades. The output is the same as that of {@link TradeReport#writeCsv}.
+   * 
+   * @param results  the calculation results
+   * @param reportTemplate  the report template
+   * @param out  the output stream to write to
+   */
+  public void writeCsv(ReportCalculationResults results, TradeReportTemplate reportTemplate, OutputStream out) {
+    writeCsv(headers(reportTemplate), blocks(results, reportTemplate), out);
+  }
+
+  /**
+   * Runs a trade report and outputs it as an ASCII table, without holding the whole report in memory.
+   * <p>
+   * The report is evaluated twice, once to find the width of each column and once to write the rows.
+   * The rows are evaluated, formatted and written in blocks, such that memory use is bounded by the block size
+   * rather than by the number of trades. The output is the same as that of {@link TradeReport#writeAsciiTable}.
+   * 
+   * @param results  the calculation results
+   * @param reportTemplate  the report template
+   * @param out  the output stream to write to
+   */
+  public void writeAsciiTable(ReportCalculationResults results, TradeReportTemplate reportTemplate, OutputStream out) {
+    writeAsciiTable(headers(reportTemplate), () -> blocks(results, reportTemplate), out);
+  }
+
+  /**
+   * Runs a trade report and outputs it as an ASCII table, sizing the columns from a sample of the rows.
+   * <p>
+   * The report is evaluated once. The width of each column is determined from at least the first
+   * {@code sampleRowCount} rows, and a wider value in a later row misaligns the rest of that row.
+   * The rows are evaluated, formatted and written in blocks, such that memory use is bounded by the block size
+   * and the sample size rather than by the number of trades.
+   * 
+   * @param results  the calculation results
+   * @param reportTemplate  the report template
+   * @param sampleRowCount  the minimum number of rows used to size the columns
+   * @param out  the output stream to write to
+   */
+  public void writeAsciiTable(
+      ReportCalculationResults results,
+      TradeReportTemplate reportTemplate,
+      int sampleRowCount,
+      OutputStream out) {
+
+    writeAsciiTable(headers(reportTemplate), blocks(results, reportTemplate), sampleRowCount, out);
+  }
+
+  // the column headers of the report
+  private static List<String> headers(TradeReportTemplate reportTemplate) {
+    return reportTemplate.getColumns().stream()
+        .map(TradeReportColumn::getHeader)
+        .collect(toImmutableList());
+  }
+
+  // the report in blocks of rows, each block evaluated when it is requested
+  private static Iterator<TradeReport> blocks(ReportCalculationResults results, TradeReportTemplate reportTemplate) {
+    int rowCount = results.getCalculationResults().getRowCount();
+    return IntStream.iterate(0, fromRowIdx -> fromRowIdx + BLOCK_SIZE)
+        .limit((rowCount + BLOCK_SIZE - 1) / BLOCK_SIZE)
+        .mapToObj(fromRowIdx -> TradeReportRunner.INSTANCE.runReport(
+            results, reportTemplate, fromRowIdx, Math.min(fromRowIdx + BLOCK_SIZE, rowCount)))
+        .iterator();
+  }
+
   //-------------------------------------------------------------------------
   @Override
   protected List<Class<?>> getColumnTypes(TradeReport report) {
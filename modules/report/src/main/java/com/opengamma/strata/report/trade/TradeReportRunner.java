@@ -56,20 +56,42 @@ public class TradeReportRunner
 
   @Override
   public TradeReport runReport(ReportCalculationResults results, TradeReportTemplate reportTemplate) {
+    return runReport(results, reportTemplate, 0, results.getCalculationResults().getRowCount());
+  }
+
+  /**
+   * Runs a report for a range of the rows in a set of calculation results.
+   * <p>
+   * The rows of the resulting report are numbered from zero, with row zero
+   * holding the results for the row at {@code fromRowIndex}.
+   * This is used to write large reports in blocks of rows.
+   *
+   * @param results  the calculation results
+   * @param reportTemplate  the report template
+   * @param fromRowIndex  the index of the first row to include, inclusive
+   * @param toRowIndex  the index of the last row to include, exclusive
+   * @return the report for the range of rows
+   */
+  TradeReport runReport(
+      ReportCalculationResults results,
+      TradeReportTemplate reportTemplate,
+      int fromRowIndex,
+      int toRowIndex) {
+
     ImmutableTable.Builder<Integer, Integer, Result<?>> resultTable = ImmutableTable.builder();
+    int rowCount = toRowIndex - fromRowIndex;
 
     for (int reportColumnIdx = 0; reportColumnIdx < reportTemplate.getColumns().size(); reportColumnIdx++) {
       TradeReportColumn reportColumn = reportTemplate.getColumns().get(reportColumnIdx);
       List<Result<?>> columnResults;
 
       if (reportColumn.getValue().isPresent()) {
-        columnResults = ValuePathEvaluator.evaluate(reportColumn.getValue().get(), results);
+        columnResults = ValuePathEvaluator.evaluate(reportColumn.getValue().get(), results, fromRowIndex, toRowIndex);
       } else {
-        columnResults = IntStream.range(0, results.getTargets().size())
+        columnResults = IntStream.range(0, rowCount)
             .mapToObj(i -> Result.failure(FailureReason.INVALID, "No value specified in report template"))
             .collect(toImmutableList());
       }
-      int rowCount = results.getCalculationResults().getRowCount();
 
       for (int rowIdx = 0; rowIdx < rowCount; rowIdx++) {
         resultTable.put(rowIdx, reportColumnIdx, columnResults.get(rowIdx));
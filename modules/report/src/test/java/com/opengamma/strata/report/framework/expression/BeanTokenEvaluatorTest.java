@@ -14,6 +14,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Set;
 
 import org.joda.beans.Bean;
+import org.joda.beans.impl.flexi.FlexiBean;
 import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableList;
@@ -45,6 +46,15 @@ public class BeanTokenEvaluatorTest {
     assertThat(notional2.getResult()).hasValue(1_000_000d);
   }
 
+  public void evaluateNonImmutableBean() {
+    FlexiBean bean = new FlexiBean();
+    bean.put("notional", 1_000_000d);
+    BeanTokenEvaluator evaluator = new BeanTokenEvaluator();
+
+    EvaluationResult notional = evaluator.evaluate(bean, FUNCTIONS, "Notional", ImmutableList.of());
+    assertThat(notional.getResult()).hasValue(1_000_000d);
+  }
+
   public void tokens() {
     Bean bean = bean();
     BeanTokenEvaluator evaluator = new BeanTokenEvaluator();
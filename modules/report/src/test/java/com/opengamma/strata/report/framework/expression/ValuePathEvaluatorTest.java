@@ -122,6 +122,26 @@ public class ValuePathEvaluatorTest {
     assertThat(counterpartyResults).isEqualTo(expectedCounterparties);
   }
 
+  public void manyRows() {
+    Measure measure = Measure.of("PresentValue");
+    Column column = Column.of(measure);
+    ImmutableList.Builder<Result<?>> resultValues = ImmutableList.builder();
+    ImmutableList.Builder<Trade> trades = ImmutableList.builder();
+    ImmutableList.Builder<Result<?>> expected = ImmutableList.builder();
+    for (int i = 0; i < 1000; i++) {
+      resultValues.add(Result.success(CurrencyAmount.of(Currency.GBP, i)));
+      trades.add(trade("cpty" + i, 1_000_000));
+      expected.add(Result.success("cpty" + i));
+    }
+    Results results = Results.of(ImmutableList.of(column.toHeader()), resultValues.build());
+    ReportCalculationResults reportResults =
+        ReportCalculationResults.of(LocalDate.now(ZoneOffset.UTC), trades.build(), ImmutableList.of(column), results);
+
+    // rows are evaluated in parallel, but the order is retained
+    List<Result<?>> counterpartyResults = ValuePathEvaluator.evaluate("Trade.Counterparty.Value", reportResults);
+    assertThat(counterpartyResults).isEqualTo(expected.build());
+  }
+
   //--------------------------------------------------------------------------------------------------
 
   private static ReportCalculationResults reportResults() {
@@ -5,8 +5,12 @@
  */
 package com.opengamma.strata.report.trade;
 
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.product.common.BuySell.BUY;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayOutputStream;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
@@ -14,10 +18,23 @@ import java.util.List;
 
 import org.testng.annotations.Test;
 
+import com.google.common.base.Splitter;
 import com.google.common.collect.ArrayTable;
 import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.date.AdjustableDate;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.Results;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.product.Trade;
+import com.opengamma.strata.product.TradeInfo;
+import com.opengamma.strata.product.fra.Fra;
+import com.opengamma.strata.product.fra.FraTrade;
+import com.opengamma.strata.report.ReportCalculationResults;
 
 /**
  * Test {@link TradeReportFormatter}.
@@ -26,6 +43,11 @@ import com.opengamma.strata.collect.result.Result;
 public class TradeReportFormatterTest {
 
   private static final ImmutableList<Integer> INDICES = ImmutableList.of(0, 1);
+  private static final TradeReportTemplate TEMPLATE = TradeReportTemplate.builder()
+      .columns(
+          TradeReportColumn.builder().header("Counterparty").value("Trade.Counterparty.Value").build(),
+          TradeReportColumn.builder().header("Notional").value("Trade.Product.Notional").build())
+      .build();
 
   public void getColumnTypes() {
     ArrayTable<Integer, Integer, Result<?>> table = ArrayTable.create(INDICES, INDICES);
@@ -62,6 +84,119 @@ public class TradeReportFormatterTest {
     assertThat(columnTypes).isEqualTo(ImmutableList.of(Object.class, Object.class));
   }
 
+  //-------------------------------------------------------------------------
+  public void writeCsv_calculationResults() {
+    ReportCalculationResults results = reportResults();
+    TradeReport report = TradeReport.of(results, TEMPLATE);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    TradeReportFormatter.INSTANCE.writeCsv(results, TEMPLATE, out);
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    report.writeCsv(expected);
+    assertThat(out.toString()).isEqualTo(expected.toString());
+  }
+
+  public void writeAsciiTable_calculationResults() {
+    ReportCalculationResults results = reportResults();
+    TradeReport report = TradeReport.of(results, TEMPLATE);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    TradeReportFormatter.INSTANCE.writeAsciiTable(results, TEMPLATE, out);
+    assertThat(out.toString()).isEqualTo(report.toAsciiTableString());
+
+    ByteArrayOutputStream sampled = new ByteArrayOutputStream();
+    TradeReportFormatter.INSTANCE.writeAsciiTable(results, TEMPLATE, 3, sampled);
+    assertThat(sampled.toString()).isEqualTo(report.toAsciiTableString());
+  }
+
+  public void writeCsv_blocks() {
+    ReportCalculationResults results = reportResults();
+    TradeReport report = TradeReport.of(results, TEMPLATE);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    TradeReportFormatter.INSTANCE.writeCsv(report.getColumnHeaders(), blocks(results).iterator(), out);
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    report.writeCsv(expected);
+    assertThat(out.toString()).isEqualTo(expected.toString());
+  }
+
+  public void writeAsciiTable_blocks() {
+    ReportCalculationResults results = reportResults();
+    TradeReport report = TradeReport.of(results, TEMPLATE);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    TradeReportFormatter.INSTANCE.writeAsciiTable(report.getColumnHeaders(), () -> blocks(results).iterator(), out);
+    assertThat(out.toString()).isEqualTo(report.toAsciiTableString());
+  }
+
+  public void writeAsciiTable_blocks_sampled() {
+    ReportCalculationResults results = reportResults();
+    TradeReport report = TradeReport.of(results, TEMPLATE);
+
+    // the column widths are taken from the first row, so the longer counterparty in the last row overflows
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    TradeReportFormatter.INSTANCE.writeAsciiTable(report.getColumnHeaders(), blocks(results).iterator(), 1, out);
+    List<String> lines = Splitter.on(System.lineSeparator()).splitToList(out.toString());
+    assertThat(lines).hasSize(9);
+    assertThat(lines.get(1)).startsWith("| Counterparty | ");
+    assertThat(lines.get(3)).startsWith("| cpty1        | ");
+    assertThat(lines.get(3).length()).isEqualTo(lines.get(0).length());
+    assertThat(lines.get(4)).startsWith("| cpty2        | ");
+    assertThat(lines.get(5)).startsWith("| longer-counterparty | ");
+    assertThat(lines.get(5).length()).isGreaterThan(lines.get(0).length());
+    assertThat(lines.get(6)).isEqualTo(lines.get(0));
+  }
+
+  public void writeAsciiTable_blocks_sampledAll() {
+    ReportCalculationResults results = reportResults();
+    TradeReport report = TradeReport.of(results, TEMPLATE);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    TradeReportFormatter.INSTANCE.writeAsciiTable(report.getColumnHeaders(), blocks(results).iterator(), 2, out);
+    assertThat(out.toString()).isEqualTo(report.toAsciiTableString());
+  }
+
+  //-------------------------------------------------------------------------
+  private static List<TradeReport> blocks(ReportCalculationResults results) {
+    return ImmutableList.of(
+        TradeReportRunner.INSTANCE.runReport(results, TEMPLATE, 0, 1),
+        TradeReportRunner.INSTANCE.runReport(results, TEMPLATE, 1, 1),
+        TradeReportRunner.INSTANCE.runReport(results, TEMPLATE, 1, 3));
+  }
+
+  private static ReportCalculationResults reportResults() {
+    Column column = Column.of(Measure.of("PresentValue"));
+    List<? extends Result<?>> resultValues = ImmutableList.of(
+        Result.success(CurrencyAmount.of(Currency.GBP, 2d)),
+        Result.success(CurrencyAmount.of(Currency.GBP, 3d)),
+        Result.success(CurrencyAmount.of(Currency.GBP, 4d)));
+    List<Trade> trades = ImmutableList.of(
+        trade("cpty1", 1_000_000),
+        trade("cpty2", 10_000_000),
+        trade("longer-counterparty", 100_000_000));
+    Results results = Results.of(ImmutableList.of(column.toHeader()), resultValues);
+    return ReportCalculationResults.of(LocalDate.now(ZoneOffset.UTC), trades, ImmutableList.of(column), results);
+  }
+
+  private static Trade trade(String counterparty, double notional) {
+    TradeInfo tradeInfo = TradeInfo.builder()
+        .counterparty(StandardId.of("cpty", counterparty))
+        .build();
+    Fra fra = Fra.builder()
+        .buySell(BUY)
+        .notional(notional)
+        .startDate(date(2015, 8, 5))
+        .endDate(date(2015, 11, 5))
+        .paymentDate(AdjustableDate.of(date(2015, 8, 7)))
+        .fixedRate(0.25d)
+        .index(GBP_LIBOR_3M)
+        .build();
+    return FraTrade.builder()
+        .info(tradeInfo)
+        .product(fra)
+        .build();
+  }
+
   private TradeReport report(ArrayTable<Integer, Integer, Result<?>> table) {
     return TradeReport.builder()
         .columns(